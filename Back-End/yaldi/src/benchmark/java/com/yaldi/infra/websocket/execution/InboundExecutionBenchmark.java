@@ -0,0 +1,204 @@
+package com.yaldi.infra.websocket.execution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * STOMP 인바운드 실행 방식 부하 측정 (단위 테스트 밖에서 수동 실행)
+ *
+ * 비교 대상
+ * - platform: 기존 clientInboundChannel 기본 풀 (코어 수 * 2 스레드, 순서 보장 없음)
+ * - keyed: WebSocketConfig의 가상 스레드 모드 (메시지마다 가상 스레드 + 프로젝트별 직렬 실행)
+ *
+ * 시나리오
+ * - spread: 여러 프로젝트에 고르게 분산된 트래픽
+ * - hot: 한 프로젝트에 트래픽이 몰리고 나머지 프로젝트는 가벼운 상황 (프로젝트 키 직렬화의 최악 조건)
+ *
+ * 실행: ./gradlew inboundBenchmark -PbenchmarkArgs="blockingMs rounds platformThreads"
+ * (platformThreads 기본값은 이 머신의 코어 수 * 2, 운영 서버 코어 수를 흉내 낼 때 지정)
+ * 결과 기록: docs/WEBSOCKET_EXECUTION_BENCHMARK.md
+ */
+public final class InboundExecutionBenchmark {
+
+    private static final int SPREAD_PROJECTS = 200;
+    private static final int SPREAD_MESSAGES_PER_PROJECT = 10;
+    private static final int HOT_MESSAGES = 400;
+    private static final int BACKGROUND_PROJECTS = 50;
+    private static final int BACKGROUND_MESSAGES_PER_PROJECT = 8;
+    private static final long HOT_PROJECT = -1L;
+
+    private InboundExecutionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long blockingMs = args.length > 0 ? Long.parseLong(args[0]) : 5;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int platformThreads = args.length > 2
+                ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors() * 2;
+
+        System.out.printf("java=%s cores=%d platformThreads=%d blocking=%dms rounds=%d%n",
+                System.getProperty("java.version"), Runtime.getRuntime().availableProcessors(), platformThreads,
+                blockingMs, rounds);
+
+        // JIT 예열 (결과 미사용)
+        runMode("platform", () -> Executors.newFixedThreadPool(platformThreads), false, blockingMs, 1, true);
+        runMode("keyed", Executors::newVirtualThreadPerTaskExecutor, true, blockingMs, 1, true);
+
+        runMode("platform", () -> Executors.newFixedThreadPool(platformThreads), false, blockingMs, rounds, false);
+        runMode("keyed", Executors::newVirtualThreadPerTaskExecutor, true, blockingMs, rounds, false);
+    }
+
+    private static void runMode(String mode, Supplier<ExecutorService> delegateFactory, boolean keyed,
+                                long blockingMs, int rounds, boolean warmup) throws InterruptedException {
+        Result[] spread = new Result[rounds];
+        Result[] hot = new Result[rounds];
+        for (int round = 0; round < rounds; round++) {
+            spread[round] = runOnce(delegateFactory, keyed, blockingMs, spreadLoad());
+            hot[round] = runOnce(delegateFactory, keyed, blockingMs, hotLoad());
+        }
+        if (warmup) {
+            return;
+        }
+        Result spreadMedian = median(spread);
+        Result hotMedian = median(hot);
+        System.out.printf(Locale.ROOT, "%-8s spread: total=%dms p50=%.1fms p99=%.1fms%n",
+                mode, spreadMedian.totalMs, spreadMedian.allP50, spreadMedian.allP99);
+        System.out.printf(Locale.ROOT,
+                "%-8s hot:    total=%dms hotDone=%dms hotP99=%.1fms backgroundDone=%dms backgroundP99=%.1fms%n",
+                mode, hotMedian.totalMs, hotMedian.hotDoneMs, hotMedian.hotP99,
+                hotMedian.backgroundDoneMs, hotMedian.backgroundP99);
+    }
+
+    /**
+     * 프로젝트를 번갈아 가며 도착하는 트래픽 (실제 인바운드처럼 섞여서 도착)
+     */
+    private static List<Long> spreadLoad() {
+        List<Long> arrivals = new ArrayList<>();
+        for (int seq = 0; seq < SPREAD_MESSAGES_PER_PROJECT; seq++) {
+            for (long project = 0; project < SPREAD_PROJECTS; project++) {
+                arrivals.add(project);
+            }
+        }
+        return arrivals;
+    }
+
+    /**
+     * 핫 프로젝트 메시지 사이사이에 다른 프로젝트 메시지가 끼어 도착
+     */
+    private static List<Long> hotLoad() {
+        List<Long> arrivals = new ArrayList<>();
+        int background = BACKGROUND_PROJECTS * BACKGROUND_MESSAGES_PER_PROJECT;
+        int interval = Math.max(1, HOT_MESSAGES / background);
+        long nextBackground = 0;
+        for (int i = 0; i < HOT_MESSAGES; i++) {
+            arrivals.add(HOT_PROJECT);
+            if (i % interval == 0 && nextBackground < background) {
+                arrivals.add(nextBackground++ % BACKGROUND_PROJECTS);
+            }
+        }
+        while (nextBackground < background) {
+            arrivals.add(nextBackground++ % BACKGROUND_PROJECTS);
+        }
+        return arrivals;
+    }
+
+    private static Result runOnce(Supplier<ExecutorService> delegateFactory, boolean keyed, long blockingMs,
+                                  List<Long> arrivals) throws InterruptedException {
+        ExecutorService delegate = delegateFactory.get();
+        try {
+            Executor executor = keyed
+                    ? new KeyedSerialExecutor(delegate, task -> ((ProjectTask) task).projectKey())
+                    : delegate;
+            int size = arrivals.size();
+            long[] latencyNanos = new long[size];
+            long[] completedAt = new long[size];
+            CountDownLatch done = new CountDownLatch(size);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < size; i++) {
+                int index = i;
+                long submittedAt = System.nanoTime();
+                executor.execute(new ProjectTask(arrivals.get(i), () -> {
+                    sleep(blockingMs);
+                    long now = System.nanoTime();
+                    latencyNanos[index] = now - submittedAt;
+                    completedAt[index] = now - start;
+                    done.countDown();
+                }));
+            }
+            if (!done.await(5, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("benchmark did not finish");
+            }
+            long totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return Result.of(arrivals, latencyNanos, completedAt, totalMs);
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    private static Result median(Result[] results) {
+        Result[] sorted = results.clone();
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.totalMs, b.totalMs));
+        return sorted[sorted.length / 2];
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record ProjectTask(long projectKey, Runnable body) implements Runnable {
+
+        @Override
+        public void run() {
+            body.run();
+        }
+    }
+
+    private record Result(long totalMs, double allP50, double allP99,
+                          long hotDoneMs, double hotP99, long backgroundDoneMs, double backgroundP99) {
+
+        static Result of(List<Long> arrivals, long[] latencyNanos, long[] completedAt, long totalMs) {
+            List<Long> all = new ArrayList<>();
+            List<Long> hot = new ArrayList<>();
+            List<Long> background = new ArrayList<>();
+            long hotDone = 0;
+            long backgroundDone = 0;
+            for (int i = 0; i < latencyNanos.length; i++) {
+                all.add(latencyNanos[i]);
+                if (arrivals.get(i) == HOT_PROJECT) {
+                    hot.add(latencyNanos[i]);
+                    hotDone = Math.max(hotDone, completedAt[i]);
+                } else {
+                    background.add(latencyNanos[i]);
+                    backgroundDone = Math.max(backgroundDone, completedAt[i]);
+                }
+            }
+            return new Result(totalMs, percentileMs(all, 0.50), percentileMs(all, 0.99),
+                    TimeUnit.NANOSECONDS.toMillis(hotDone), percentileMs(hot, 0.99),
+                    TimeUnit.NANOSECONDS.toMillis(backgroundDone), percentileMs(background, 0.99));
+        }
+
+        private static double percentileMs(List<Long> nanos, double percentile) {
+            if (nanos.isEmpty()) {
+                return 0;
+            }
+            List<Long> sorted = new ArrayList<>(nanos);
+            sorted.sort(Long::compare);
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
@@ -15,10 +15,10 @@ import com.yaldi.global.response.ApiResponse;
 import com.yaldi.infra.security.util.SecurityUtil;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import com.yaldi.infra.websocket.service.ProjectBroadcastService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -28,7 +28,7 @@ public class CommentController {
 
     private final CommentService commentService;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ProjectBroadcastService projectBroadcastService;
 
     @PostMapping("/table")
     public ApiResponse<?> createCommentWithTable(
@@ -138,8 +138,7 @@ public class CommentController {
 
     /** 공통 send() */
     private void send(Long projectKey, Integer userKey, WebSocketEvent event) {
-        messagingTemplate.convertAndSend("/topic/project/" + projectKey,
-                ErdBroadcastEvent.builder()
+        projectBroadcastService.broadcast(ErdBroadcastEvent.builder()
                         .projectKey(projectKey)
                         .userKey(userKey)
                         .event(event)
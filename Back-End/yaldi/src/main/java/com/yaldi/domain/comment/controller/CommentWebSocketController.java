@@ -1,17 +1,19 @@
 package com.yaldi.domain.comment.controller;
 
 import com.yaldi.domain.comment.dto.event.*;
-import com.yaldi.domain.user.entity.User;
 import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import com.yaldi.infra.websocket.service.ProjectBroadcastService;
+import com.yaldi.infra.websocket.service.WebSocketSessionUserResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -21,90 +23,98 @@ import java.security.Principal;
 @Slf4j
 public class CommentWebSocketController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ProjectBroadcastService projectBroadcastService;
     private final UserRepository userRepository;
+    private final WebSocketSessionUserResolver sessionUserResolver;
 
     /**
-     * principal 없으면 테스트 모드 → payload.userKey / payload.userName 그대로 사용
+     * principal 있으면 CONNECT 시 캐싱된 세션 사용자 사용 (DB 접근 없음)
+     * principal 없으면 테스트 모드 → payload.userKey 기반으로 조회
      */
-    private User resolveUser(Integer userKey, Principal principal) {
+    private WebSocketSessionUser resolveUser(Integer userKey, Principal principal,
+                                             SimpMessageHeaderAccessor headerAccessor) {
 
         if (principal != null) {
-            String email = principal.getName();
-            return userRepository.findByEmail(email)
-                    .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+            return sessionUserResolver.resolve(headerAccessor, principal);
         }
 
         // 테스트 모드인 경우 userKey 기반으로 조회
         if (userKey != null) {
             return userRepository.findById(userKey)
+                    .map(user -> WebSocketSessionUser.of(String.valueOf(userKey), user))
                     .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
         }
 
         throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
     }
 
-    private void broadcast(Long projectKey, Integer userKey, WebSocketEvent event) {
+    private void broadcast(Long projectKey, Integer userKey, WebSocketEvent event,
+                           SimpMessageHeaderAccessor headerAccessor) {
         ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
                 .projectKey(projectKey)
                 .userKey(userKey)
                 .event(event)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/project/" + projectKey, collabEvent);
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
     }
 
 
     @MessageMapping("/comment/create")
-    public void createComment(@Payload CommentCreatedEvent event, Principal principal) {
+    public void createComment(@Payload CommentCreatedEvent event, Principal principal,
+                              SimpMessageHeaderAccessor headerAccessor) {
 
-        User user = resolveUser(event.getUserKey(), principal);
+        WebSocketSessionUser user = resolveUser(event.getUserKey(), principal, headerAccessor);
 
         // 실제 User 정보 덮어쓰기
         event.setUserKey(user.getUserKey());
-        event.setUserName(user.getNickname());
+        event.setUserName(user.getUserName());
 
         log.info("댓글 생성 WebSocket 브로드캐스트: {}", event);
 
-        broadcast(event.getProjectKey(), user.getUserKey(), event);
+        broadcast(event.getProjectKey(), user.getUserKey(), event, headerAccessor);
     }
 
 
     @MessageMapping("/comment/delete")
-    public void deleteComment(@Payload CommentDeletedEvent event, Principal principal) {
+    public void deleteComment(@Payload CommentDeletedEvent event, Principal principal,
+                              SimpMessageHeaderAccessor headerAccessor) {
 
         log.info("댓글 삭제 WebSocket 브로드캐스트: {}", event);
 
         // principal이 없을 수 있으므로 userKey는 null
-        broadcast(event.getProjectKey(), null, event);
+        broadcast(event.getProjectKey(), null, event, headerAccessor);
     }
 
     @MessageMapping("/comment/resolve")
-    public void resolveComment(@Payload CommentResolvedEvent event, Principal principal) {
+    public void resolveComment(@Payload CommentResolvedEvent event, Principal principal,
+                               SimpMessageHeaderAccessor headerAccessor) {
 
         log.info("댓글 해결 변경 WebSocket 브로드캐스트: {}", event);
 
-        broadcast(event.getProjectKey(), null, event);
+        broadcast(event.getProjectKey(), null, event, headerAccessor);
     }
 
     @MessageMapping("/reply/create")
-    public void createReply(@Payload ReplyCreatedEvent event, Principal principal) {
+    public void createReply(@Payload ReplyCreatedEvent event, Principal principal,
+                            SimpMessageHeaderAccessor headerAccessor) {
 
-        User user = resolveUser(event.getUserKey(), principal);
+        WebSocketSessionUser user = resolveUser(event.getUserKey(), principal, headerAccessor);
 
         event.setUserKey(user.getUserKey());
-        event.setUserName(user.getNickname());
+        event.setUserName(user.getUserName());
 
         log.info("대댓글 생성 WebSocket 브로드캐스트: {}", event);
 
-        broadcast(event.getProjectKey(), user.getUserKey(), event);
+        broadcast(event.getProjectKey(), user.getUserKey(), event, headerAccessor);
     }
 
     @MessageMapping("/reply/delete")
-    public void deleteReply(@Payload ReplyDeletedEvent event, Principal principal) {
+    public void deleteReply(@Payload ReplyDeletedEvent event, Principal principal,
+                            SimpMessageHeaderAccessor headerAccessor) {
 
         log.info("대댓글 삭제 WebSocket 브로드캐스트: {}", event);
 
-        broadcast(event.getProjectKey(), null, event);
+        broadcast(event.getProjectKey(), null, event, headerAccessor);
     }
 }
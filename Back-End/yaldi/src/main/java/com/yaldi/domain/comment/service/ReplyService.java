@@ -14,11 +14,11 @@ import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.service.ProjectBroadcastService;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,7 +31,7 @@ public class ReplyService {
     private final CommentRepository commentRepository;
     private final UserTeamRelationRepository userTeamRelationRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ProjectBroadcastService projectBroadcastService;
 
     /**
      * 댓글에 대한 대댓글 생성
@@ -120,7 +120,7 @@ public class ReplyService {
                 .event(event)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/project/" + parentComment.getProjectKey(), broadcastEvent);
+        projectBroadcastService.broadcast(broadcastEvent);
     }
 
     private void publishReplyDeletedEvent(Comment parentComment, Reply reply) {
@@ -136,6 +136,6 @@ public class ReplyService {
                 .event(event)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/project/" + parentComment.getProjectKey(), broadcastEvent);
+        projectBroadcastService.broadcast(broadcastEvent);
     }
 }
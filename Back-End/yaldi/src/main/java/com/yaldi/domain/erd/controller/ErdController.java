@@ -36,13 +36,13 @@ import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.infra.security.util.SecurityUtil;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import com.yaldi.infra.websocket.service.ProjectBroadcastService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -69,7 +69,7 @@ public class ErdController {
     private final ErdRelationService erdRelationService;
     private final ErdExportService erdExportService;
     private final ProjectAccessValidator projectAccessValidator;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ProjectBroadcastService projectBroadcastService;
 
     /**
      * 프로젝트의 전체 ERD 조회
@@ -155,18 +155,21 @@ public class ErdController {
             broadcast(TableLnameEvent.builder()
                     .tableKey(tableKey)
                     .logicalName(table.getLogicalName())
+                    .revision(table.getRevision())
                     .build());
         }
         if (request.getPhysicalName() != null) {
             broadcast(TablePnameEvent.builder()
                     .tableKey(tableKey)
                     .physicalName(table.getPhysicalName())
+                    .revision(table.getRevision())
                     .build());
         }
         if (request.getColorHex() != null) {
             broadcast(TableColorEvent.builder()
                     .tableKey(tableKey)
                     .colorHex(table.getColorHex())
+                    .revision(table.getRevision())
                     .build());
         }
 
@@ -342,7 +345,7 @@ public class ErdController {
                 .event(event)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/project/" + projectKey, broadcastEvent);
+        projectBroadcastService.broadcast(broadcastEvent);
     }
 
     /**
@@ -1,25 +1,40 @@
 package com.yaldi.domain.erd.controller;
 
+import com.yaldi.domain.erd.dto.redis.ReleasedColumnLock;
+import com.yaldi.domain.erd.dto.websocket.event.ColumnLockEvent;
+import com.yaldi.domain.erd.dto.websocket.event.ColumnOrderBatchEvent;
 import com.yaldi.domain.erd.dto.websocket.event.ColumnOrderEvent;
+import com.yaldi.domain.erd.dto.websocket.event.ColumnUnlockEvent;
 import com.yaldi.domain.erd.dto.websocket.event.CursorPosEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableLockBatchEvent;
 import com.yaldi.domain.erd.dto.websocket.event.TableLockEvent;
 import com.yaldi.domain.erd.dto.websocket.event.TableMoveEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableUnlockBatchEvent;
 import com.yaldi.domain.erd.dto.websocket.event.TableUnlockEvent;
 import com.yaldi.domain.erd.service.ErdColumnService;
 import com.yaldi.domain.erd.service.ErdLockService;
+import com.yaldi.domain.erd.service.ErdOwnershipIndexService;
 import com.yaldi.domain.erd.service.ErdTableService;
-import com.yaldi.domain.user.entity.User;
-import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.ApiResponse;
 import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import com.yaldi.infra.websocket.room.ProjectRoomRegistry;
+import com.yaldi.infra.websocket.service.ProjectBroadcastService;
+import com.yaldi.infra.websocket.service.VolatileTickBroadcastService;
+import com.yaldi.infra.websocket.service.WebSocketSessionUserResolver;
+import com.yaldi.infra.websocket.wire.BinaryWireFormat;
 import java.security.Principal;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
@@ -34,40 +49,52 @@ public class ErdWebSocketController {
     private final ErdTableService erdTableService;
     private final ErdColumnService erdColumnService;
     private final ErdLockService erdLockService;
-    private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ErdOwnershipIndexService erdOwnershipIndexService;
+    private final WebSocketSessionUserResolver sessionUserResolver;
+    private final VolatileTickBroadcastService volatileTickBroadcastService;
+    private final ProjectBroadcastService projectBroadcastService;
+    private final ProjectRoomRegistry projectRoomRegistry;
 
 
     /**
-     * ERD 테이블 이동 이벤트 처리 (실시간 브로드캐스트용) 클라이언트 → /pub/erd/table/move DB 저장 없이 즉시 브로드캐스트만 수행 (드래그 중) Kafka 없이 WebSocket 직접
-     * 브로드캐스트 (휘발성 데이터)
+     * ERD 테이블 이동 이벤트 처리 (실시간 브로드캐스트용) 클라이언트 → /pub/erd/table/move DB 저장 없이 브로드캐스트만 수행 (드래그 중) Kafka 없이 틱 단위로
+     * 묶어서 WebSocket 브로드캐스트 (휘발성 데이터)
      */
     @MessageMapping("/erd/table/move")
-    public void handleTableMove(@Payload TableMoveEvent event, Principal principal) {
-        // 사용자 정보 조회
-        if (principal == null) {
-            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+    public void handleTableMove(@Payload TableMoveEvent event, Principal principal,
+                                SimpMessageHeaderAccessor headerAccessor) {
+        // 사용자 정보 조회 (세션 캐시)
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+
+        if (event.getTableKey() == null || event.getXPosition() == null || event.getYPosition() == null) {
+            return;
         }
 
-        String userEmail = principal.getName();
-        User user = userRepository.findByEmail(userEmail).orElse(null);
-        Integer userKey = user != null ? user.getUserKey() : null;
+        Long projectKey = getProjectKeyFromTable(event.getTableKey());
+        long tableKey = event.getTableKey();
+        double x = event.getXPosition().doubleValue();
+        double y = event.getYPosition().doubleValue();
 
-        TableMoveEvent moveEvent = TableMoveEvent.builder()
-                .tableKey(event.getTableKey())
-                .xPosition(event.getXPosition())
-                .yPosition(event.getYPosition())
-                .build();
+        // Kafka 없이 다음 틱에 테이블별 최신 위치만 브로드캐스트
+        volatileTickBroadcastService.offerTableMove(projectKey, user, tableKey, x, y);
+    }
 
-        ErdBroadcastEvent broadcastEvent = ErdBroadcastEvent.builder()
-                .projectKey(getProjectKeyFromTable(event.getTableKey()))
-                .userKey(userKey)
-                .event(moveEvent)
-                .build();
+    /**
+     * ERD 테이블 이동 이벤트 처리 (바이너리 포맷) 클라이언트 → /pub/erd/table/move/bin
+     * CONNECT 시 바이너리 포맷을 협상한 세션만 허용, BigDecimal 없이 float 좌표로 처리
+     */
+    @MessageMapping("/erd/table/move/bin")
+    public void handleTableMoveBinary(@Payload byte[] frame, Principal principal,
+                                      SimpMessageHeaderAccessor headerAccessor) {
+        if (!BinaryWireFormat.isBinarySession(headerAccessor)) {
+            log.debug("Binary frame from non-binary session ignored: session={}", headerAccessor.getSessionId());
+            return;
+        }
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        BinaryWireFormat.InboundFrame move = BinaryWireFormat.decodeInbound(frame, BinaryWireFormat.TABLE_MOVE);
 
-        // Kafka 없이 WebSocket으로 즉시 브로드캐스트
-        Long projectKey = getProjectKeyFromTable(event.getTableKey());
-        messagingTemplate.convertAndSend("/topic/project/" + projectKey, broadcastEvent);
+        Long projectKey = getProjectKeyFromTable(move.key());
+        volatileTickBroadcastService.offerTableMove(projectKey, user, move.key(), move.x(), move.y());
     }
 
     /**
@@ -75,16 +102,14 @@ public class ErdWebSocketController {
      */
     @MessageMapping("/erd/table/move/end")
     public void handleTableMoveEnd(@Payload TableMoveEvent event, Principal principal) {
-        log.info("Table move end event received - RAW: {}", event);
-        log.info("Table move end event parsed: tableKey={}, x={}, y={}, xType={}, yType={}",
-                event.getTableKey(),
-                event.getXPosition(),
-                event.getYPosition(),
-                event.getXPosition() != null ? event.getXPosition().getClass().getName() : "null",
-                event.getYPosition() != null ? event.getYPosition().getClass().getName() : "null");
+        if (event.getTableKey() == null || event.getXPosition() == null || event.getYPosition() == null) {
+            return;
+        }
 
-        // DB에 최종 위치 저장
-        erdTableService.updatePosition(event.getTableKey(), event.getXPosition(), event.getYPosition());
+        // 방에 최종 위치 기록 → ProjectRoomRegistry가 write-behind로 DB 반영
+        long tableKey = event.getTableKey();
+        projectRoomRegistry.execute(getProjectKeyFromTable(tableKey),
+                room -> room.commitPosition(tableKey, event.getXPosition(), event.getYPosition()));
     }
 
     /**
@@ -99,21 +124,16 @@ public class ErdWebSocketController {
      * 컬럼 순서 변경 이벤트 처리 (B 타입: WebSocket + DB 저장) 클라이언트 → /pub/erd/column/reorder
      */
     @MessageMapping("/erd/column/reorder")
-    public void handleColumnReorder(@Payload ColumnOrderEvent event, Principal principal) {
+    public void handleColumnReorder(@Payload ColumnOrderEvent event, Principal principal,
+                                    SimpMessageHeaderAccessor headerAccessor) {
         log.info("Column reorder event received: columnKey={}, order={}",
                 event.getColumnKey(), event.getColumnOrder());
 
         // 1. DB 업데이트
         erdColumnService.updateColumnOrder(event.getColumnKey(), event.getColumnOrder());
 
-        // 2. 사용자 정보 조회
-        if (principal == null) {
-            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
-        }
-
-        String userEmail = principal.getName();
-        User user = userRepository.findByEmail(userEmail).orElse(null);
-        Integer userKey = user != null ? user.getUserKey() : null;
+        // 2. 사용자 정보 조회 (세션 캐시)
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
 
         // 3. Kafka로 이벤트 전송
         ColumnOrderEvent orderEvent = ColumnOrderEvent.builder()
@@ -123,11 +143,33 @@ public class ErdWebSocketController {
         Long projectKey = erdColumnService.getProjectKeyByColumnKey(event.getColumnKey());
         ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
                 .projectKey(projectKey)
-                .userKey(userKey)
+                .userKey(user.getUserKey())
                 .event(orderEvent)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/project/" + projectKey, collabEvent);
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
+    }
+
+    /**
+     * 테이블 컬럼 순서 일괄 변경 (B 타입: WebSocket + DB 저장) 클라이언트 → /pub/erd/column/reorder-batch
+     * 드래그 한 번에 바뀐 전체 순서를 UPDATE 배치 한 번으로 저장하고 이벤트도 한 번만 브로드캐스트
+     */
+    @MessageMapping("/erd/column/reorder-batch")
+    public void handleColumnReorderBatch(@Payload ColumnOrderBatchEvent event, Principal principal,
+                                         SimpMessageHeaderAccessor headerAccessor) {
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        erdColumnService.reorderColumns(event.getTableKey(), event.getColumnKeys(), user.getUserKey());
+
+        ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
+                .projectKey(getProjectKeyFromTable(event.getTableKey()))
+                .userKey(user.getUserKey())
+                .event(ColumnOrderBatchEvent.builder()
+                        .tableKey(event.getTableKey())
+                        .columnKeys(List.copyOf(event.getColumnKeys()))
+                        .build())
+                .build();
+
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
     }
 
 
@@ -135,38 +177,32 @@ public class ErdWebSocketController {
      * 테이블 편집 시작 (잠금) 이벤트 처리 (C 타입: WebSocket + Redis 저장) 클라이언트 → /pub/erd/table/lock
      */
     @MessageMapping("/erd/table/lock")
-    public void handleTableLock(@Payload TableLockEvent event, Principal principal) {
-        if (principal == null) {
-            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
-        }
-
-        String userEmail = principal.getName();
+    public void handleTableLock(@Payload TableLockEvent event, Principal principal,
+                                SimpMessageHeaderAccessor headerAccessor) {
+        // 사용자 정보 조회 (세션 캐시)
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        String userEmail = user.getUserEmail();
 
         log.info("Table lock event received: tableKey={}, userEmail={}",
                 event.getTableKey(), userEmail);
 
-        // 사용자 정보 조회
-        User user = userRepository.findById(Integer.parseInt(userEmail))
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-
         // Redis에 락 정보 저장 (TTL 30초)
         boolean lockAcquired = erdLockService.lockTable(
                 event.getTableKey(),
                 userEmail,
-                user.getNickname()
+                user.getUserName(),
+                user.getUserColor()
         );
 
         if (!lockAcquired) {
-            log.warn("Failed to acquire lock for table {}: already locked", event.getTableKey());
-            // TODO: 실패 시 클라이언트에게 알림 (선택적)
-            return;
+            throw new GeneralException(ErrorStatus.LOCK_ALREADY_EXIST, event);
         }
 
         // Kafka로 이벤트 전송 (다른 사용자에게 알림)
         TableLockEvent lockEvent = TableLockEvent.builder()
                 .tableKey(event.getTableKey())
                 .userEmail(userEmail)
-                .userName(user.getNickname())
+                .userName(user.getUserName())
                 .build();
 
         Long projectKey = erdTableService.getProjectKeyByTableKey(event.getTableKey());
@@ -176,27 +212,22 @@ public class ErdWebSocketController {
                 .event(lockEvent)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/project/" + projectKey, collabEvent);
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
     }
 
     /**
      * 테이블 편집 종료 (잠금 해제) 이벤트 처리 (C 타입: WebSocket + Redis 저장) 클라이언트 → /pub/erd/table/unlock
      */
     @MessageMapping("/erd/table/unlock")
-    public void handleTableUnlock(@Payload TableUnlockEvent event, Principal principal) {
-        if (principal == null) {
-            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
-        }
-
-        String userEmail = principal.getName();
+    public void handleTableUnlock(@Payload TableUnlockEvent event, Principal principal,
+                                  SimpMessageHeaderAccessor headerAccessor) {
+        // 사용자 정보 조회 (세션 캐시)
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        String userEmail = user.getUserEmail();
 
         log.info("Table unlock event received: tableKey={}, userEmail={}",
                 event.getTableKey(), userEmail);
 
-        // 사용자 정보 조회
-        User user = userRepository.findById(Integer.parseInt(userEmail))
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-
         // Redis 락 삭제
         erdLockService.unlockTable(event.getTableKey(), userEmail);
 
@@ -212,59 +243,198 @@ public class ErdWebSocketController {
                 .event(unlockEvent)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/project/" + projectKey, collabEvent);
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
     }
 
     /**
-     * 커서 위치 공유 이벤트 처리 (D 타입: WebSocket Only) 클라이언트 → /pub/erd/cursor DB/Redis 저장 없이 WebSocket으로 즉시 브로드캐스트 (완전 휘발성)
+     * 다중 선택 테이블 일괄 잠금 (C 타입: WebSocket + Redis 저장) 클라이언트 → /pub/erd/table/lock-batch
+     * 전부 잠그거나 하나도 잠그지 않으며, 성공 시 이벤트 한 번으로 브로드캐스트
      */
-    @MessageMapping("/erd/cursor")
-    public void handleCursorMove(@Payload CursorPosEvent event, Principal principal) {
-        if (principal == null) {
-            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+    @MessageMapping("/erd/table/lock-batch")
+    public void handleTableLockBatch(@Payload TableLockBatchEvent event, Principal principal,
+                                     SimpMessageHeaderAccessor headerAccessor) {
+        if (event.getTableKeys() == null || event.getTableKeys().isEmpty()) {
+            return;
         }
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        String userEmail = user.getUserEmail();
+        List<Long> tableKeys = event.getTableKeys().stream().distinct().sorted().toList();
 
-        String userEmail = principal.getName();
+        if (!erdLockService.lockTables(tableKeys, userEmail, user.getUserName(), user.getUserColor())) {
+            throw new GeneralException(ErrorStatus.LOCK_ALREADY_EXIST, event);
+        }
 
-        // 사용자 정보 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+        Long projectKey = erdTableService.getProjectKeyByTableKey(tableKeys.get(0));
+        ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
+                .projectKey(projectKey)
+                .userKey(user.getUserKey())
+                .event(TableLockBatchEvent.builder()
+                        .tableKeys(tableKeys)
+                        .userEmail(userEmail)
+                        .userName(user.getUserName())
+                        .build())
+                .build();
 
-        // DB/Redis 저장 없이 WebSocket으로 즉시 브로드캐스트 (휘발성)
-        CursorPosEvent cursorEvent = CursorPosEvent.builder()
-                .projectKey(event.getProjectKey())
-                .userEmail(userEmail)
-                .userName(user.getNickname())
-                .userColor(getUserColor(userEmail)) // 사용자별 색상 (해시 기반)
-                .xPosition(event.getXPosition())
-                .yPosition(event.getYPosition())
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
+    }
+
+    /**
+     * 다중 선택 테이블 일괄 잠금 해제 (C 타입: WebSocket + Redis 저장) 클라이언트 → /pub/erd/table/unlock-batch
+     */
+    @MessageMapping("/erd/table/unlock-batch")
+    public void handleTableUnlockBatch(@Payload TableUnlockBatchEvent event, Principal principal,
+                                       SimpMessageHeaderAccessor headerAccessor) {
+        if (event.getTableKeys() == null || event.getTableKeys().isEmpty()) {
+            return;
+        }
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        String userEmail = user.getUserEmail();
+
+        List<Long> released = erdLockService.unlockTables(event.getTableKeys(), userEmail);
+        if (released.isEmpty()) {
+            return;
+        }
+
+        Long projectKey = erdTableService.getProjectKeyByTableKey(released.get(0));
+        ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
+                .projectKey(projectKey)
+                .userKey(user.getUserKey())
+                .event(TableUnlockBatchEvent.builder()
+                        .tableKeys(released)
+                        .userEmail(userEmail)
+                        .build())
                 .build();
 
-        ErdBroadcastEvent broadcastEvent = ErdBroadcastEvent.builder()
-                .projectKey(event.getProjectKey())
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
+    }
+
+    /**
+     * 락 하트비트 (WebSocket) 클라이언트 → /pub/erd/lock/heartbeat
+     * 테이블마다 REST 하트비트를 보내는 대신, 세션 사용자가 보유한 락 전체를 Redis 왕복 1회로 갱신
+     */
+    @MessageMapping("/erd/lock/heartbeat")
+    public void handleLockHeartbeat(Principal principal, SimpMessageHeaderAccessor headerAccessor) {
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        erdLockService.renewLocksOf(user.getUserEmail());
+    }
+
+    /**
+     * 컬럼 편집 시작 (컬럼 단위 잠금, column-mode 전용) 클라이언트 → /pub/erd/column/lock
+     * 이미 자신의 테이블 락에 포함된 컬럼이면 따로 잠그지 않고 알리지도 않는다.
+     * tableKey는 요청에서 받고, DB 조회 없이 소유 인덱스로 컬럼과 테이블이 같은 프로젝트인지만 확인한다.
+     * (다른 테이블로 잘못 잡은 컬럼 락은 수정 검증에서 실제 테이블 기준으로 걸러진다)
+     */
+    @MessageMapping("/erd/column/lock")
+    public void handleColumnLock(@Payload ColumnLockEvent event, Principal principal,
+                                 SimpMessageHeaderAccessor headerAccessor) {
+        if (event.getTableKey() == null || event.getColumnKey() == null) {
+            return;
+        }
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        String userEmail = user.getUserEmail();
+        Long tableKey = event.getTableKey();
+        long projectKey = erdOwnershipIndexService.getProjectKeyByTableKey(tableKey);
+        if (erdOwnershipIndexService.getProjectKeyByColumnKey(event.getColumnKey()) != projectKey) {
+            throw new GeneralException(ErrorStatus.COLUMN_TABLE_MISMATCH, event);
+        }
+
+        if (!erdLockService.lockColumn(tableKey, event.getColumnKey(), userEmail, user.getUserName())) {
+            throw new GeneralException(ErrorStatus.LOCK_ALREADY_EXIST, event);
+        }
+
+        ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
+                .projectKey(projectKey)
                 .userKey(user.getUserKey())
-                .event(cursorEvent)
+                .event(ColumnLockEvent.builder()
+                        .tableKey(tableKey)
+                        .columnKey(event.getColumnKey())
+                        .userEmail(userEmail)
+                        .userName(user.getUserName())
+                        .build())
                 .build();
 
-        // Kafka 없이 WebSocket으로 즉시 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/project/" + event.getProjectKey(), broadcastEvent);
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
+    }
+
+    /**
+     * 컬럼 편집 종료 (컬럼 단위 잠금 해제, column-mode 전용) 클라이언트 → /pub/erd/column/unlock
+     */
+    @MessageMapping("/erd/column/unlock")
+    public void handleColumnUnlock(@Payload ColumnUnlockEvent event, Principal principal,
+                                   SimpMessageHeaderAccessor headerAccessor) {
+        if (event.getTableKey() == null || event.getColumnKey() == null) {
+            return;
+        }
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        String userEmail = user.getUserEmail();
+        Long tableKey = event.getTableKey();
+
+        if (!erdLockService.unlockColumn(tableKey, event.getColumnKey(), userEmail)) {
+            throw new GeneralException(ErrorStatus.FAIL_TO_UNLOCK, event);
+        }
+
+        ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
+                .projectKey(erdOwnershipIndexService.getProjectKeyByTableKey(tableKey))
+                .userKey(user.getUserKey())
+                .event(ColumnUnlockEvent.builder()
+                        .tableKey(tableKey)
+                        .columnKey(event.getColumnKey())
+                        .userEmail(userEmail)
+                        .build())
+                .build();
+
+        projectBroadcastService.broadcast(collabEvent, headerAccessor.getSessionId());
+    }
+
+    /**
+     * 커서 위치 공유 이벤트 처리 (D 타입: WebSocket Only) 클라이언트 → /pub/erd/cursor DB/Redis 저장 없이 틱 단위로 묶어서 브로드캐스트 (완전 휘발성)
+     */
+    @MessageMapping("/erd/cursor")
+    public void handleCursorMove(@Payload CursorPosEvent event, Principal principal,
+                                 SimpMessageHeaderAccessor headerAccessor) {
+        // 사용자 정보 조회 (세션 캐시, DB 접근 없음)
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+
+        if (event.getProjectKey() == null || event.getXPosition() == null || event.getYPosition() == null) {
+            return;
+        }
+
+        // DB/Redis 저장 없음 (휘발성), Kafka 없이 다음 틱에 사용자별 최신 위치만 브로드캐스트
+        volatileTickBroadcastService.offerCursor(event.getProjectKey(), user,
+                event.getXPosition().doubleValue(), event.getYPosition().doubleValue());
+    }
+
+    /**
+     * 커서 위치 공유 이벤트 처리 (바이너리 포맷) 클라이언트 → /pub/erd/cursor/bin
+     * CONNECT 시 바이너리 포맷을 협상한 세션만 허용, BigDecimal 없이 float 좌표로 처리
+     */
+    @MessageMapping("/erd/cursor/bin")
+    public void handleCursorMoveBinary(@Payload byte[] frame, Principal principal,
+                                       SimpMessageHeaderAccessor headerAccessor) {
+        if (!BinaryWireFormat.isBinarySession(headerAccessor)) {
+            log.debug("Binary frame from non-binary session ignored: session={}", headerAccessor.getSessionId());
+            return;
+        }
+        WebSocketSessionUser user = sessionUserResolver.resolve(headerAccessor, principal);
+        BinaryWireFormat.InboundFrame cursor = BinaryWireFormat.decodeInbound(frame, BinaryWireFormat.CURSOR);
+
+        volatileTickBroadcastService.offerCursor(cursor.key(), user, cursor.x(), cursor.y());
     }
 
     /**
-     * 사용자 이메일 기반으로 고유 색상 생성 (간단한 해시 기반)
+     * 메시지 처리 실패 알림: 요청한 세션에만 /user/queue/errors로 전송
+     * (락 획득/해제 실패 등, data에는 실패한 요청 이벤트를 담는다)
      */
-    private String getUserColor(String userEmail) {
-        // 이메일 해시값을 기반으로 색상 생성
-        int hash = userEmail.hashCode();
-        String[] colors = {
-                "#ff6b6b", "#4ecdc4", "#45b7d1", "#f7b731", "#5f27cd",
-                "#00d2d3", "#1dd1a1", "#feca57", "#ee5a6f", "#c44569"
-        };
-        return colors[Math.abs(hash) % colors.length];
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ApiResponse<Object> handleException(GeneralException e) {
+        log.warn("WebSocket request failed: {} ({})", e.getErrorStatus().getCode(), e.getData());
+        return ApiResponse.onFailure(e.getErrorStatus(), e.getData());
     }
 
     /**
      * WebSocket 연결 해제 이벤트 리스너 Lock 자동 해제 (퇴장 이벤트는 Interceptor에서 처리)
+     * 풀린 컬럼 락은 COLUMN_UNLOCK으로 알린다 (다른 사용자 화면의 컬럼 잠금 표시 해제)
      */
     @EventListener
     public void handleSessionDisconnect(SessionDisconnectEvent event) {
@@ -274,6 +444,16 @@ public class ErdWebSocketController {
             log.info("Releasing locks for disconnected user: {}", userEmail);
 
             // 해당 사용자가 보유한 모든 락 해제
+            for (ReleasedColumnLock lock : erdLockService.releaseColumnLocksByUser(userEmail)) {
+                projectBroadcastService.broadcast(ErdBroadcastEvent.builder()
+                        .projectKey(lock.projectKey())
+                        .event(ColumnUnlockEvent.builder()
+                                .tableKey(lock.tableKey())
+                                .columnKey(lock.columnKey())
+                                .userEmail(lock.owner())
+                                .build())
+                        .build());
+            }
             erdLockService.releaseAllLocksByUser(userEmail);
         }
     }
@@ -0,0 +1,9 @@
+package com.yaldi.domain.erd.dto.redis;
+
+/**
+ * 컬럼 락 항목 (erd:lock:table:{tableKey}:columns, erd:lock:project:{projectKey}:columns Hash 값)
+ * 필드별 TTL이 없으므로 만료 시각(Redis 서버 시각 기준)을 함께 저장하고,
+ * 만료 판단은 같은 시계를 쓰도록 Lua 스크립트 안에서 한다 (ErdLockScripts 참고).
+ */
+public record ColumnLockEntry(Long tableKey, Long columnKey, String owner, String userName, long expiresAt) {
+}
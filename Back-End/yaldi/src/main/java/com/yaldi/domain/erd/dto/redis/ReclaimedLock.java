@@ -0,0 +1,7 @@
+package com.yaldi.domain.erd.dto.redis;
+
+/**
+ * 기한 회수로 풀린 락 (만료 또는 하트비트 끊김)
+ */
+public record ReclaimedLock(long tableKey, long projectKey, String owner) {
+}
@@ -0,0 +1,7 @@
+package com.yaldi.domain.erd.dto.redis;
+
+/**
+ * 만료 회수 또는 연결 해제로 풀린 컬럼 락 (COLUMN_UNLOCK 브로드캐스트 대상)
+ */
+public record ReleasedColumnLock(long tableKey, long columnKey, long projectKey, String owner) {
+}
@@ -0,0 +1,8 @@
+package com.yaldi.domain.erd.dto.redis;
+
+/**
+ * 프로젝트 락 인덱스 항목 (erd:lock:project:{projectKey} Hash 값)
+ * 참여 시 락 스냅샷을 한 번의 HGETALL로 만들 수 있도록 표시 정보까지 함께 저장
+ */
+public record TableLockEntry(String owner, String userName, String userColor, long acquiredAt) {
+}
@@ -32,4 +32,7 @@ public class ErdRelationUpdateRequest {
     private ReferentialActionType onDeleteAction;
 
     private ReferentialActionType onUpdateAction;
+
+    /** 클라이언트가 알고 있는 revision (있으면 조건부 수정, 다르면 409) */
+    private Long revision;
 }
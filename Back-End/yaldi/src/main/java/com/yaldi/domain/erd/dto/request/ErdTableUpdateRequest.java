@@ -37,4 +37,7 @@ public class ErdTableUpdateRequest {
 
     @Pattern(regexp = "^[0-9A-Fa-f]{6}$", message = "잘못된 색상 형식입니다")
     private String colorHex;
+
+    /** 클라이언트가 알고 있는 revision (있으면 조건부 수정, 다르면 409) */
+    private Long revision;
 }
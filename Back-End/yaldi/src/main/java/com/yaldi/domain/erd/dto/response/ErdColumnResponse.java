@@ -31,6 +31,7 @@ public class ErdColumnResponse {
     private String defaultValue;
     private String comment;
     private Integer columnOrder;
+    private Long revision;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 
@@ -50,6 +51,7 @@ public class ErdColumnResponse {
                 .defaultValue(column.getDefaultValue())
                 .comment(column.getComment())
                 .columnOrder(column.getColumnOrder())
+                .revision(column.getRevision())
                 .createdAt(column.getCreatedAt())
                 .updatedAt(column.getUpdatedAt())
                 .build();
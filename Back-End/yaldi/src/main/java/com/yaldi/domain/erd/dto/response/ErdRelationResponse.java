@@ -29,6 +29,7 @@ public class ErdRelationResponse {
     private String constraintName;
     private ReferentialActionType onDeleteAction;
     private ReferentialActionType onUpdateAction;
+    private Long revision;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 
@@ -44,6 +45,7 @@ public class ErdRelationResponse {
                 .constraintName(relation.getConstraintName())
                 .onDeleteAction(relation.getOnDeleteAction())
                 .onUpdateAction(relation.getOnUpdateAction())
+                .revision(relation.getRevision())
                 .createdAt(relation.getCreatedAt())
                 .updatedAt(relation.getUpdatedAt())
                 .build();
@@ -17,6 +17,8 @@ import java.util.List;
 public class ErdResponse {
 
     private Long projectKey;
+    /** 프로젝트 ERD revision (ERD 쓰기마다 증가) */
+    private Long revision;
     private List<ErdTableResponse> tables;
     private List<ErdColumnResponse> columns;
     private List<ErdRelationResponse> relations;
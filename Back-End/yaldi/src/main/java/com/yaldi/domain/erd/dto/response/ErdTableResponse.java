@@ -25,6 +25,7 @@ public class ErdTableResponse {
     private BigDecimal xPosition;
     private BigDecimal yPosition;
     private String colorHex;
+    private Long revision;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 
@@ -37,6 +38,7 @@ public class ErdTableResponse {
                 .xPosition(table.getXPosition())
                 .yPosition(table.getYPosition())
                 .colorHex(table.getColorHex())
+                .revision(table.getRevision())
                 .createdAt(table.getCreatedAt())
                 .updatedAt(table.getUpdatedAt())
                 .build();
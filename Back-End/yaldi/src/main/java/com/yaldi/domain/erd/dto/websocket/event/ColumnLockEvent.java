@@ -0,0 +1,34 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Column lock event (WebSocket + Redis, column-mode 전용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("COLUMN_LOCK")
+public class ColumnLockEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "COLUMN_LOCK";
+
+    @JsonProperty("tableKey")
+    private Long tableKey;
+
+    @JsonProperty("columnKey")
+    private Long columnKey;
+
+    @JsonProperty("userEmail")
+    private String userEmail;
+
+    @JsonProperty("userName")
+    private String userName;
+}
@@ -0,0 +1,30 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Table column reorder event (WebSocket + DB)
+ * columnKeys의 인덱스가 곧 columnOrder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("COLUMN_ORDER_BATCH")
+public class ColumnOrderBatchEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "COLUMN_ORDER_BATCH";
+
+    @JsonProperty("tableKey")
+    private Long tableKey;
+
+    @JsonProperty("columnKeys")
+    private List<Long> columnKeys;
+}
@@ -60,6 +60,9 @@ public class ColumnUpdateEvent implements WebSocketEvent {
     @JsonProperty("columnOrder")
     private Integer columnOrder;
 
+    @JsonProperty("revision")
+    private Long revision;
+
     public static ColumnUpdateEvent from(ErdColumnResponse response) {
         return ColumnUpdateEvent.builder()
                 .columnKey(response.getColumnKey())
@@ -75,6 +78,7 @@ public class ColumnUpdateEvent implements WebSocketEvent {
                 .defaultValue(response.getDefaultValue())
                 .comment(response.getComment())
                 .columnOrder(response.getColumnOrder())
+                .revision(response.getRevision())
                 .build();
     }
 }
@@ -0,0 +1,73 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 현재 테이블/컬럼 락 스냅샷 (서버 → 구독한 세션에만 전송)
+ * presence 토픽 구독 직후 접속자 스냅샷과 함께 1회 전송,
+ * 이후 변화는 TABLE_LOCK / TABLE_UNLOCK, COLUMN_LOCK / COLUMN_UNLOCK으로 반영
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("LOCK_SNAPSHOT")
+public class LockSnapshotEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "LOCK_SNAPSHOT";
+
+    @JsonProperty("projectKey")
+    private Long projectKey;
+
+    @JsonProperty("locks")
+    private List<Lock> locks;
+
+    @JsonProperty("columnLocks")
+    private List<ColumnLock> columnLocks;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Lock {
+        @JsonProperty("tableKey")
+        private Long tableKey;
+
+        @JsonProperty("userEmail")
+        private String userEmail;
+
+        @JsonProperty("userName")
+        private String userName;
+
+        @JsonProperty("userColor")
+        private String userColor;
+
+        @JsonProperty("acquiredAt")
+        private Long acquiredAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ColumnLock {
+        @JsonProperty("tableKey")
+        private Long tableKey;
+
+        @JsonProperty("columnKey")
+        private Long columnKey;
+
+        @JsonProperty("userEmail")
+        private String userEmail;
+
+        @JsonProperty("userName")
+        private String userName;
+    }
+}
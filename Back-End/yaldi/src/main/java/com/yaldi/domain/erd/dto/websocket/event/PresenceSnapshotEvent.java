@@ -0,0 +1,49 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 현재 접속자 스냅샷 (서버 → 구독한 세션에만 전송)
+ * presence 토픽 구독 직후 1회 전송, 이후 변화는 MEMBER_JOIN / MEMBER_LEAVE로 반영
+ * 같은 사용자가 여러 탭으로 접속해도 한 번만 포함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("PRESENCE_SNAPSHOT")
+public class PresenceSnapshotEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "PRESENCE_SNAPSHOT";
+
+    @JsonProperty("projectKey")
+    private Long projectKey;
+
+    @JsonProperty("members")
+    private List<Member> members;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Member {
+        @JsonProperty("userKey")
+        private Integer userKey;
+
+        @JsonProperty("userEmail")
+        private String userEmail;
+
+        @JsonProperty("userName")
+        private String userName;
+
+        @JsonProperty("userColor")
+        private String userColor;
+    }
+}
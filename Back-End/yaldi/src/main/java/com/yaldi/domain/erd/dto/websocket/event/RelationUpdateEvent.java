@@ -44,6 +44,9 @@ public class RelationUpdateEvent implements WebSocketEvent {
     @JsonProperty("onUpdateAction")
     private ReferentialActionType onUpdateAction;
 
+    @JsonProperty("revision")
+    private Long revision;
+
     public static RelationUpdateEvent from(ErdRelationResponse response) {
         return RelationUpdateEvent.builder()
                 .relationKey(response.getRelationKey())
@@ -52,6 +55,7 @@ public class RelationUpdateEvent implements WebSocketEvent {
                 .constraintName(response.getConstraintName())
                 .onDeleteAction(response.getOnDeleteAction())
                 .onUpdateAction(response.getOnUpdateAction())
+                .revision(response.getRevision())
                 .build();
     }
 }
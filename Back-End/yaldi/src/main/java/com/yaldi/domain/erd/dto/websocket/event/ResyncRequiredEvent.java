@@ -0,0 +1,30 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재동기화 요청 이벤트 (서버 → 해당 세션에만 전송)
+ * 세션 아웃바운드 대기열이 한도를 넘어 이후 구조 이벤트를 보내지 못함
+ * → 클라이언트는 /pub/erd/replay를 lastSequence 헤더와 함께 다시 구독해 누락분을 받는다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("RESYNC_REQUIRED")
+public class ResyncRequiredEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "RESYNC_REQUIRED";
+
+    @JsonProperty("projectKey")
+    private Long projectKey;
+
+    @JsonProperty("reason")
+    private String reason;
+}
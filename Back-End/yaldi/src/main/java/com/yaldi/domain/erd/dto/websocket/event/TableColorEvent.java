@@ -25,4 +25,7 @@ public class TableColorEvent implements WebSocketEvent {
 
     @JsonProperty("colorHex")
     private String colorHex;
+
+    @JsonProperty("revision")
+    private Long revision;
 }
@@ -25,4 +25,7 @@ public class TableLnameEvent implements WebSocketEvent {
 
     @JsonProperty("logicalName")
     private String logicalName;
+
+    @JsonProperty("revision")
+    private Long revision;
 }
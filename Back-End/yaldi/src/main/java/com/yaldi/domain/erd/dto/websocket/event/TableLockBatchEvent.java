@@ -0,0 +1,33 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Multi-table lock event (WebSocket + Redis)
+ * 다중 선택한 테이블 전체를 한 번에 잠금 (전부 성공했을 때만 브로드캐스트)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("TABLE_LOCK_BATCH")
+public class TableLockBatchEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "TABLE_LOCK_BATCH";
+
+    @JsonProperty("tableKeys")
+    private List<Long> tableKeys;
+
+    @JsonProperty("userEmail")
+    private String userEmail;
+
+    @JsonProperty("userName")
+    private String userName;
+}
@@ -25,4 +25,7 @@ public class TablePnameEvent implements WebSocketEvent {
 
     @JsonProperty("physicalName")
     private String physicalName;
+
+    @JsonProperty("revision")
+    private Long revision;
 }
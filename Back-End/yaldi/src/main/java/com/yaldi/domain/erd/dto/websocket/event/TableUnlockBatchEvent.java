@@ -0,0 +1,30 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Multi-table unlock event (WebSocket + Redis)
+ * 브로드캐스트 시 tableKeys는 실제로 해제된 테이블만 포함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("TABLE_UNLOCK_BATCH")
+public class TableUnlockBatchEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "TABLE_UNLOCK_BATCH";
+
+    @JsonProperty("tableKeys")
+    private List<Long> tableKeys;
+
+    @JsonProperty("userEmail")
+    private String userEmail;
+}
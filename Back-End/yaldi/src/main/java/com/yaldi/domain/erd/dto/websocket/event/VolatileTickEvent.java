@@ -0,0 +1,28 @@
+package com.yaldi.domain.erd.dto.websocket.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Volatile tick event (WebSocket Only)
+ * 한 틱 동안 모인 커서/테이블 이동의 최신 상태를 하나의 프레임으로 묶어 전송
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonTypeName("VOLATILE_TICK")
+public class VolatileTickEvent implements WebSocketEvent {
+    @JsonProperty("type")
+    private final String type = "VOLATILE_TICK";
+
+    @JsonProperty("events")
+    private List<ErdBroadcastEvent> events;
+}
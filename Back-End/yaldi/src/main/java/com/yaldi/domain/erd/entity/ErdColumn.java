@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.SQLRestriction;
 
 /**
@@ -66,10 +67,18 @@ public class ErdColumn extends BaseSoftDeleteEntity {
     @Column(name = "comment", length = 500)
     private String comment;
 
+    // 순서는 JDBC 배치로도 저장되므로 revision 증가 대상에서 제외
     @Column(name = "column_order", nullable = false)
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private Integer columnOrder = 0;
 
+    /** 낙관적 동시성 제어용 revision (수정 요청의 revision과 다르면 충돌) */
+    @Version
+    @Column(name = "revision", nullable = false)
+    @Builder.Default
+    private Long revision = 0L;
+
     // 비즈니스 로직
     public void updateLogicalName(String logicalName) {
         this.logicalName = logicalName;
@@ -63,6 +63,12 @@ public class ErdRelation extends BaseSoftDeleteEntity {
     @Builder.Default
     private ReferentialActionType onUpdateAction = ReferentialActionType.NO_ACTION;
 
+    /** 낙관적 동시성 제어용 revision (수정 요청의 revision과 다르면 충돌) */
+    @Version
+    @Column(name = "revision", nullable = false)
+    @Builder.Default
+    private Long revision = 0L;
+
     // 비즈니스 로직
     public void updateRelationType(RelationType relationType) {
         if (relationType == null) {
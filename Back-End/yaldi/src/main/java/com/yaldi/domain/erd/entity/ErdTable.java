@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
@@ -38,17 +39,26 @@ public class ErdTable extends BaseSoftDeleteEntity {
     @Builder.Default
     private String physicalName = "";
 
+    // 위치는 드래그로 자주 바뀌고 JDBC 배치로도 저장되므로 revision 증가 대상에서 제외
     @Column(name = "x_position", precision = 10, scale = 2, nullable = false)
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private BigDecimal xPosition = BigDecimal.ZERO;
 
     @Column(name = "y_position", precision = 10, scale = 2, nullable = false)
+    @OptimisticLock(excluded = true)
     @Builder.Default
     private BigDecimal yPosition = BigDecimal.ZERO;
 
     @Column(name = "color_hex", length = 6)
     private String colorHex;
 
+    /** 낙관적 동시성 제어용 revision (수정 요청의 revision과 다르면 충돌) */
+    @Version
+    @Column(name = "revision", nullable = false)
+    @Builder.Default
+    private Long revision = 0L;
+
     // 비즈니스 로직
     public void updateLogicalName(String logicalName) {
         if (logicalName == null || logicalName.trim().isEmpty()) {
@@ -0,0 +1,61 @@
+package com.yaldi.domain.erd.repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ERD 컬럼 순서 일괄 저장 (JDBC batch)
+ *
+ * 컬럼 순서 변경 시 엔티티를 하나씩 로딩하지 않고 UPDATE 한 번의 배치로 column_order만 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ErdColumnOrderBatchRepository {
+
+    private static final String UPDATE_ORDER_SQL = """
+            UPDATE erd_columns
+               SET column_order = ?, updated_at = now()
+             WHERE column_key = ? AND table_key = ? AND deleted_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ColumnOrder(long columnKey, int columnOrder) {
+    }
+
+    /**
+     * 테이블 컬럼 순서 일괄 갱신 (orderedColumnKeys의 인덱스가 column_order)
+     * 동시 갱신 시 교착을 피하도록 columnKey 순으로 정렬해서 실행
+     *
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int batchUpdateColumnOrders(long tableKey, List<Long> orderedColumnKeys) {
+        if (orderedColumnKeys.isEmpty()) {
+            return 0;
+        }
+        List<ColumnOrder> orders = IntStream.range(0, orderedColumnKeys.size())
+                .mapToObj(i -> new ColumnOrder(orderedColumnKeys.get(i), i))
+                .sorted(Comparator.comparingLong(ColumnOrder::columnKey))
+                .toList();
+
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setInt(1, order.columnOrder());
+            ps.setLong(2, order.columnKey());
+            ps.setLong(3, tableKey);
+        });
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO = -2)는 성공으로 간주
+                updated += count >= 0 ? count : 1;
+            }
+        }
+        return updated;
+    }
+}
@@ -16,6 +16,13 @@ public interface ErdColumnRepository extends JpaRepository<ErdColumn, Long> {
      */
     List<ErdColumn> findByTableKey(Long tableKey);
 
+    /**
+     * 테이블의 활성 컬럼 키 목록 조회 (엔티티 로딩 없음, 현재 컬럼 순서대로)
+     */
+    @Query("SELECT c.columnKey FROM ErdColumn c WHERE c.tableKey = :tableKey AND c.deletedAt IS NULL "
+            + "ORDER BY c.columnOrder, c.columnKey")
+    List<Long> findColumnKeysByTableKey(Long tableKey);
+
     /**
      * 삭제된 ERD 컬럼 포함 전체 조회
      */
@@ -54,4 +61,14 @@ public interface ErdColumnRepository extends JpaRepository<ErdColumn, Long> {
            "AND c.deletedAt IS NULL " +
            "AND t.deletedAt IS NULL")
     List<ErdColumn> findByProjectKey(Long projectKey);
+
+    /**
+     * 컬럼 키로 프로젝트 키 조회 (컬럼 → 테이블 2회 조회를 JOIN 1회로)
+     */
+    @Query("SELECT t.projectKey FROM ErdColumn c " +
+           "JOIN ErdTable t ON c.tableKey = t.tableKey " +
+           "WHERE c.columnKey = :columnKey " +
+           "AND c.deletedAt IS NULL " +
+           "AND t.deletedAt IS NULL")
+    Optional<Long> findProjectKeyByColumnKey(Long columnKey);
 }
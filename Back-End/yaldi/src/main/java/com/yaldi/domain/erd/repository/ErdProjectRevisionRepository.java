@@ -0,0 +1,66 @@
+package com.yaldi.domain.erd.repository;
+
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 프로젝트별 ERD revision (projects.erd_revision)
+ *
+ * ERD 쓰기 트랜잭션 안에서 UPDATE ... RETURNING 한 번으로 증가시켜,
+ * 커밋 순서대로 단조 증가하는 값을 얻는다 (같은 프로젝트의 쓰기는 커밋까지 이 행에서 직렬화됨).
+ * 프로젝트 행이 없으면 PROJECT_NOT_FOUND.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ErdProjectRevisionRepository {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE projects
+               SET erd_revision = erd_revision + 1
+             WHERE project_key = ?
+            RETURNING erd_revision
+            """;
+
+    private static final String INCREMENT_ALL_SQL = """
+            UPDATE projects
+               SET erd_revision = erd_revision + 1
+             WHERE project_key = ANY(?)
+            """;
+
+    private static final String SELECT_SQL = "SELECT erd_revision FROM projects WHERE project_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long increment(long projectKey) {
+        return queryRevision(INCREMENT_SQL, projectKey);
+    }
+
+    /**
+     * 여러 프로젝트 revision을 UPDATE 한 번으로 증가 (트랜잭션 밖 배치 쓰기용, 없는 프로젝트는 건너뜀)
+     */
+    public int incrementAll(Collection<Long> projectKeys) {
+        if (projectKeys.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(INCREMENT_ALL_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", projectKeys.toArray())));
+    }
+
+    public long find(long projectKey) {
+        return queryRevision(SELECT_SQL, projectKey);
+    }
+
+    private long queryRevision(String sql, long projectKey) {
+        try {
+            Long revision = jdbcTemplate.queryForObject(sql, Long.class, projectKey);
+            return revision != null ? revision : 0L;
+        } catch (EmptyResultDataAccessException e) {
+            throw new GeneralException(ErrorStatus.PROJECT_NOT_FOUND, e);
+        }
+    }
+}
@@ -43,4 +43,10 @@ public interface ErdRelationRepository extends JpaRepository<ErdRelation, Long>
      */
     @Query("SELECT r FROM ErdRelation r WHERE r.relationKey = :relationKey AND r.deletedAt IS NULL")
     Optional<ErdRelation> findActiveRelationById(Long relationKey);
+
+    /**
+     * 관계 키로 프로젝트 키만 조회 (엔티티 로딩 없음)
+     */
+    @Query("SELECT r.projectKey FROM ErdRelation r WHERE r.relationKey = :relationKey")
+    Optional<Long> findProjectKeyByRelationKey(Long relationKey);
 }
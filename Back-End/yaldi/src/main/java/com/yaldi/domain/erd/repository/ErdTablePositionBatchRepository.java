@@ -0,0 +1,51 @@
+package com.yaldi.domain.erd.repository;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ERD 테이블 위치 일괄 저장 (JDBC batch)
+ *
+ * 엔티티 로딩/dirty checking 없이 UPDATE 한 번의 배치로 위치만 갱신한다.
+ * 드래그 완료 위치 write-behind flush 전용.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ErdTablePositionBatchRepository {
+
+    private static final String UPDATE_POSITION_SQL = """
+            UPDATE erd_tables
+               SET x_position = ?, y_position = ?, updated_at = now()
+             WHERE table_key = ? AND deleted_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TablePosition(long tableKey, BigDecimal x, BigDecimal y) {
+    }
+
+    /**
+     * 위치 일괄 갱신
+     * 노드 간 동시 flush 시 교착을 피하도록 tableKey 순으로 정렬해서 실행
+     */
+    @Transactional
+    public void batchUpdatePositions(List<TablePosition> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        List<TablePosition> ordered = positions.stream()
+                .sorted(Comparator.comparingLong(TablePosition::tableKey))
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_POSITION_SQL, ordered, ordered.size(), (ps, position) -> {
+            ps.setBigDecimal(1, position.x());
+            ps.setBigDecimal(2, position.y());
+            ps.setLong(3, position.tableKey());
+        });
+    }
+}
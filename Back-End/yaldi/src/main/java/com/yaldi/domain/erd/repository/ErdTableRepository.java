@@ -34,6 +34,12 @@ public interface ErdTableRepository extends JpaRepository<ErdTable, Long> {
     @Query("SELECT t FROM ErdTable t WHERE t.tableKey = :tableKey AND t.deletedAt IS NULL")
     Optional<ErdTable> findActiveTableById(Long tableKey);
 
+    /**
+     * 테이블 키로 프로젝트 키만 조회 (엔티티 로딩 없음)
+     */
+    @Query("SELECT t.projectKey FROM ErdTable t WHERE t.tableKey = :tableKey")
+    Optional<Long> findProjectKeyByTableKey(Long tableKey);
+
     /**
      * 프로젝트의 물리적 이름으로 테이블 조회
      */
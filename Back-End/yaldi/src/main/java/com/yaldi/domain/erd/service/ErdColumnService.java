@@ -4,19 +4,24 @@ import com.yaldi.domain.erd.dto.request.ErdColumnCreateRequest;
 import com.yaldi.domain.erd.dto.response.ErdColumnResponse;
 import com.yaldi.domain.erd.dto.request.ErdColumnUpdateRequest;
 import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.repository.ErdColumnOrderBatchRepository;
 import com.yaldi.domain.erd.repository.ErdColumnRepository;
 import com.yaldi.domain.edithistory.service.EditHistoryService;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,9 +34,12 @@ import java.util.stream.Collectors;
 public class ErdColumnService {
 
     private final ErdColumnRepository erdColumnRepository;
+    private final ErdColumnOrderBatchRepository erdColumnOrderBatchRepository;
     private final ErdTableService erdTableService;
     private final ErdLockService erdLockService;
     private final EditHistoryService editHistoryService;
+    private final ErdOwnershipIndexService erdOwnershipIndexService;
+    private final ErdRevisionService erdRevisionService;
 
     /**
      * 테이블의 컬럼 목록 조회
@@ -75,11 +83,13 @@ public class ErdColumnService {
                 .build();
 
         ErdColumn savedColumn = erdColumnRepository.save(column);
+        Long projectKey = erdTableService.getProjectKeyByTableKey(tableKey);
+        erdOwnershipIndexService.putColumn(savedColumn.getColumnKey(), projectKey);
+        erdRevisionService.nextProjectRevision(projectKey);
         log.info("Created ERD column: {}", savedColumn.getColumnKey());
 
         // 히스토리 기록
         if (userKey != null) {
-            Long projectKey = erdTableService.getProjectKeyByTableKey(tableKey);
             editHistoryService.recordColumnCreation(userKey, projectKey, savedColumn.getColumnKey(),
                     convertColumnToMap(savedColumn));
         }
@@ -105,9 +115,15 @@ public class ErdColumnService {
                 request.getIsPrimaryKey() != null ||
                 request.getIsForeignKey() != null;
 
-        if (isImportantUpdate) {
-            erdLockService.validateTableLock(column.getTableKey());
+        // PK/FK 변경은 관계에 영향을 주는 구조 변경이므로 revision이 있어도 Lock 검증 유지
+        boolean isStructuralUpdate = request.getIsPrimaryKey() != null || request.getIsForeignKey() != null;
+
+        erdRevisionService.checkRevision(request.getRevision(), column.getRevision(),
+                () -> ErdColumnResponse.from(column));
+        if (isImportantUpdate && (isStructuralUpdate || !erdRevisionService.replacesLock(request.getRevision()))) {
+            erdLockService.validateColumnLock(column.getTableKey(), columnKey);
         }
+        Long revisionBefore = column.getRevision();
 
         if (request.getLogicalName() != null) {
             column.updateLogicalName(request.getLogicalName());
@@ -139,12 +155,23 @@ public class ErdColumnService {
             column.updateColumnOrder(request.getColumnOrder());
         }
 
+        // @Version 조건부 UPDATE 실행 후 증가한 revision으로 응답
+        try {
+            erdColumnRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw erdRevisionService.concurrentConflict(e,
+                    () -> erdColumnRepository.findById(columnKey).map(ErdColumnResponse::from).orElse(null));
+        }
+        Long projectKey = erdTableService.getProjectKeyByTableKey(column.getTableKey());
+        // 컬럼 순서는 엔티티 revision에서 제외되므로 내용 비교로 변경 여부를 함께 판단
+        Map<String, Object> afterState = convertColumnToMap(column);
+        if (!revisionBefore.equals(column.getRevision()) || !beforeState.equals(afterState)) {
+            erdRevisionService.nextProjectRevision(projectKey);
+        }
         log.info("Updated ERD column: {}", columnKey);
 
         // 히스토리 기록
         if (userKey != null) {
-            Long projectKey = erdTableService.getProjectKeyByTableKey(column.getTableKey());
-            Map<String, Object> afterState = convertColumnToMap(column);
             editHistoryService.recordColumnUpdate(userKey, projectKey, columnKey, beforeState, afterState);
         }
 
@@ -162,15 +189,17 @@ public class ErdColumnService {
         // 삭제 전 상태 저장 (히스토리용)
         Map<String, Object> beforeState = convertColumnToMap(column);
 
-        // 컬럼 삭제는 중요한 작업이므로 Lock 검증 필요
-        erdLockService.validateTableLock(column.getTableKey());
+        // 컬럼 삭제는 되돌리기 어려우므로 near-cache 없이 Redis에서 Lock 검증
+        erdLockService.validateColumnLockStrict(column.getTableKey(), columnKey);
 
         column.softDelete();
+        erdOwnershipIndexService.removeColumn(columnKey);
+        Long projectKey = erdTableService.getProjectKeyByTableKey(column.getTableKey());
+        erdRevisionService.nextProjectRevision(projectKey);
         log.info("Deleted ERD column: {}", columnKey);
 
         // 히스토리 기록
         if (userKey != null) {
-            Long projectKey = erdTableService.getProjectKeyByTableKey(column.getTableKey());
             editHistoryService.recordColumnDeletion(userKey, projectKey, columnKey, beforeState);
         }
     }
@@ -182,17 +211,52 @@ public class ErdColumnService {
     public void updateColumnOrder(Long columnKey, Integer columnOrder) {
         ErdColumn column = erdColumnRepository.findById(columnKey)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_COLUMN_NOT_FOUND));
-        column.updateColumnOrder(columnOrder);
+        if (!Objects.equals(columnOrder, column.getColumnOrder())) {
+            column.updateColumnOrder(columnOrder);
+            erdRevisionService.nextProjectRevision(erdTableService.getProjectKeyByTableKey(column.getTableKey()));
+        }
         log.info("Updated column order: columnKey={}, order={}", columnKey, columnOrder);
     }
 
     /**
-     * 컬럼이 속한 테이블의 프로젝트 키 조회
+     * 테이블 컬럼 순서 일괄 변경
+     * orderedColumnKeys는 테이블의 활성 컬럼 전체를 중복 없이 담아야 하며, 인덱스가 새 columnOrder가 된다.
+     * 테이블 락은 배치당 한 번 검증하고, 히스토리도 테이블 단위로 한 건만 기록한다.
+     */
+    @Transactional
+    public void reorderColumns(Long tableKey, List<Long> orderedColumnKeys, Integer userKey) {
+        if (tableKey == null || orderedColumnKeys == null || orderedColumnKeys.isEmpty()) {
+            throw new GeneralException(ErrorStatus.ERD_COLUMN_INVALID_ORDER);
+        }
+        erdLockService.validateTableLock(tableKey, userKey);
+
+        List<Long> currentOrder = erdColumnRepository.findColumnKeysByTableKey(tableKey);
+        Set<Long> requested = new HashSet<>(orderedColumnKeys);
+        if (requested.size() != orderedColumnKeys.size() || !requested.equals(new HashSet<>(currentOrder))) {
+            throw new GeneralException(ErrorStatus.ERD_COLUMN_INVALID_ORDER);
+        }
+
+        int updated = erdColumnOrderBatchRepository.batchUpdateColumnOrders(tableKey, orderedColumnKeys);
+        if (updated != orderedColumnKeys.size()) {
+            // 검증 이후 다른 요청이 컬럼을 삭제한 경우
+            throw new GeneralException(ErrorStatus.ERD_COLUMN_INVALID_ORDER);
+        }
+        Long projectKey = erdTableService.getProjectKeyByTableKey(tableKey);
+        erdRevisionService.nextProjectRevision(projectKey);
+        log.info("Reordered columns: tableKey={}, count={}", tableKey, updated);
+
+        // 히스토리 기록 (컬럼별이 아닌 테이블 단위 한 건)
+        if (userKey != null) {
+            editHistoryService.recordTableUpdate(userKey, projectKey, tableKey,
+                    Map.of("columnOrder", currentOrder), Map.of("columnOrder", List.copyOf(orderedColumnKeys)));
+        }
+    }
+
+    /**
+     * 컬럼이 속한 테이블의 프로젝트 키 조회 (메모리 인덱스 우선)
      */
     public Long getProjectKeyByColumnKey(Long columnKey) {
-        ErdColumn column = erdColumnRepository.findById(columnKey)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_COLUMN_NOT_FOUND));
-        return erdTableService.getProjectKeyByTableKey(column.getTableKey());
+        return erdOwnershipIndexService.getProjectKeyByColumnKey(columnKey);
     }
 
     /**
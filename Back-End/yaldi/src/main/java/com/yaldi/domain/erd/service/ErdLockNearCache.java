@@ -0,0 +1,114 @@
+package com.yaldi.domain.erd.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블 락 소유자 near-cache (REST 수정 요청의 락 검증용)
+ *
+ * - tableKey → 소유자(없으면 null)를 ttl-ms 동안 노드 메모리에 보관
+ * - 락 스크립트가 소유자가 바뀔 때 erd:lock:changed 채널로 tableKey를 발행 → 모든 노드에서 즉시 무효화
+ * - Pub/Sub은 at-most-once이므로 메시지를 놓쳐도 ttl-ms가 지나면 Redis에서 다시 읽는다
+ * - 삭제 같은 파괴적 작업은 이 캐시를 거치지 않는다 (ErdLockService.validateTableLockStrict)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErdLockNearCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "erd:lock:changed";
+
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    @Value("${yaldi.erd.lock.near-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${yaldi.erd.lock.near-cache.ttl-ms:2000}")
+    private long ttlMs;
+
+    @Value("${yaldi.erd.lock.near-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<Long, CachedOwner> entries = new ConcurrentHashMap<>();
+
+    /** 무효화 횟수: 조회 중 무효화가 끼어들면 읽은 값을 캐시에 넣지 않음 */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    private record CachedOwner(String owner, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Lock near-cache subscribed: channel={}, ttlMs={}", INVALIDATION_CHANNEL, ttlMs);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 캐시된 소유자 조회, 없거나 만료되었으면 loader로 Redis에서 읽어 보관
+     */
+    public String getOwner(long tableKey, LongFunction<String> loader) {
+        if (!enabled) {
+            return loader.apply(tableKey);
+        }
+        long now = System.currentTimeMillis();
+        CachedOwner cached = entries.get(tableKey);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.owner();
+        }
+
+        long version = invalidations.get();
+        String owner = loader.apply(tableKey);
+        if (invalidations.get() == version) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(tableKey, new CachedOwner(owner, now + ttlMs));
+        }
+        return owner;
+    }
+
+    public void invalidate(long tableKey) {
+        invalidations.incrementAndGet();
+        entries.remove(tableKey);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid lock invalidation message: {}", body);
+        }
+    }
+}
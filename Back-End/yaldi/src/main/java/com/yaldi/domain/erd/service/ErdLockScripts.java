@@ -0,0 +1,559 @@
+package com.yaldi.domain.erd.service;
+
+import java.util.List;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 테이블 락 Lua 스크립트 (각 연산을 Redis 왕복 1회로 원자적으로 처리)
+ *
+ * KEYS: [1] erd:lock:table:{tableKey}            (Redisson RLock과 같은 Hash 구조 → 기존 노드의 isLocked/tryLock과 호환)
+ *       [2] erd:lock:table:{tableKey}:owner      (소유자, 기존 키 그대로)
+ *       [3] erd:lock:heartbeat:{tableKey}        (클라이언트 하트비트, 기존 키 그대로)
+ *       [4] erd:lock:table:{tableKey}:owner-name (소유자 표시 이름)
+ *       [5] erd:lock:project:{projectKey}        (프로젝트별 락 인덱스 Hash: tableKey → TableLockEntry JSON)
+ *       [6] erd:lock:user:{owner}                (사용자별 락 인덱스 Hash: tableKey → projectKey)
+ *       [7] erd:lock:projects                    (락이 하나라도 있는 프로젝트 Set, 정리 작업용)
+ *       [8] erd:lock:deadlines                   (회수 기한 ZSET: member = "{tableKey}:{projectKey}:{owner}", score = 기한 ms)
+ *       [9] erd:lock:table:{tableKey}:columns    (컬럼 락 Hash: columnKey → {owner, userName, expiresAt})
+ * ARGV: [1] owner, [2] tableKey, [3] projectKey, 이후 스크립트별 인자
+ * ARGV 값은 jsonRedisTemplate 직렬화를 거치므로 GET 결과와 같은 형식으로 비교된다.
+ * Hash 필드/Set 멤버로 쓰는 tableKey/projectKey는 cjson.decode로 따옴표를 벗겨 평문으로 저장한다.
+ *
+ * 인덱스는 락과 같은 스크립트에서 갱신하므로 락 상태와 어긋나지 않는다.
+ * 단, TTL로 만료된 락(노드 장애)의 인덱스 항목은 남으므로 RECLAIM(기한 도래 시)과 PRUNE(예비 정리)로 지운다.
+ * 기한 member는 jsonRedisTemplate으로 읽을 수 있도록 JSON 문자열로 저장한다.
+ * 소유자가 바뀌면(획득/해제/인수/회수) 같은 스크립트에서 tableKey를 발행해 각 노드의 near-cache를 무효화한다.
+ *
+ * 컬럼 락은 테이블별 Hash 한 개에 필드 단위로 저장하고 만료 시각을 값에 담는다 (필드 TTL 없이 읽을 때 만료 판단).
+ * 같은 항목을 프로젝트 컬럼 락 인덱스(락 스냅샷용)에도 쓰고, 만료 ZSET으로 회수해 COLUMN_UNLOCK을 알린다.
+ * 테이블 락과 컬럼 락은 서로 배타적이다: 다른 사용자의 살아 있는 컬럼 락이 있으면 테이블 락을 잡을 수 없고,
+ * 테이블 락이 있으면 그 소유자만 컬럼을 편집할 수 있다 (소유자는 컬럼 락 없이 테이블 락으로 충분).
+ */
+final class ErdLockScripts {
+
+    private ErdLockScripts() {
+    }
+
+    /** 소유자 변경 알림 (ErdLockNearCache 무효화) */
+    private static final String PUBLISH_CHANGE =
+            "redis.call('publish', '" + ErdLockNearCache.INVALIDATION_CHANNEL + "', cjson.decode(ARGV[2]))\n";
+
+    /** 일괄 스크립트용 변경 알림 채널 (테이블마다 PUBLISH) */
+    private static final String CHANGE_CHANNEL =
+            "local changeChannel = '" + ErdLockNearCache.INVALIDATION_CHANNEL + "'\n";
+
+    /** 회수 기한 member와 Redis 서버 기준 현재 시각 (노드 간 시계 차이 배제) */
+    private static final String DEADLINE = """
+            local deadlineMember = cjson.encode(cjson.decode(ARGV[2]) .. ':' .. cjson.decode(ARGV[3]) .. ':' .. cjson.decode(ARGV[1]))
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            """;
+
+    /** 프로젝트 인덱스 항목이 이 소유자 것인지 (ARGV[1] = owner) */
+    private static final String OWNS_ENTRY = """
+            local function ownsEntry(entry)
+                if not entry then
+                    return false
+                end
+                local decoded = cjson.decode(entry)
+                return type(decoded) == 'table' and decoded.owner == cjson.decode(ARGV[1])
+            end
+            """;
+
+    /**
+     * 인덱스/회수 기한 등록 (획득/인수 공통, ARGV[7] = 회수 기한 ms, ARGV[8] = TableLockEntry JSON)
+     * 같은 소유자가 다시 획득하면 기존 항목(acquiredAt)을 유지
+     */
+    private static final String INDEX_ADD = DEADLINE + OWNS_ENTRY + """
+            local tableField = cjson.decode(ARGV[2])
+            if not ownsEntry(redis.call('hget', KEYS[5], tableField)) then
+                redis.call('hset', KEYS[5], tableField, ARGV[8])
+            end
+            redis.call('hset', KEYS[6], tableField, ARGV[3])
+            redis.call('sadd', KEYS[7], cjson.decode(ARGV[3]))
+            redis.call('zadd', KEYS[8], nowMillis + tonumber(ARGV[7]), deadlineMember)
+            """;
+
+    /** 인덱스/회수 기한 제거 (해제/정리 공통, 프로젝트 인덱스는 같은 소유자 항목일 때만 제거) */
+    private static final String INDEX_REMOVE = DEADLINE + OWNS_ENTRY + """
+            local tableField = cjson.decode(ARGV[2])
+            redis.call('hdel', KEYS[6], tableField)
+            redis.call('zrem', KEYS[8], deadlineMember)
+            if ownsEntry(redis.call('hget', KEYS[5], tableField)) then
+                redis.call('hdel', KEYS[5], tableField)
+            end
+            if redis.call('hlen', KEYS[5]) == 0 then
+                redis.call('srem', KEYS[7], cjson.decode(ARGV[3]))
+            end
+            """;
+
+    /** 다른 사용자의 살아 있는 컬럼 락 존재 여부 (Redis 서버 시각 기준) */
+    private static final String COLUMNS_HELD_BY_OTHERS = """
+            local function columnsHeldByOthers(columnsKey, owner)
+                local now = redis.call('time')
+                local nowMs = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+                local fields = redis.call('hgetall', columnsKey)
+                for i = 1, #fields, 2 do
+                    local entry = cjson.decode(fields[i + 1])
+                    if entry.expiresAt > nowMs and entry.owner ~= owner then
+                        return true
+                    end
+                end
+                return false
+            end
+            """;
+
+    /**
+     * 획득: 비어 있거나 같은 소유자면 획득/갱신
+     * ARGV: [4] lockTtlMs, [5] heartbeatTtlMs, [6] ownerName, [7] reclaimTtlMs, [8] TableLockEntry JSON
+     * 반환: 1 획득, 0 다른 사용자가 테이블 또는 컬럼을 보유
+     */
+    static final RedisScript<Long> ACQUIRE = RedisScript.of(COLUMNS_HELD_BY_OTHERS + """
+            local previousOwner = redis.call('get', KEYS[2])
+            if redis.call('exists', KEYS[1]) == 1 and previousOwner ~= ARGV[1] then
+                return 0
+            end
+            if columnsHeldByOthers(KEYS[9], cjson.decode(ARGV[1])) then
+                return 0
+            end
+            if previousOwner ~= ARGV[1] then
+            """ + PUBLISH_CHANGE + """
+            end
+            redis.call('hset', KEYS[1], 'yaldi', 1)
+            redis.call('pexpire', KEYS[1], ARGV[4])
+            redis.call('set', KEYS[2], ARGV[1], 'PX', ARGV[4])
+            redis.call('set', KEYS[3], ARGV[1], 'PX', ARGV[5])
+            redis.call('set', KEYS[4], ARGV[6], 'PX', ARGV[4])
+            """ + INDEX_ADD + """
+            return 1
+            """, Long.class);
+
+    /**
+     * 갱신: 소유자일 때만 락 TTL 연장, heartbeatTtlMs > 0이면 하트비트, reclaimTtlMs > 0이면 회수 기한도 갱신
+     * ARGV: [4] lockTtlMs, [5] heartbeatTtlMs, [6] reclaimTtlMs
+     * 반환: 1 갱신, 0 락 없음, -1 다른 사용자가 보유
+     */
+    static final RedisScript<Long> RENEW = RedisScript.of("""
+            if redis.call('exists', KEYS[1]) == 0 then
+                return 0
+            end
+            if redis.call('get', KEYS[2]) ~= ARGV[1] then
+                return -1
+            end
+            redis.call('pexpire', KEYS[1], ARGV[4])
+            redis.call('pexpire', KEYS[2], ARGV[4])
+            redis.call('pexpire', KEYS[4], ARGV[4])
+            if tonumber(ARGV[5]) > 0 then
+                redis.call('set', KEYS[3], ARGV[1], 'PX', ARGV[5])
+            end
+            if tonumber(ARGV[6]) > 0 then
+            """ + DEADLINE + """
+                redis.call('zadd', KEYS[8], nowMillis + tonumber(ARGV[6]), deadlineMember)
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 해제: 소유자일 때만 관련 키 전체 삭제
+     * 소유자가 아니어도(만료/인수됨) 이 소유자의 남은 인덱스 항목은 제거
+     * 반환: 1 해제, 0 소유자 아님(또는 락 없음)
+     */
+    static final RedisScript<Long> RELEASE = RedisScript.of(INDEX_REMOVE + """
+            if redis.call('get', KEYS[2]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('del', KEYS[1], KEYS[2], KEYS[3], KEYS[4])
+            """ + PUBLISH_CHANGE + """
+            return 1
+            """, Long.class);
+
+    /**
+     * 인수: 비어 있거나 하트비트가 끊긴 락(또는 이미 자기 락)이면 새 소유자로 교체
+     * 이전 소유자의 인덱스/기한 항목은 그 사용자의 다음 해제 또는 기한 회수 시점에 정리된다.
+     * ARGV: [4] lockTtlMs, [5] heartbeatTtlMs, [6] ownerName, [7] reclaimTtlMs, [8] TableLockEntry JSON
+     * 반환: 1 획득, 0 하트비트가 살아 있는 다른 사용자가 보유(또는 다른 사용자의 컬럼 락 존재)
+     */
+    static final RedisScript<Long> STEAL_IF_STALE = RedisScript.of(COLUMNS_HELD_BY_OTHERS + """
+            if redis.call('exists', KEYS[3]) == 1 and redis.call('get', KEYS[2]) ~= ARGV[1] then
+                return 0
+            end
+            if columnsHeldByOthers(KEYS[9], cjson.decode(ARGV[1])) then
+                return 0
+            end
+            redis.call('del', KEYS[1])
+            """ + PUBLISH_CHANGE + """
+            redis.call('hset', KEYS[1], 'yaldi', 1)
+            redis.call('pexpire', KEYS[1], ARGV[4])
+            redis.call('set', KEYS[2], ARGV[1], 'PX', ARGV[4])
+            redis.call('set', KEYS[3], ARGV[1], 'PX', ARGV[5])
+            redis.call('set', KEYS[4], ARGV[6], 'PX', ARGV[4])
+            """ + INDEX_ADD + """
+            return 1
+            """, Long.class);
+
+    /**
+     * 정리: 락이 만료되었거나 다른 소유자로 바뀐 인덱스 항목 제거 (살아 있는 락은 건드리지 않음)
+     * 반환: 1 제거, 0 락이 아직 이 소유자에게 있음
+     */
+    static final RedisScript<Long> PRUNE = RedisScript.of("""
+            if redis.call('get', KEYS[2]) == ARGV[1] then
+                return 0
+            end
+            """ + INDEX_REMOVE + """
+            return 1
+            """, Long.class);
+
+    /**
+     * 기한 회수: Redis 서버 시각 기준으로 기한이 지난 항목을 최대 limit건 조회해 처리 (노드 간 시계 차이 배제)
+     * - 락이 만료됨(노드 장애) → 인덱스/기한 제거, 회수 목록에 추가
+     * - 아직 이 소유자의 락: heartbeatLapse = 1이고 하트비트가 끊겼으면 강제 해제 후 회수 목록에 추가,
+     *   아니면 기한만 1초 뒤로 미룸 (갱신 직전 경합)
+     * - 다른 소유자로 바뀜 → 이 소유자의 항목만 제거 (알릴 것 없음)
+     * - 형식이 잘못된 member → 기한 항목만 제거
+     * 대상 테이블을 미리 알 수 없어 테이블별 키는 member에서 만든다 (키 이름은 클래스 주석의 KEYS와 같음).
+     * KEYS: [1] erd:lock:deadlines, [2] erd:lock:projects
+     * ARGV: [1] limit, [2] heartbeatLapse (1/0)
+     * 반환: 회수한 기한 member 목록 ("{tableKey}:{projectKey}:{owner}")
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> RECLAIM = RedisScript.of(CHANGE_CHANNEL + """
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local due = redis.call('zrangebyscore', KEYS[1], 0, nowMillis, 'LIMIT', 0, tonumber(ARGV[1]))
+            local reclaimed = {}
+            for _, member in ipairs(due) do
+                local ok, decoded = pcall(cjson.decode, member)
+                local tableField, projectField, ownerField
+                if ok and type(decoded) == 'string' then
+                    tableField, projectField, ownerField = string.match(decoded, '^(%d+):(%d+):(.+)$')
+                end
+                if not tableField then
+                    redis.call('zrem', KEYS[1], member)
+                else
+                    local lockKey = 'erd:lock:table:' .. tableField
+                    local heartbeatKey = 'erd:lock:heartbeat:' .. tableField
+                    local projectKey = 'erd:lock:project:' .. projectField
+                    local rawOwner = redis.call('get', lockKey .. ':owner')
+                    local owner = rawOwner and cjson.decode(rawOwner)
+                    if owner == ownerField and (tonumber(ARGV[2]) ~= 1 or redis.call('exists', heartbeatKey) == 1) then
+                        redis.call('zadd', KEYS[1], nowMillis + 1000, member)
+                    else
+                        if owner == ownerField then
+                            redis.call('del', lockKey, lockKey .. ':owner', heartbeatKey, lockKey .. ':owner-name')
+                        end
+                        redis.call('hdel', 'erd:lock:user:' .. ownerField, tableField)
+                        redis.call('zrem', KEYS[1], member)
+                        local entry = redis.call('hget', projectKey, tableField)
+                        if entry then
+                            local decodedEntry = cjson.decode(entry)
+                            if type(decodedEntry) == 'table' and decodedEntry.owner == ownerField then
+                                redis.call('hdel', projectKey, tableField)
+                            end
+                        end
+                        if redis.call('hlen', projectKey) == 0 then
+                            redis.call('srem', KEYS[2], projectField)
+                        end
+                        if owner == ownerField or not owner then
+                            redis.call('publish', changeChannel, tableField)
+                            reclaimed[#reclaimed + 1] = member
+                        end
+                    end
+                end
+            end
+            return reclaimed
+            """, List.class);
+
+    /**
+     * 일괄 획득: 모든 테이블이 비어 있거나 이미 자기 락일 때만 전부 획득 (하나라도 남의 락이면 아무것도 잡지 않음)
+     * KEYS: [1] 프로젝트 인덱스, [2] 사용자 인덱스, [3] 프로젝트 Set, [4] 회수 기한 ZSET,
+     *       이후 테이블마다 5개씩 (락, 소유자, 하트비트, 소유자 이름, 컬럼 락), tableKey 오름차순
+     * ARGV: [1] owner, [2] projectKey, [3] lockTtlMs, [4] heartbeatTtlMs, [5] ownerName, [6] reclaimTtlMs,
+     *       [7] TableLockEntry JSON, [8..] tableKey (KEYS와 같은 순서)
+     * 반환: 1 전부 획득, 0 다른 사용자가 보유한 테이블(또는 컬럼)이 있음
+     */
+    static final RedisScript<Long> ACQUIRE_ALL = RedisScript.of(CHANGE_CHANNEL + OWNS_ENTRY
+            + COLUMNS_HELD_BY_OTHERS + """
+            local count = #ARGV - 7
+            for i = 1, count do
+                local base = 4 + (i - 1) * 5
+                if redis.call('exists', KEYS[base + 1]) == 1 and redis.call('get', KEYS[base + 2]) ~= ARGV[1] then
+                    return 0
+                end
+                if columnsHeldByOthers(KEYS[base + 5], cjson.decode(ARGV[1])) then
+                    return 0
+                end
+            end
+            local ownerField = cjson.decode(ARGV[1])
+            local projectField = cjson.decode(ARGV[2])
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            for i = 1, count do
+                local base = 4 + (i - 1) * 5
+                local tableField = cjson.decode(ARGV[7 + i])
+                if redis.call('get', KEYS[base + 2]) ~= ARGV[1] then
+                    redis.call('publish', changeChannel, tableField)
+                end
+                redis.call('hset', KEYS[base + 1], 'yaldi', 1)
+                redis.call('pexpire', KEYS[base + 1], ARGV[3])
+                redis.call('set', KEYS[base + 2], ARGV[1], 'PX', ARGV[3])
+                redis.call('set', KEYS[base + 3], ARGV[1], 'PX', ARGV[4])
+                redis.call('set', KEYS[base + 4], ARGV[5], 'PX', ARGV[3])
+                if not ownsEntry(redis.call('hget', KEYS[1], tableField)) then
+                    redis.call('hset', KEYS[1], tableField, ARGV[7])
+                end
+                redis.call('hset', KEYS[2], tableField, ARGV[2])
+                redis.call('zadd', KEYS[4], nowMillis + tonumber(ARGV[6]),
+                        cjson.encode(tableField .. ':' .. projectField .. ':' .. ownerField))
+            end
+            redis.call('sadd', KEYS[3], projectField)
+            return 1
+            """, Long.class);
+
+    /**
+     * 일괄 해제: 이 소유자의 락만 해제 (만료/인수된 테이블은 인덱스 항목만 제거)
+     * KEYS: ACQUIRE_ALL과 같음
+     * ARGV: [1] owner, [2] projectKey, [3..] tableKey
+     * 반환: 실제로 해제한 tableKey 목록
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> RELEASE_ALL = RedisScript.of(CHANGE_CHANNEL + OWNS_ENTRY + """
+            local ownerField = cjson.decode(ARGV[1])
+            local projectField = cjson.decode(ARGV[2])
+            local released = {}
+            for i = 1, #ARGV - 2 do
+                local base = 4 + (i - 1) * 5
+                local tableField = cjson.decode(ARGV[2 + i])
+                redis.call('hdel', KEYS[2], tableField)
+                redis.call('zrem', KEYS[4], cjson.encode(tableField .. ':' .. projectField .. ':' .. ownerField))
+                if ownsEntry(redis.call('hget', KEYS[1], tableField)) then
+                    redis.call('hdel', KEYS[1], tableField)
+                end
+                if redis.call('get', KEYS[base + 2]) == ARGV[1] then
+                    redis.call('del', KEYS[base + 1], KEYS[base + 2], KEYS[base + 3], KEYS[base + 4])
+                    redis.call('publish', changeChannel, tableField)
+                    released[#released + 1] = tonumber(tableField)
+                end
+            end
+            if redis.call('hlen', KEYS[1]) == 0 then
+                redis.call('srem', KEYS[3], projectField)
+            end
+            return released
+            """, List.class);
+
+    /**
+     * 사용자 락 일괄 갱신 (WebSocket 락 하트비트): 소유자인 락만 TTL/하트비트/회수 기한 연장
+     * KEYS: [1] erd:lock:deadlines, 이후 테이블마다 4개씩 (락, 소유자, 하트비트, 소유자 이름)
+     * ARGV: [1] owner, [2] lockTtlMs, [3] heartbeatTtlMs, [4] reclaimTtlMs, 이후 테이블마다 (tableKey, projectKey)
+     * 반환: 만료/인수되어 갱신하지 못한 tableKey 목록
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> RENEW_ALL = RedisScript.of("""
+            local ownerField = cjson.decode(ARGV[1])
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local lost = {}
+            for i = 1, (#ARGV - 4) / 2 do
+                local base = 1 + (i - 1) * 4
+                local tableField = cjson.decode(ARGV[3 + i * 2])
+                if redis.call('get', KEYS[base + 2]) == ARGV[1] then
+                    redis.call('pexpire', KEYS[base + 1], ARGV[2])
+                    redis.call('pexpire', KEYS[base + 2], ARGV[2])
+                    redis.call('pexpire', KEYS[base + 4], ARGV[2])
+                    redis.call('set', KEYS[base + 3], ARGV[1], 'PX', ARGV[3])
+                    local projectField = cjson.decode(ARGV[4 + i * 2])
+                    redis.call('zadd', KEYS[1], nowMillis + tonumber(ARGV[4]),
+                        cjson.encode(tableField .. ':' .. projectField .. ':' .. ownerField))
+                else
+                    lost[#lost + 1] = tonumber(tableField)
+                end
+            end
+            return lost
+            """, List.class);
+
+    /**
+     * 컬럼 락 스크립트 공통 인자
+     * KEYS: [1] 테이블 락, [2] 테이블 소유자, [3] 컬럼 락 Hash,
+     *       [4] erd:lock:project:{projectKey}:columns (프로젝트 컬럼 락 인덱스 Hash: "{tableKey}:{columnKey}" → 컬럼 락 항목),
+     *       [5] erd:lock:column-deadlines (만료 ZSET: member = "{tableKey}:{columnKey}:{projectKey}:{owner}", score = 만료 ms)
+     * ARGV: [1] owner, [2] columnKey, [3] tableKey, [4] projectKey, 이후 스크립트별 인자
+     * 컬럼 락 항목: {tableKey, columnKey, owner, userName, expiresAt} (컬럼 Hash와 프로젝트 인덱스에 같은 값)
+     */
+    private static final String COLUMN_FIELDS = """
+            local ownerField = cjson.decode(ARGV[1])
+            local columnField = cjson.decode(ARGV[2])
+            local tableField = cjson.decode(ARGV[3])
+            local indexField = tableField .. ':' .. columnField
+            local deadlineMember = cjson.encode(tableField .. ':' .. columnField .. ':' .. cjson.decode(ARGV[4]) .. ':' .. ownerField)
+            """;
+
+    /** 컬럼 락 기록 (컬럼 Hash + 프로젝트 인덱스 + 만료 ZSET, ARGV[5] = lockTtlMs) */
+    private static final String COLUMN_STORE = COLUMN_FIELDS + """
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local function storeColumn(userName)
+                local expiresAt = nowMillis + tonumber(ARGV[5])
+                local encoded = cjson.encode({
+                    tableKey = tableField, columnKey = columnField, owner = ownerField,
+                    userName = userName, expiresAt = expiresAt
+                })
+                redis.call('hset', KEYS[3], columnField, encoded)
+                redis.call('hset', KEYS[4], indexField, encoded)
+                for i = 3, 4 do
+                    if redis.call('pttl', KEYS[i]) < tonumber(ARGV[5]) then
+                        redis.call('pexpire', KEYS[i], ARGV[5])
+                    end
+                end
+                redis.call('zadd', KEYS[5], expiresAt, deadlineMember)
+            end
+            """;
+
+    /**
+     * 컬럼 락 획득
+     * ARGV: [5] lockTtlMs, [6] ownerName
+     * 반환: 1 획득, 2 이미 같은 사용자의 테이블 락에 포함, 0 다른 사용자가 테이블 또는 컬럼을 보유
+     */
+    static final RedisScript<Long> ACQUIRE_COLUMN = RedisScript.of("""
+            if redis.call('exists', KEYS[1]) == 1 then
+                if redis.call('get', KEYS[2]) == ARGV[1] then
+                    return 2
+                end
+                return 0
+            end
+            """ + COLUMN_STORE + """
+            local current = redis.call('hget', KEYS[3], columnField)
+            if current then
+                local entry = cjson.decode(current)
+                if entry.expiresAt > nowMillis and entry.owner ~= ownerField then
+                    return 0
+                end
+            end
+            storeColumn(cjson.decode(ARGV[6]))
+            return 1
+            """, Long.class);
+
+    /**
+     * 컬럼 락 갱신
+     * ARGV: [5] lockTtlMs
+     * 반환: 1 갱신, 0 락 없음(회수됨), -1 다른 사용자가 보유
+     */
+    static final RedisScript<Long> RENEW_COLUMN = RedisScript.of(COLUMN_STORE + """
+            local current = redis.call('hget', KEYS[3], columnField)
+            if not current then
+                return 0
+            end
+            local entry = cjson.decode(current)
+            if entry.owner ~= ownerField then
+                return -1
+            end
+            storeColumn(entry.userName)
+            return 1
+            """, Long.class);
+
+    /**
+     * 살아 있는 컬럼 락 소유자 조회 (만료 판단은 Redis 서버 시각 기준, 기록 시각과 같은 시계)
+     * KEYS: [1] 컬럼 락 Hash
+     * ARGV: [1] columnKey
+     * 반환: 소유자 (JSON 문자열), 락이 없거나 만료되었으면 nil
+     */
+    static final RedisScript<String> COLUMN_OWNER = RedisScript.of("""
+            local current = redis.call('hget', KEYS[1], cjson.decode(ARGV[1]))
+            if not current then
+                return false
+            end
+            local entry = cjson.decode(current)
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            if entry.expiresAt <= nowMillis then
+                return false
+            end
+            return cjson.encode(entry.owner)
+            """, String.class);
+
+    /**
+     * 컬럼 락 해제: 소유자일 때만 컬럼 Hash/프로젝트 인덱스/만료 항목 삭제
+     * 반환: 1 해제, 0 소유자 아님(또는 락 없음)
+     */
+    static final RedisScript<Long> RELEASE_COLUMN = RedisScript.of(COLUMN_FIELDS + """
+            local current = redis.call('hget', KEYS[3], columnField)
+            if not current or cjson.decode(current).owner ~= ownerField then
+                return 0
+            end
+            redis.call('hdel', KEYS[3], columnField)
+            local indexed = redis.call('hget', KEYS[4], indexField)
+            if indexed and cjson.decode(indexed).owner == ownerField then
+                redis.call('hdel', KEYS[4], indexField)
+            end
+            redis.call('zrem', KEYS[5], deadlineMember)
+            return 1
+            """, Long.class);
+
+    /**
+     * 프로젝트의 살아 있는 컬럼 락 (Redis 서버 시각 기준, 만료 항목은 COLUMN_RECLAIM이 정리)
+     * KEYS: [1] erd:lock:project:{projectKey}:columns
+     * 반환: 컬럼 락 항목 JSON 목록
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> COLUMN_SNAPSHOT = RedisScript.of("""
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local fields = redis.call('hgetall', KEYS[1])
+            local live = {}
+            for i = 1, #fields, 2 do
+                if cjson.decode(fields[i + 1]).expiresAt > nowMillis then
+                    live[#live + 1] = fields[i + 1]
+                end
+            end
+            return live
+            """, List.class);
+
+    /**
+     * 컬럼 락 만료 회수: Redis 서버 시각 기준으로 만료된 항목을 최대 limit건 처리
+     * - 아직 이 소유자의 락이고 갱신됨 → 만료 점수만 갱신된 시각으로 옮김
+     * - 이 소유자의 락이 만료됨(또는 컬럼 Hash째 만료) → 컬럼 Hash/프로젝트 인덱스 항목 제거, 회수 목록에 추가
+     * - 다른 소유자로 바뀜 → 만료 항목만 제거 (새 소유자의 COLUMN_LOCK이 이미 나감)
+     * - 형식이 잘못된 member → 만료 항목만 제거
+     * KEYS: [1] erd:lock:column-deadlines
+     * ARGV: [1] limit
+     * 반환: 회수한 member 목록 ("{tableKey}:{columnKey}:{projectKey}:{owner}")
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> COLUMN_RECLAIM = RedisScript.of("""
+            local time = redis.call('time')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local due = redis.call('zrangebyscore', KEYS[1], 0, nowMillis, 'LIMIT', 0, tonumber(ARGV[1]))
+            local reclaimed = {}
+            for _, member in ipairs(due) do
+                local ok, decoded = pcall(cjson.decode, member)
+                local tableField, columnField, projectField, ownerField
+                if ok and type(decoded) == 'string' then
+                    tableField, columnField, projectField, ownerField = string.match(decoded, '^(%d+):(%d+):(%d+):(.+)$')
+                end
+                if not tableField then
+                    redis.call('zrem', KEYS[1], member)
+                else
+                    local columnsKey = 'erd:lock:table:' .. tableField .. ':columns'
+                    local indexKey = 'erd:lock:project:' .. projectField .. ':columns'
+                    local indexField = tableField .. ':' .. columnField
+                    local current = redis.call('hget', columnsKey, columnField)
+                    local entry = current and cjson.decode(current)
+                    if entry and entry.owner == ownerField and entry.expiresAt > nowMillis then
+                        redis.call('zadd', KEYS[1], entry.expiresAt, member)
+                    else
+                        redis.call('zrem', KEYS[1], member)
+                        local indexed = redis.call('hget', indexKey, indexField)
+                        local indexedOwner = indexed and cjson.decode(indexed).owner
+                        if (entry and entry.owner == ownerField) or (not entry and (not indexed or indexedOwner == ownerField)) then
+                            if entry then
+                                redis.call('hdel', columnsKey, columnField)
+                            end
+                            if indexedOwner == ownerField then
+                                redis.call('hdel', indexKey, indexField)
+                            end
+                            reclaimed[#reclaimed + 1] = member
+                        end
+                    end
+                end
+            end
+            return reclaimed
+            """, List.class);
+}
@@ -1,107 +1,341 @@
 package com.yaldi.domain.erd.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.erd.dto.redis.ColumnLockEntry;
 import com.yaldi.domain.erd.dto.redis.LockInfo;
+import com.yaldi.domain.erd.dto.redis.ReclaimedLock;
+import com.yaldi.domain.erd.dto.redis.ReleasedColumnLock;
+import com.yaldi.domain.erd.dto.redis.TableLockEntry;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
 import com.yaldi.infra.security.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 테이블 편집 락
+ *
+ * 획득/갱신/해제/인수는 ErdLockScripts의 Lua 스크립트로 Redis 왕복 1회에 원자적으로 처리한다.
+ * 키 구조는 기존(Redisson RLock Hash + :owner + heartbeat)과 같아 배포 중 기존 노드와 함께 동작한다.
+ *
+ * 락 키는 TTL(30초)을 가지며, 획득한 노드가 보유 중인 락을 주기적으로 연장한다 (Redisson watchdog 대체).
+ * 노드가 죽으면 연장이 멈춰 락이 자동 만료된다.
+ *
+ * 사용자별(erd:lock:user:{owner})/프로젝트별(erd:lock:project:{projectKey}) 인덱스를 같은 스크립트에서 함께 갱신해
+ * 연결 해제 시 일괄 해제와 프로젝트 락 목록 조회에 키 공간 SCAN을 쓰지 않는다.
+ *
+ * 락마다 회수 기한(erd:lock:deadlines ZSET)을 두고, 기한이 지난 락은 선출된 한 노드가 reclaimExpiredLocks로 회수한다.
+ * 기한은 락 TTL 기준이며, heartbeat-lapse 모드에서는 클라이언트 하트비트 TTL 기준이다.
+ *
+ * REST 수정 요청의 락 검증(validateTableLock)은 ErdLockNearCache를 거쳐 대부분 Redis 왕복 없이 처리하고,
+ * 삭제 같은 파괴적 작업(validateTableLockStrict)만 항상 Redis에서 확인한다.
+ *
+ * column-mode를 켜면 테이블 락 대신 컬럼 단위 락(lockColumn)을 잡을 수 있다.
+ * 테이블 락과 컬럼 락은 서로 배타적이며(ErdLockScripts 참고), 컬럼 수정 검증(validateColumnLock)은
+ * 테이블 락 소유자를 near-cache로 먼저 확인하고 테이블 락이 없을 때만 컬럼 필드를 HGET 한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ErdLockService {
 
-    private final RedissonClient redissonClient;
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ErdOwnershipIndexService erdOwnershipIndexService;
+    private final ErdLockNearCache erdLockNearCache;
 
     private static final String LOCK_KEY_PREFIX = "erd:lock:table:";
     private static final String LOCK_OWNER_SUFFIX = ":owner";
+    private static final String LOCK_OWNER_NAME_SUFFIX = ":owner-name";
+    private static final String LOCK_COLUMNS_SUFFIX = ":columns";
     private static final String HEARTBEAT_KEY_PREFIX = "erd:lock:heartbeat:";
+    private static final String PROJECT_INDEX_PREFIX = "erd:lock:project:";
+    private static final String USER_INDEX_PREFIX = "erd:lock:user:";
+    private static final String LOCKED_PROJECTS_KEY = "erd:lock:projects";
+    private static final String DEADLINES_KEY = "erd:lock:deadlines";
+    private static final String COLUMN_DEADLINES_KEY = "erd:lock:column-deadlines";
     private static final long LOCK_TTL_SECONDS = 30L;
     private static final long HEARTBEAT_TTL_SECONDS = 10L;
 
+    /** 클라이언트 하트비트가 끊긴 락도 회수 (클라이언트가 락 하트비트를 보낼 때만 켠다) */
+    @Value("${yaldi.erd.lock.reclaim.heartbeat-lapse:false}")
+    private boolean reclaimOnHeartbeatLapse;
+
+    /** 컬럼 단위 락 허용 (끄면 기존처럼 테이블 락만 사용) */
+    @Value("${yaldi.erd.lock.column-mode:false}")
+    private boolean columnMode;
+
+    /** 이 노드에서 획득한 락 (tableKey → 소유자/프로젝트), watchdog 연장 대상 */
+    private final Map<Long, HeldLock> heldLocks = new ConcurrentHashMap<>();
+
+    /** 이 노드에서 획득한 컬럼 락 → 소유자, watchdog 연장 대상 */
+    private final Map<HeldColumnLock, String> heldColumnLocks = new ConcurrentHashMap<>();
+
+    private record HeldLock(String owner, long projectKey) {
+    }
+
+    private record HeldColumnLock(long tableKey, long columnKey, long projectKey) {
+    }
+
     public boolean lockTable(Long tableKey, String userEmail, String userName) {
-        String lockKey = LOCK_KEY_PREFIX + tableKey;
-        String ownerKey = lockKey + LOCK_OWNER_SUFFIX;
+        return lockTable(tableKey, userEmail, userName, null);
+    }
 
-        RLock lock = redissonClient.getLock(lockKey);
+    public boolean lockTable(Long tableKey, String userEmail, String userName, String userColor) {
+        long projectKey = erdOwnershipIndexService.getProjectKeyByTableKey(tableKey);
+        boolean acquired = execute(ErdLockScripts.ACQUIRE, tableKey, projectKey, userEmail, lockTtlMillis(),
+                heartbeatTtlMillis(), Objects.requireNonNullElse(userName, userEmail), reclaimTtlMillis(),
+                lockEntry(userEmail, userName, userColor)) == 1L;
+
+        if (acquired) {
+            heldLocks.put(tableKey, new HeldLock(userEmail, projectKey));
+            erdLockNearCache.invalidate(tableKey);
+            log.info("Table {} locked by {} ({})", tableKey, userEmail, userName);
+            return true;
+        }
+        // heartbeat-lapse 모드: 하트비트가 끊긴 락은 회수 주기를 기다리지 않고 바로 인수
+        if (reclaimOnHeartbeatLapse && stealIfStale(tableKey, projectKey, userEmail, userName, userColor)) {
+            return true;
+        }
+        log.warn("Table {} is already locked (requested by {})", tableKey, userEmail);
+        return false;
+    }
 
-        try {
-            boolean acquired = lock.tryLock(0, -1, TimeUnit.SECONDS);
+    public void unlockTable(Long tableKey, String userEmail) {
+        long projectKey = erdOwnershipIndexService.getProjectKeyByTableKey(tableKey);
+        if (execute(ErdLockScripts.RELEASE, tableKey, projectKey, userEmail) == 1L) {
+            heldLocks.remove(tableKey, new HeldLock(userEmail, projectKey));
+            erdLockNearCache.invalidate(tableKey);
+            log.info("Table {} unlocked by {}", tableKey, userEmail);
+        } else {
+            log.warn("Cannot unlock table {}: not locked by {}", tableKey, userEmail);
+        }
+    }
 
-            if (acquired) {
-                // 🔥 ownerKey에는 email만 저장
-                redisTemplate.opsForValue().set(ownerKey, userEmail, -1, TimeUnit.SECONDS);
+    /**
+     * 여러 테이블 일괄 획득 (전부 획득하거나 하나도 잡지 않음, Redis 왕복 1회)
+     * 같은 프로젝트의 테이블만 허용, 키는 tableKey 오름차순으로 정렬해 전달
+     */
+    public boolean lockTables(List<Long> tableKeys, String userEmail, String userName) {
+        return lockTables(tableKeys, userEmail, userName, null);
+    }
 
-                publishHeartbeat(tableKey, userEmail);
+    public boolean lockTables(List<Long> tableKeys, String userEmail, String userName, String userColor) {
+        List<Long> sorted = tableKeys.stream().distinct().sorted().toList();
+        if (sorted.isEmpty()) {
+            return true;
+        }
+        long projectKey = getSingleProjectKey(sorted);
+
+        List<Object> args = new ArrayList<>(List.of(userEmail, Long.toString(projectKey), lockTtlMillis(),
+                heartbeatTtlMillis(), Objects.requireNonNullElse(userName, userEmail), reclaimTtlMillis(),
+                lockEntry(userEmail, userName, userColor)));
+        sorted.forEach(tableKey -> args.add(tableKey.toString()));
+        Long result = redisTemplate.execute(ErdLockScripts.ACQUIRE_ALL,
+                batchKeys(sorted, projectKey, userEmail), args.toArray());
+
+        boolean acquired = result != null && result == 1L;
+        if (acquired) {
+            sorted.forEach(tableKey -> {
+                heldLocks.put(tableKey, new HeldLock(userEmail, projectKey));
+                erdLockNearCache.invalidate(tableKey);
+            });
+            log.info("Tables {} locked by {} ({})", sorted, userEmail, userName);
+        } else {
+            log.warn("Batch lock rejected, some of tables {} are locked (requested by {})", sorted, userEmail);
+        }
+        return acquired;
+    }
 
-                log.info("Table {} locked by {} ({})", tableKey, userEmail, userName);
-                return true;
-            } else {
-                Object rawOwner = redisTemplate.opsForValue().get(ownerKey);
-                String ownerEmail = rawOwner != null ? rawOwner.toString() : "unknown";
+    /**
+     * 여러 테이블 일괄 해제 (Redis 왕복 1회), 요청자 소유가 아닌 테이블은 건너뜀
+     *
+     * @return 실제로 해제한 tableKey 목록
+     */
+    public List<Long> unlockTables(List<Long> tableKeys, String userEmail) {
+        List<Long> sorted = tableKeys.stream().distinct().sorted().toList();
+        if (sorted.isEmpty()) {
+            return List.of();
+        }
+        long projectKey = getSingleProjectKey(sorted);
+
+        List<Object> args = new ArrayList<>(List.of(userEmail, Long.toString(projectKey)));
+        sorted.forEach(tableKey -> args.add(tableKey.toString()));
+        List<?> result = redisTemplate.execute(ErdLockScripts.RELEASE_ALL,
+                batchKeys(sorted, projectKey, userEmail), args.toArray());
+
+        List<Long> released = result == null ? List.of()
+                : result.stream().map(tableKey -> ((Number) tableKey).longValue()).toList();
+        released.forEach(tableKey -> {
+            heldLocks.remove(tableKey, new HeldLock(userEmail, projectKey));
+            erdLockNearCache.invalidate(tableKey);
+        });
+        log.info("Tables {} unlocked by {}", released, userEmail);
+        return released;
+    }
 
-                log.warn("Table {} is already locked by {} (requested by {})",
-                        tableKey, ownerEmail, userEmail);
+    /**
+     * 하트비트가 끊긴 락 인수 (비어 있거나 이미 자기 락이면 그대로 획득)
+     * 이전 소유자 노드의 heldLocks 항목은 다음 watchdog 연장 실패 시 제거된다.
+     */
+    private boolean stealIfStale(Long tableKey, long projectKey, String userEmail, String userName,
+                                 String userColor) {
+        boolean acquired = execute(ErdLockScripts.STEAL_IF_STALE, tableKey, projectKey, userEmail, lockTtlMillis(),
+                heartbeatTtlMillis(), Objects.requireNonNullElse(userName, userEmail), reclaimTtlMillis(),
+                lockEntry(userEmail, userName, userColor)) == 1L;
+        if (acquired) {
+            heldLocks.put(tableKey, new HeldLock(userEmail, projectKey));
+            erdLockNearCache.invalidate(tableKey);
+            log.info("Table {} taken over by {} (stale heartbeat)", tableKey, userEmail);
+        }
+        return acquired;
+    }
 
-                return false;
-            }
+    /**
+     * 컬럼 락 획득 (column-mode 전용)
+     * 같은 사용자가 이미 테이블 락을 보유하면 컬럼 락 없이 true (테이블 락이 컬럼을 포함)
+     */
+    public boolean lockColumn(Long tableKey, Long columnKey, String userEmail, String userName) {
+        requireColumnMode();
+        HeldColumnLock column = new HeldColumnLock(tableKey, columnKey,
+                erdOwnershipIndexService.getProjectKeyByTableKey(tableKey));
+        long result = executeColumn(ErdLockScripts.ACQUIRE_COLUMN, column, userEmail, lockTtlMillis(),
+                Objects.requireNonNullElse(userName, userEmail));
+
+        if (result == 1L) {
+            heldColumnLocks.put(column, userEmail);
+            log.info("Column {} of table {} locked by {} ({})", columnKey, tableKey, userEmail, userName);
+        } else if (result == 0L) {
+            log.warn("Column {} of table {} is already locked (requested by {})", columnKey, tableKey, userEmail);
+        }
+        return result != 0L;
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Failed to acquire lock for table {}: interrupted", tableKey);
-            return false;
+    public boolean unlockColumn(Long tableKey, Long columnKey, String userEmail) {
+        requireColumnMode();
+        HeldColumnLock column = new HeldColumnLock(tableKey, columnKey,
+                erdOwnershipIndexService.getProjectKeyByTableKey(tableKey));
+        heldColumnLocks.remove(column, userEmail);
+        if (executeColumn(ErdLockScripts.RELEASE_COLUMN, column, userEmail) == 1L) {
+            log.info("Column {} of table {} unlocked by {}", columnKey, tableKey, userEmail);
+            return true;
         }
+        log.warn("Cannot unlock column {} of table {}: not locked by {}", columnKey, tableKey, userEmail);
+        return false;
     }
 
-    public void unlockTable(Long tableKey, String userEmail) {
-        String lockKey = LOCK_KEY_PREFIX + tableKey;
-        String ownerKey = lockKey + LOCK_OWNER_SUFFIX;
+    /**
+     * 클라이언트 하트비트: 소유자일 때만 하트비트와 락 TTL 갱신
+     */
+    public void renewHeartbeat(Long tableKey, String userEmail) {
+        long projectKey = erdOwnershipIndexService.getProjectKeyByTableKey(tableKey);
+        long result = execute(ErdLockScripts.RENEW, tableKey, projectKey, userEmail, lockTtlMillis(),
+                heartbeatTtlMillis(), reclaimTtlMillis());
+        if (result == 0L) {
+            throw new GeneralException(ErrorStatus.LOCK_ABSENT);
+        }
+        if (result < 0L) {
+            throw new GeneralException(ErrorStatus.UNMATCH_WITH_LOCK_OWNER);
+        }
+        log.debug("Heartbeat renewed for table {} by {}", tableKey, userEmail);
+    }
 
-        Object rawOwner = redisTemplate.opsForValue().get(ownerKey);
-        String existingOwner = rawOwner != null ? rawOwner.toString() : null;
+    /**
+     * WebSocket 락 하트비트: 이 노드에서 사용자가 보유한 락 전체를 스크립트 한 번으로 갱신
+     * STOMP 세션은 노드에 고정되고 세션의 락 요청도 이 노드에서 처리되므로 heldLocks만 보면 된다.
+     * 만료/인수되어 갱신하지 못한 락은 목록에서 제거
+     *
+     * @return 갱신한 락 수
+     */
+    public int renewLocksOf(String userEmail) {
+        List<Map.Entry<Long, HeldLock>> held = heldLocks.entrySet().stream()
+                .filter(entry -> entry.getValue().owner().equals(userEmail))
+                .toList();
+        if (held.isEmpty()) {
+            return 0;
+        }
 
-        if (existingOwner != null && existingOwner.equals(userEmail)) {
+        List<String> keys = new ArrayList<>(1 + held.size() * 4);
+        keys.add(DEADLINES_KEY);
+        List<Object> args = new ArrayList<>(List.of(userEmail, lockTtlMillis(), heartbeatTtlMillis(),
+                reclaimTtlMillis()));
+        for (Map.Entry<Long, HeldLock> entry : held) {
+            String lockKey = LOCK_KEY_PREFIX + entry.getKey();
+            keys.add(lockKey);
+            keys.add(lockKey + LOCK_OWNER_SUFFIX);
+            keys.add(HEARTBEAT_KEY_PREFIX + entry.getKey());
+            keys.add(lockKey + LOCK_OWNER_NAME_SUFFIX);
+            args.add(entry.getKey().toString());
+            args.add(Long.toString(entry.getValue().projectKey()));
+        }
 
-            RLock lock = redissonClient.getLock(lockKey);
+        List<?> result = redisTemplate.execute(ErdLockScripts.RENEW_ALL, keys, args.toArray());
+        List<Long> lost = result == null ? List.of()
+                : result.stream().map(tableKey -> ((Number) tableKey).longValue()).toList();
+        lost.forEach(tableKey -> heldLocks.computeIfPresent(tableKey,
+                (key, current) -> current.owner().equals(userEmail) ? null : current));
+        log.debug("Lock heartbeat renewed {} locks of {} (lost: {})", held.size() - lost.size(), userEmail, lost);
+        return held.size() - lost.size();
+    }
+
+    /**
+     * 이 노드가 획득한 락의 TTL 연장 (TTL의 1/3 주기)
+     * 다른 노드에서 해제/인수된 락은 연장에 실패하므로 목록에서 제거
+     * heartbeat-lapse 모드에서는 회수 기한을 연장하지 않는다 (클라이언트 하트비트만 연장)
+     */
+    @Scheduled(fixedRate = LOCK_TTL_SECONDS * 1000 / 3)
+    public void renewHeldLocks() {
+        heldLocks.forEach((tableKey, held) -> {
             try {
-                if (lock.isHeldByCurrentThread()) lock.unlock();
-                else if (lock.isLocked()) lock.forceUnlock();
+                if (execute(ErdLockScripts.RENEW, tableKey, held.projectKey(), held.owner(),
+                        lockTtlMillis(), 0L, reclaimOnHeartbeatLapse ? 0L : lockTtlMillis()) != 1L) {
+                    heldLocks.remove(tableKey, held);
+                }
             } catch (Exception e) {
-                log.warn("Error unlocking table {}: {}", tableKey, e.getMessage());
+                log.warn("Failed to renew lock for table {}: {}", tableKey, e.getMessage());
             }
-
-            redisTemplate.delete(ownerKey);
-            redisTemplate.delete(HEARTBEAT_KEY_PREFIX + tableKey);
-
-            log.info("Table {} unlocked by {}", tableKey, userEmail);
-        } else {
-            log.warn("Cannot unlock table {}: not locked by {}", tableKey, userEmail);
-        }
+        });
+        heldColumnLocks.forEach((held, owner) -> {
+            try {
+                if (executeColumn(ErdLockScripts.RENEW_COLUMN, held, owner, lockTtlMillis()) != 1L) {
+                    heldColumnLocks.remove(held, owner);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to renew lock for column {} of table {}: {}",
+                        held.columnKey(), held.tableKey(), e.getMessage());
+            }
+        });
     }
 
     public LockInfo getLockInfo(Long tableKey) {
         String ownerKey = LOCK_KEY_PREFIX + tableKey + LOCK_OWNER_SUFFIX;
-        Object raw = redisTemplate.opsForValue().get(ownerKey);
+        List<Object> values = redisTemplate.opsForValue()
+                .multiGet(List.of(ownerKey, LOCK_KEY_PREFIX + tableKey + LOCK_OWNER_NAME_SUFFIX));
+        Object raw = values != null ? values.get(0) : null;
         String ownerEmail = raw != null ? raw.toString() : null;
 
         if (ownerEmail == null) return null;
 
-        return new LockInfo(ownerEmail, null);
+        Object rawName = values.get(1);
+        return new LockInfo(ownerEmail, rawName != null ? rawName.toString() : null);
     }
 
     public boolean isLocked(Long tableKey) {
-        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + tableKey);
-        return lock.isLocked();
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_KEY_PREFIX + tableKey));
     }
 
     public boolean isLockedByUser(Long tableKey, String userEmail) {
@@ -109,67 +343,218 @@ public class ErdLockService {
         return lockInfo != null && lockInfo.getUserEmail().equals(userEmail);
     }
 
+    /**
+     * 연결 해제 시 사용자가 보유한 테이블 락 일괄 해제 (사용자 인덱스 기준, 보유 락 수에 비례)
+     * 컬럼 락은 releaseColumnLocksByUser로 따로 해제한다.
+     */
     public void releaseAllLocksByUser(String userEmail) {
-
-        var scanOptions = org.springframework.data.redis.core.ScanOptions.scanOptions()
-                .match(LOCK_KEY_PREFIX + "*" + LOCK_OWNER_SUFFIX)
-                .count(100)
-                .build();
+        Map<Object, Object> held;
+        try {
+            held = redisTemplate.opsForHash().entries(USER_INDEX_PREFIX + userEmail);
+        } catch (Exception e) {
+            log.error("Error while reading locks of user {}: {}", userEmail, e.getMessage(), e);
+            return;
+        }
 
         int releasedCount = 0;
+        for (Map.Entry<Object, Object> entry : held.entrySet()) {
+            try {
+                Long tableKey = Long.parseLong(entry.getKey().toString());
+                long projectKey = Long.parseLong(entry.getValue().toString());
+
+                // 만료/인수되어 이미 남의 락이면 스크립트가 인덱스 항목만 지우고 해제하지 않음
+                if (execute(ErdLockScripts.RELEASE, tableKey, projectKey, userEmail) == 1L) {
+                    heldLocks.remove(tableKey, new HeldLock(userEmail, projectKey));
+                    erdLockNearCache.invalidate(tableKey);
+                    releasedCount++;
+                    log.info("Released lock {} for disconnected user {}", tableKey, userEmail);
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid lock index entry for user {}: {}", userEmail, entry);
+            } catch (Exception e) {
+                log.error("Error while releasing lock {} of user {}: {}", entry.getKey(), userEmail, e.getMessage(), e);
+            }
+        }
 
-        try (var cursor = redisTemplate.scan(scanOptions)) {
-
-            while (cursor.hasNext()) {
-                String ownerKey = cursor.next();
-                Object rawOwner = redisTemplate.opsForValue().get(ownerKey);
-                String ownerEmail = rawOwner != null ? rawOwner.toString() : null;
-
-                if (ownerEmail != null && ownerEmail.equals(userEmail)) {
+        if (releasedCount > 0) {
+            log.info("Released {} locks for user {}", releasedCount, userEmail);
+        }
+    }
 
-                    String lockKeyStr = ownerKey.replace(LOCK_OWNER_SUFFIX, "");
-                    String tableKeyStr = lockKeyStr.replace(LOCK_KEY_PREFIX, "");
+    /**
+     * 연결 해제 시 이 노드에서 잡은 컬럼 락 해제 (STOMP 세션은 노드에 고정되므로 다른 노드 몫은 만료 회수로 처리)
+     *
+     * @return 실제로 해제한 컬럼 락 (호출 측이 COLUMN_UNLOCK 브로드캐스트)
+     */
+    public List<ReleasedColumnLock> releaseColumnLocksByUser(String userEmail) {
+        List<ReleasedColumnLock> released = new ArrayList<>();
+        heldColumnLocks.forEach((held, owner) -> {
+            if (!owner.equals(userEmail)) {
+                return;
+            }
+            try {
+                heldColumnLocks.remove(held, owner);
+                if (executeColumn(ErdLockScripts.RELEASE_COLUMN, held, owner) == 1L) {
+                    released.add(new ReleasedColumnLock(held.tableKey(), held.columnKey(), held.projectKey(), owner));
+                }
+            } catch (Exception e) {
+                log.error("Error while releasing column lock {} of user {}: {}",
+                        held.columnKey(), userEmail, e.getMessage(), e);
+            }
+        });
+        return released;
+    }
 
-                    try {
-                        Long tableKey = Long.parseLong(tableKeyStr);
+    /**
+     * 프로젝트의 살아 있는 컬럼 락 (만료 판단은 Redis 서버 시각 기준, 스크립트 한 번)
+     */
+    public List<ColumnLockEntry> getProjectColumnLockSnapshot(Long projectKey) {
+        List<?> entries = redisTemplate.execute(ErdLockScripts.COLUMN_SNAPSHOT,
+                List.of(PROJECT_INDEX_PREFIX + projectKey + LOCK_COLUMNS_SUFFIX));
+        if (entries == null) {
+            return List.of();
+        }
+        List<ColumnLockEntry> snapshot = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            try {
+                snapshot.add(objectMapper.convertValue(entry, ColumnLockEntry.class));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid project column lock entry: projectKey={}, entry={}", projectKey, entry);
+            }
+        }
+        return snapshot;
+    }
 
-                        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + tableKey);
-                        if (lock.isLocked()) lock.forceUnlock();
+    /**
+     * 만료된 컬럼 락 회수 (선출된 한 노드에서만 호출, 노드 장애 등으로 갱신이 끊긴 컬럼 락)
+     *
+     * @param limit 한 번에 처리할 최대 건수
+     * @return 회수한 컬럼 락 (호출 측이 COLUMN_UNLOCK 브로드캐스트)
+     */
+    public List<ReleasedColumnLock> reclaimExpiredColumnLocks(int limit) {
+        List<?> due = redisTemplate.execute(ErdLockScripts.COLUMN_RECLAIM, List.of(COLUMN_DEADLINES_KEY), limit);
+        if (due == null || due.isEmpty()) {
+            return List.of();
+        }
 
-                        redisTemplate.delete(ownerKey);
-                        redisTemplate.delete(HEARTBEAT_KEY_PREFIX + tableKey);
+        List<ReleasedColumnLock> reclaimed = new ArrayList<>(due.size());
+        for (Object member : due) {
+            // member = "{tableKey}:{columnKey}:{projectKey}:{owner}" (스크립트에서 형식 검증됨)
+            String[] parts = member.toString().split(":", 4);
+            HeldColumnLock column = new HeldColumnLock(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]));
+            heldColumnLocks.remove(column, parts[3]);
+            reclaimed.add(new ReleasedColumnLock(column.tableKey(), column.columnKey(), column.projectKey(),
+                    parts[3]));
+            log.info("Reclaimed lock for column {} of table {} (owner: {})",
+                    column.columnKey(), column.tableKey(), parts[3]);
+        }
+        return reclaimed;
+    }
 
-                        releasedCount++;
-                        log.info("Released lock {} for disconnected user {}", tableKey, userEmail);
+    /**
+     * 프로젝트의 락 목록 (tableKey → 소유자)
+     */
+    public Map<Long, String> getProjectLocks(Long projectKey) {
+        Map<Long, String> locks = new HashMap<>();
+        getProjectLockSnapshot(projectKey).forEach((tableKey, entry) -> locks.put(tableKey, entry.owner()));
+        return locks;
+    }
 
-                    } catch (NumberFormatException e) {
-                        log.warn("Invalid table key format: {}", tableKeyStr);
-                    }
-                }
+    /**
+     * 프로젝트의 락 스냅샷 (tableKey → 소유자/이름/색상/획득 시각), 락 수와 관계없이 HGETALL 한 번
+     * TTL로 만료된 락은 기한 회수(reclaimExpiredLocks) 전까지 잠깐 남아 있을 수 있다.
+     */
+    public Map<Long, TableLockEntry> getProjectLockSnapshot(Long projectKey) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(PROJECT_INDEX_PREFIX + projectKey);
+        Map<Long, TableLockEntry> snapshot = new HashMap<>();
+        entries.forEach((tableKey, value) -> {
+            try {
+                snapshot.put(Long.parseLong(tableKey.toString()),
+                        objectMapper.convertValue(value, TableLockEntry.class));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid project lock entry: projectKey={}, tableKey={}", projectKey, tableKey);
             }
+        });
+        return snapshot;
+    }
 
-        } catch (Exception e) {
-            log.error("Error while scanning locks: {}", e.getMessage(), e);
+    /**
+     * 회수 기한이 지난 락 처리 (선출된 한 노드에서만 호출)
+     * 만료되었거나 하트비트가 끊겨 풀린 락만 반환 (호출 측이 TABLE_UNLOCK 브로드캐스트)
+     *
+     * @param limit 한 번에 처리할 최대 건수
+     */
+    public List<ReclaimedLock> reclaimExpiredLocks(int limit) {
+        // 기한 조회와 회수를 스크립트 한 번에 처리 (기한 비교는 Redis 서버 시각 기준)
+        List<?> due = redisTemplate.execute(ErdLockScripts.RECLAIM, List.of(DEADLINES_KEY, LOCKED_PROJECTS_KEY),
+                limit, reclaimOnHeartbeatLapse ? 1L : 0L);
+        if (due == null || due.isEmpty()) {
+            return List.of();
         }
 
-        if (releasedCount > 0) {
-            log.info("Released {} locks for user {}", releasedCount, userEmail);
+        List<ReclaimedLock> reclaimed = new ArrayList<>(due.size());
+        for (Object member : due) {
+            // member = "{tableKey}:{projectKey}:{owner}" (스크립트에서 형식 검증됨)
+            String[] parts = member.toString().split(":", 3);
+            long tableKey = Long.parseLong(parts[0]);
+            long projectKey = Long.parseLong(parts[1]);
+            String owner = parts[2];
+            heldLocks.remove(tableKey, new HeldLock(owner, projectKey));
+            erdLockNearCache.invalidate(tableKey);
+            reclaimed.add(new ReclaimedLock(tableKey, projectKey, owner));
+            log.info("Reclaimed lock for table {} (owner: {})", tableKey, owner);
         }
+        return reclaimed;
     }
 
-    public void publishHeartbeat(Long tableKey, String userEmail) {
-        String heartbeatKey = HEARTBEAT_KEY_PREFIX + tableKey;
-        String ownerKey = LOCK_KEY_PREFIX + tableKey + LOCK_OWNER_SUFFIX;
+    /**
+     * 만료(노드 장애 등)되었거나 다른 소유자로 바뀐 락의 인덱스 항목 정리
+     * 회수 기한이 없는 항목(기한 도입 이전에 획득한 락)의 예비 정리용
+     * 락이 있는 프로젝트 인덱스만 순회하므로 비용은 보유 중인 락 수에 비례
+     *
+     * @return 정리한 항목 수
+     */
+    public int pruneExpiredLocks() {
+        Set<Object> projectKeys = redisTemplate.opsForSet().members(LOCKED_PROJECTS_KEY);
+        if (projectKeys == null) {
+            return 0;
+        }
 
-        Object rawOwner = redisTemplate.opsForValue().get(ownerKey);
-        String ownerEmail = rawOwner != null ? rawOwner.toString() : null;
+        int prunedCount = 0;
+        for (Object rawProjectKey : projectKeys) {
+            long projectKey = Long.parseLong(rawProjectKey.toString());
+            Map<Long, String> locks = getProjectLocks(projectKey);
+            if (locks.isEmpty()) {
+                redisTemplate.opsForSet().remove(LOCKED_PROJECTS_KEY, rawProjectKey);
+                continue;
+            }
 
-        if (ownerEmail != null && ownerEmail.equals(userEmail)) {
-            redisTemplate.opsForValue().set(heartbeatKey, userEmail,
-                    HEARTBEAT_TTL_SECONDS, TimeUnit.SECONDS);
+            List<Long> tableKeys = new ArrayList<>(locks.keySet());
+            List<Object> owners = redisTemplate.opsForValue().multiGet(tableKeys.stream()
+                    .map(tableKey -> LOCK_KEY_PREFIX + tableKey + LOCK_OWNER_SUFFIX)
+                    .toList());
+
+            for (int i = 0; i < tableKeys.size(); i++) {
+                Long tableKey = tableKeys.get(i);
+                String indexedOwner = locks.get(tableKey);
+                Object currentOwner = owners != null ? owners.get(i) : null;
+                if (currentOwner != null && currentOwner.toString().equals(indexedOwner)) {
+                    continue;
+                }
+                if (execute(ErdLockScripts.PRUNE, tableKey, projectKey, indexedOwner) == 1L) {
+                    prunedCount++;
+                    log.info("Pruned expired lock index entry: table {} (owner: {})", tableKey, indexedOwner);
+                }
+            }
+        }
+        return prunedCount;
+    }
 
-            log.debug("Heartbeat published for table {} by {}", tableKey, userEmail);
-        } else {
+    public void publishHeartbeat(Long tableKey, String userEmail) {
+        try {
+            renewHeartbeat(tableKey, userEmail);
+        } catch (GeneralException e) {
             log.warn("Heartbeat rejected for table {}: not owned by {}", tableKey, userEmail);
         }
     }
@@ -183,18 +568,167 @@ public class ErdLockService {
         return Boolean.TRUE.equals(redisTemplate.hasKey(heartbeatKey));
     }
 
+    /**
+     * 현재 사용자가 테이블 락을 보유했는지 검증 (near-cache 사용, 수정 요청용)
+     */
     public void validateTableLock(Long tableKey) {
-        Integer userEmail = SecurityUtil.getCurrentUserKey();
+        validateOwner(tableKey, erdLockNearCache.getOwner(tableKey, this::loadOwner));
+    }
+
+    /**
+     * 현재 사용자가 테이블 락을 보유했는지 Redis에서 직접 검증 (삭제 등 파괴적 작업용)
+     */
+    public void validateTableLockStrict(Long tableKey) {
+        validateOwner(tableKey, loadOwner(tableKey));
+    }
+
+    /**
+     * 지정한 사용자가 테이블 락을 보유했는지 검증 (near-cache 사용, SecurityContext가 없는 WebSocket 요청용)
+     */
+    public void validateTableLock(Long tableKey, Integer userKey) {
+        checkOwner(erdLockNearCache.getOwner(tableKey, this::loadOwner), userKey);
+    }
+
+    /**
+     * 컬럼 수정 권한 검증 (near-cache 사용): 테이블 락 소유자이거나, 테이블 락이 없으면 컬럼 락 소유자
+     * 테이블 락 검증은 Redis 왕복 없이 끝나고, column-mode에서 테이블 락이 없을 때만 HGET 한 번
+     */
+    public void validateColumnLock(Long tableKey, Long columnKey) {
+        validateColumnOwner(tableKey, columnKey, erdLockNearCache.getOwner(tableKey, this::loadOwner));
+    }
+
+    /**
+     * 컬럼 수정 권한을 Redis에서 직접 검증 (삭제 등 파괴적 작업용)
+     */
+    public void validateColumnLockStrict(Long tableKey, Long columnKey) {
+        validateColumnOwner(tableKey, columnKey, loadOwner(tableKey));
+    }
+
+    private void validateColumnOwner(Long tableKey, Long columnKey, String tableOwner) {
+        if (tableOwner != null || !columnMode) {
+            validateOwner(tableKey, tableOwner);
+            return;
+        }
+
+        validateOwner(tableKey, loadColumnOwner(tableKey, columnKey));
+    }
+
+    private void validateOwner(Long tableKey, String owner) {
+        checkOwner(owner, SecurityUtil.getCurrentUserKey());
+    }
 
-        if (!isLocked(tableKey)) {
+    private void checkOwner(String owner, Integer userKey) {
+        if (owner == null) {
             throw new GeneralException(ErrorStatus.LOCK_ABSENT);
         }
 
-        if (!isLockedByUser(tableKey, userEmail.toString())) {
+        if (!owner.equals(userKey.toString())) {
             throw new GeneralException(ErrorStatus.UNMATCH_WITH_LOCK_OWNER);
         }
     }
 
+    /**
+     * 소유자 키 GET 한 번 (소유자 키는 락 키와 같은 TTL로 함께 생성/삭제됨)
+     */
+    private String loadOwner(long tableKey) {
+        Object raw = redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + tableKey + LOCK_OWNER_SUFFIX);
+        return raw != null ? raw.toString() : null;
+    }
+
+    /**
+     * 살아 있는 컬럼 락 소유자 (만료 시각은 Redis 서버 시각으로 기록되므로 비교도 스크립트에서 서버 시각으로)
+     */
+    private String loadColumnOwner(long tableKey, long columnKey) {
+        return redisTemplate.execute(ErdLockScripts.COLUMN_OWNER,
+                List.of(LOCK_KEY_PREFIX + tableKey + LOCK_COLUMNS_SUFFIX), Long.toString(columnKey));
+    }
+
+    private void requireColumnMode() {
+        if (!columnMode) {
+            throw new GeneralException(ErrorStatus.LOCK_COLUMN_MODE_DISABLED);
+        }
+    }
+
+    private long execute(RedisScript<Long> script, Long tableKey, long projectKey, String owner, Object... extraArgs) {
+        String lockKey = LOCK_KEY_PREFIX + tableKey;
+        Object[] args = new Object[extraArgs.length + 3];
+        args[0] = owner;
+        args[1] = tableKey.toString();
+        args[2] = Long.toString(projectKey);
+        System.arraycopy(extraArgs, 0, args, 3, extraArgs.length);
+
+        Long result = redisTemplate.execute(script,
+                List.of(lockKey, lockKey + LOCK_OWNER_SUFFIX, HEARTBEAT_KEY_PREFIX + tableKey,
+                        lockKey + LOCK_OWNER_NAME_SUFFIX, PROJECT_INDEX_PREFIX + projectKey,
+                        USER_INDEX_PREFIX + owner, LOCKED_PROJECTS_KEY, DEADLINES_KEY,
+                        lockKey + LOCK_COLUMNS_SUFFIX),
+                args);
+        return result != null ? result : 0L;
+    }
+
+    private long executeColumn(RedisScript<Long> script, HeldColumnLock column, String owner, Object... extraArgs) {
+        String lockKey = LOCK_KEY_PREFIX + column.tableKey();
+        Object[] args = new Object[extraArgs.length + 4];
+        args[0] = owner;
+        args[1] = Long.toString(column.columnKey());
+        args[2] = Long.toString(column.tableKey());
+        args[3] = Long.toString(column.projectKey());
+        System.arraycopy(extraArgs, 0, args, 4, extraArgs.length);
+
+        Long result = redisTemplate.execute(script,
+                List.of(lockKey, lockKey + LOCK_OWNER_SUFFIX, lockKey + LOCK_COLUMNS_SUFFIX,
+                        PROJECT_INDEX_PREFIX + column.projectKey() + LOCK_COLUMNS_SUFFIX, COLUMN_DEADLINES_KEY),
+                args);
+        return result != null ? result : 0L;
+    }
+
+    private TableLockEntry lockEntry(String userEmail, String userName, String userColor) {
+        return new TableLockEntry(userEmail, Objects.requireNonNullElse(userName, userEmail), userColor,
+                System.currentTimeMillis());
+    }
+
+    private long getSingleProjectKey(List<Long> tableKeys) {
+        long projectKey = erdOwnershipIndexService.getProjectKeyByTableKey(tableKeys.get(0));
+        for (Long tableKey : tableKeys) {
+            if (erdOwnershipIndexService.getProjectKeyByTableKey(tableKey) != projectKey) {
+                throw new GeneralException(ErrorStatus.LOCK_PROJECT_MISMATCH);
+            }
+        }
+        return projectKey;
+    }
+
+    /**
+     * 일괄 스크립트 KEYS: 인덱스 4개 + 테이블마다 (락, 소유자, 하트비트, 소유자 이름, 컬럼 락)
+     */
+    private List<String> batchKeys(List<Long> tableKeys, long projectKey, String owner) {
+        List<String> keys = new ArrayList<>(4 + tableKeys.size() * 5);
+        keys.add(PROJECT_INDEX_PREFIX + projectKey);
+        keys.add(USER_INDEX_PREFIX + owner);
+        keys.add(LOCKED_PROJECTS_KEY);
+        keys.add(DEADLINES_KEY);
+        for (Long tableKey : tableKeys) {
+            String lockKey = LOCK_KEY_PREFIX + tableKey;
+            keys.add(lockKey);
+            keys.add(lockKey + LOCK_OWNER_SUFFIX);
+            keys.add(HEARTBEAT_KEY_PREFIX + tableKey);
+            keys.add(lockKey + LOCK_OWNER_NAME_SUFFIX);
+            keys.add(lockKey + LOCK_COLUMNS_SUFFIX);
+        }
+        return keys;
+    }
+
+    private static long lockTtlMillis() {
+        return TimeUnit.SECONDS.toMillis(LOCK_TTL_SECONDS);
+    }
+
+    private static long heartbeatTtlMillis() {
+        return TimeUnit.SECONDS.toMillis(HEARTBEAT_TTL_SECONDS);
+    }
+
+    private long reclaimTtlMillis() {
+        return reclaimOnHeartbeatLapse ? heartbeatTtlMillis() : lockTtlMillis();
+    }
+
     private LockInfo convertToLockInfo(Object value) {
         if (value == null) return null;
         try {
@@ -0,0 +1,119 @@
+package com.yaldi.domain.erd.service;
+
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdRelationRepository;
+import com.yaldi.domain.erd.repository.ErdTableRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.global.util.BoundedLongLongMap;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * ERD 소유 관계 인덱스 (tableKey / columnKey / relationKey → projectKey)
+ *
+ * 브로드캐스트 라우팅에 필요한 projectKey 조회를 메모리에서 처리한다.
+ * - 생성/삭제 경로(ErdTableService, ErdColumnService, ErdRelationService, VersionRollbackService)에서 갱신
+ * - 미스 시 projectKey만 조회하는 단일 쿼리로 DB fallback 후 적재
+ * - 엔티티의 소속 프로젝트는 변경되지 않으므로 별도 무효화 없이 일관성이 유지됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ErdOwnershipIndexService {
+
+    private final ErdTableRepository erdTableRepository;
+    private final ErdColumnRepository erdColumnRepository;
+    private final ErdRelationRepository erdRelationRepository;
+
+    @Value("${yaldi.erd.ownership-index.max-entries:100000}")
+    private int maxEntries;
+
+    private BoundedLongLongMap tableIndex;
+    private BoundedLongLongMap columnIndex;
+    private BoundedLongLongMap relationIndex;
+
+    @PostConstruct
+    public void init() {
+        tableIndex = new BoundedLongLongMap(maxEntries);
+        columnIndex = new BoundedLongLongMap(maxEntries);
+        relationIndex = new BoundedLongLongMap(maxEntries);
+    }
+
+    public long getProjectKeyByTableKey(long tableKey) {
+        long projectKey = tableIndex.get(tableKey);
+        if (projectKey != BoundedLongLongMap.NO_VALUE) {
+            return projectKey;
+        }
+
+        projectKey = erdTableRepository.findProjectKeyByTableKey(tableKey)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_TABLE_NOT_FOUND));
+        tableIndex.put(tableKey, projectKey);
+        return projectKey;
+    }
+
+    public long getProjectKeyByColumnKey(long columnKey) {
+        long projectKey = columnIndex.get(columnKey);
+        if (projectKey != BoundedLongLongMap.NO_VALUE) {
+            return projectKey;
+        }
+
+        projectKey = erdColumnRepository.findProjectKeyByColumnKey(columnKey)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_COLUMN_NOT_FOUND));
+        columnIndex.put(columnKey, projectKey);
+        return projectKey;
+    }
+
+    public long getProjectKeyByRelationKey(long relationKey) {
+        long projectKey = relationIndex.get(relationKey);
+        if (projectKey != BoundedLongLongMap.NO_VALUE) {
+            return projectKey;
+        }
+
+        projectKey = erdRelationRepository.findProjectKeyByRelationKey(relationKey)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_RELATION_NOT_FOUND));
+        relationIndex.put(relationKey, projectKey);
+        return projectKey;
+    }
+
+    public void putTable(long tableKey, long projectKey) {
+        tableIndex.put(tableKey, projectKey);
+    }
+
+    public void putColumn(long columnKey, long projectKey) {
+        columnIndex.put(columnKey, projectKey);
+    }
+
+    public void putRelation(long relationKey, long projectKey) {
+        relationIndex.put(relationKey, projectKey);
+    }
+
+    /**
+     * 테이블과 소속 활성 컬럼을 인덱스에서 제거 (컬럼 키는 DB에서 조회)
+     * 테이블/컬럼 soft delete 전에 호출해야 한다.
+     */
+    public void removeTable(long tableKey) {
+        removeTable(tableKey, erdColumnRepository.findColumnKeysByTableKey(tableKey));
+    }
+
+    /**
+     * 테이블과 주어진 컬럼들을 인덱스에서 제거 (호출 측이 이미 컬럼 목록을 가진 경우)
+     */
+    public void removeTable(long tableKey, Collection<Long> columnKeys) {
+        tableIndex.remove(tableKey);
+        columnKeys.forEach(columnIndex::remove);
+    }
+
+    public void removeColumn(long columnKey) {
+        columnIndex.remove(columnKey);
+    }
+
+    public void removeRelation(long relationKey) {
+        relationIndex.remove(relationKey);
+    }
+}
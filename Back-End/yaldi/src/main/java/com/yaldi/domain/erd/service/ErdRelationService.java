@@ -15,6 +15,7 @@ import com.yaldi.global.response.status.ErrorStatus;
 import java.util.ArrayList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +36,8 @@ public class ErdRelationService {
     private final ErdRelationRepository erdRelationRepository;
     private final EditHistoryService editHistoryService;
     private final ErdColumnRepository erdColumnRepository;
+    private final ErdOwnershipIndexService erdOwnershipIndexService;
+    private final ErdRevisionService erdRevisionService;
 
     /**
      * 프로젝트의 ERD 관계 목록 조회
@@ -71,6 +74,7 @@ public class ErdRelationService {
                 .build();
 
         ErdRelation savedRelation = erdRelationRepository.save(relation);
+        erdOwnershipIndexService.putRelation(savedRelation.getRelationKey(), projectKey);
         log.info("Created ERD relation: {}", savedRelation.getRelationKey());
 
         List<ErdColumn> pks = erdColumnRepository.findByTableKeyAndIsPrimaryKeyTrue(
@@ -95,6 +99,7 @@ public class ErdRelationService {
                     .isUnique(pk.getIsUnique())
                     .build();
             ErdColumn savedColumn = erdColumnRepository.save(newColumn);
+            erdOwnershipIndexService.putColumn(savedColumn.getColumnKey(), projectKey);
             toColumnKey = savedColumn.getColumnKey();
             columns.add(ErdColumnResponse.from(savedColumn));
         }
@@ -102,6 +107,9 @@ public class ErdRelationService {
         // relation에 toColumnKey 설정
         savedRelation.updateColumns(savedRelation.getFromColumnKey(),
                 toColumnKey);
+        // toColumnKey 설정으로 증가한 revision으로 응답
+        erdRelationRepository.flush();
+        erdRevisionService.nextProjectRevision(projectKey);
 
         // 히스토리 기록
         if (userKey != null) {
@@ -126,6 +134,10 @@ public class ErdRelationService {
         // 수정 전 상태 저장 (히스토리용)
         Map<String, Object> beforeState = convertRelationToMap(relation);
 
+        erdRevisionService.checkRevision(request.getRevision(), relation.getRevision(),
+                () -> ErdRelationResponse.from(relation));
+        Long revisionBefore = relation.getRevision();
+
         if (request.getFromColumnKey() != null || request.getToColumnKey() != null) {
             relation.updateColumns(request.getFromColumnKey(), request.getToColumnKey());
         }
@@ -139,6 +151,16 @@ public class ErdRelationService {
             relation.updateReferentialActions(request.getOnDeleteAction(), request.getOnUpdateAction());
         }
 
+        // @Version 조건부 UPDATE 실행 후 증가한 revision으로 응답
+        try {
+            erdRelationRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw erdRevisionService.concurrentConflict(e,
+                    () -> erdRelationRepository.findById(relationKey).map(ErdRelationResponse::from).orElse(null));
+        }
+        if (!revisionBefore.equals(relation.getRevision())) {
+            erdRevisionService.nextProjectRevision(relation.getProjectKey());
+        }
         log.info("Updated ERD relation: {}", relationKey);
 
         // 히스토리 기록
@@ -162,6 +184,8 @@ public class ErdRelationService {
         Map<String, Object> beforeState = convertRelationToMap(relation);
 
         relation.softDelete();
+        erdOwnershipIndexService.removeRelation(relationKey);
+        erdRevisionService.nextProjectRevision(relation.getProjectKey());
         log.info("Deleted ERD relation: {}", relationKey);
 
         // 히스토리 기록
@@ -174,9 +198,7 @@ public class ErdRelationService {
      * Relation 키로 Project 키 조회
      */
     public Long getProjectKeyByRelationKey(Long relationKey) {
-        ErdRelation relation = erdRelationRepository.findById(relationKey)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_RELATION_NOT_FOUND));
-        return relation.getProjectKey();
+        return erdOwnershipIndexService.getProjectKeyByRelationKey(relationKey);
     }
 
     /**
@@ -0,0 +1,88 @@
+package com.yaldi.domain.erd.service;
+
+import com.yaldi.domain.erd.repository.ErdProjectRevisionRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import java.util.Collection;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ERD 낙관적 동시성 제어
+ *
+ * - 엔티티 revision: 수정 요청에 revision이 있으면 현재 값과 비교해 다르면 409 + 현재 상태 반환.
+ *   조회~flush 사이의 동시 수정은 @Version 조건부 UPDATE가 막고, 새 트랜잭션에서 읽은 현재 상태와 함께 409로 바꾼다.
+ * - 프로젝트 revision: ERD 내용이 바뀌는 쓰기마다 1씩 증가. 클라이언트는 전체 ERD 조회 시 받은 값과 비교해 누락 여부를 판단한다.
+ *   엔티티 revision에서 제외된 위치/컬럼 순서 변경, 컬럼 순서 일괄 변경, 드래그 위치 write-behind, 버전 롤백도 포함한다.
+ *
+ * revision을 보낸 비구조 수정(이름/타입/색상 등)은 lock-free-edits가 켜져 있으면 락 검증 왕복을 생략한다.
+ * 삭제, PK/FK 변경 같은 구조 변경은 revision과 관계없이 기존 락 검증을 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ErdRevisionService {
+
+    private final ErdProjectRevisionRepository erdProjectRevisionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${yaldi.erd.revision.lock-free-edits:true}")
+    private boolean lockFreeEdits;
+
+    /**
+     * revision 조건부 수정이면 락 검증을 생략해도 되는지
+     */
+    public boolean replacesLock(Long expectedRevision) {
+        return lockFreeEdits && expectedRevision != null;
+    }
+
+    /**
+     * 요청 revision이 현재 revision과 다르면 현재 상태와 함께 충돌 (revision 없는 요청은 검사하지 않음)
+     */
+    public void checkRevision(Long expectedRevision, Long currentRevision, Supplier<Object> currentState) {
+        if (expectedRevision == null || expectedRevision.equals(currentRevision)) {
+            return;
+        }
+        log.info("ERD revision conflict: expected={}, current={}", expectedRevision, currentRevision);
+        throw new GeneralException(ErrorStatus.ERD_REVISION_CONFLICT, currentState.get());
+    }
+
+    /**
+     * flush 중 @Version 충돌(조회 이후 다른 요청이 먼저 커밋)을 현재 상태를 담은 충돌로 변환
+     * 실패한 영속성 컨텍스트에는 수정 중인 엔티티가 남아 있으므로 새 읽기 전용 트랜잭션에서 다시 읽는다.
+     */
+    public GeneralException concurrentConflict(OptimisticLockingFailureException cause,
+                                               Supplier<Object> currentState) {
+        TransactionTemplate readCurrent = new TransactionTemplate(transactionManager);
+        readCurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readCurrent.setReadOnly(true);
+        Object current = readCurrent.execute(status -> currentState.get());
+        log.info("ERD revision conflict on flush: {}", cause.getMessage());
+        return new GeneralException(ErrorStatus.ERD_REVISION_CONFLICT, current, cause);
+    }
+
+    /**
+     * 프로젝트 revision 증가 (ERD 쓰기 트랜잭션 안에서 호출)
+     */
+    public long nextProjectRevision(Long projectKey) {
+        return erdProjectRevisionRepository.increment(projectKey);
+    }
+
+    /**
+     * 여러 프로젝트 revision을 한 번에 증가 (드래그 위치 write-behind처럼 여러 프로젝트를 함께 저장하는 경우)
+     */
+    public void nextProjectRevisions(Collection<Long> projectKeys) {
+        erdProjectRevisionRepository.incrementAll(projectKeys);
+    }
+
+    public long getProjectRevision(Long projectKey) {
+        return erdProjectRevisionRepository.find(projectKey);
+    }
+}
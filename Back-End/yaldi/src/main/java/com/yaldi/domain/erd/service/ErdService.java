@@ -18,6 +18,7 @@ public class ErdService {
     private final ErdTableService erdTableService;
     private final ErdColumnService erdColumnService;
     private final ErdRelationService erdRelationService;
+    private final ErdRevisionService erdRevisionService;
 
     /**
      * 프로젝트의 전체 ERD 데이터 조회
@@ -28,6 +29,9 @@ public class ErdService {
      * - 개선율: 테이블 100개 기준 103번 → 3번 (97% 감소)
      */
     public ErdResponse getErdByProjectKey(Long projectKey) {
+        // 0. 프로젝트 revision을 먼저 읽어, 이후 조회와 겹친 쓰기가 있으면 클라이언트가 다음 이벤트로 따라잡도록 함
+        long revision = erdRevisionService.getProjectRevision(projectKey);
+
         // 1. 테이블 전체 조회 (1번 쿼리)
         var tables = erdTableService.getTablesByProjectKey(projectKey);
 
@@ -39,6 +43,7 @@ public class ErdService {
 
         return ErdResponse.builder()
                 .projectKey(projectKey)
+                .revision(revision)
                 .tables(tables)
                 .columns(columns)
                 .relations(relations)
@@ -8,12 +8,13 @@ import com.yaldi.domain.erd.repository.ErdTableRepository;
 import com.yaldi.domain.edithistory.service.EditHistoryService;
 import com.yaldi.global.exception.GeneralException;
 import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.websocket.room.ProjectRoomRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,9 @@ public class ErdTableService {
     private final ErdTableRepository erdTableRepository;
     private final ErdLockService erdLockService;
     private final EditHistoryService editHistoryService;
+    private final ErdOwnershipIndexService erdOwnershipIndexService;
+    private final ErdRevisionService erdRevisionService;
+    private final ProjectRoomRegistry projectRoomRegistry;
 
     /**
      * 프로젝트의 ERD 테이블 목록 조회
@@ -65,6 +69,8 @@ public class ErdTableService {
                 .build();
 
         ErdTable savedTable = erdTableRepository.save(table);
+        erdOwnershipIndexService.putTable(savedTable.getTableKey(), projectKey);
+        erdRevisionService.nextProjectRevision(projectKey);
         log.info("Created ERD table: {}", savedTable.getTableKey());
 
         // 히스토리 기록
@@ -79,6 +85,7 @@ public class ErdTableService {
     /**
      * ERD 테이블 수정
      * Lock이 필요한 중요한 수정(이름, 물리명)은 Lock 검증 수행
+     * revision을 보낸 요청은 revision 비교로 Lock 검증을 대신한다 (ErdRevisionService)
      */
     @Transactional
     public ErdTableResponse updateTable(Long tableKey, ErdTableUpdateRequest request, Integer userKey) {
@@ -92,9 +99,12 @@ public class ErdTableService {
         // 색상/위치는 실시간 변경이므로 Lock 없이도 수정 가능
         boolean isImportantUpdate = request.getLogicalName() != null || request.getPhysicalName() != null;
 
-        if (isImportantUpdate) {
+        erdRevisionService.checkRevision(request.getRevision(), table.getRevision(),
+                () -> ErdTableResponse.from(table));
+        if (isImportantUpdate && !erdRevisionService.replacesLock(request.getRevision())) {
             erdLockService.validateTableLock(tableKey);
         }
+        Long revisionBefore = table.getRevision();
 
         if (request.getLogicalName() != null) {
             table.updateLogicalName(request.getLogicalName());
@@ -109,11 +119,22 @@ public class ErdTableService {
             table.updateColorHex(request.getColorHex());
         }
 
+        // @Version 조건부 UPDATE 실행 후 증가한 revision으로 응답
+        try {
+            erdTableRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw erdRevisionService.concurrentConflict(e,
+                    () -> erdTableRepository.findById(tableKey).map(ErdTableResponse::from).orElse(null));
+        }
+        // 위치는 엔티티 revision에서 제외되므로 내용 비교로 변경 여부를 함께 판단
+        Map<String, Object> afterState = convertTableToMap(table);
+        if (!revisionBefore.equals(table.getRevision()) || !beforeState.equals(afterState)) {
+            erdRevisionService.nextProjectRevision(table.getProjectKey());
+        }
         log.info("Updated ERD table: {}", tableKey);
 
         // 히스토리 기록
         if (userKey != null) {
-            Map<String, Object> afterState = convertTableToMap(table);
             editHistoryService.recordTableUpdate(userKey, table.getProjectKey(), tableKey, beforeState, afterState);
         }
 
@@ -121,22 +142,10 @@ public class ErdTableService {
     }
 
     /**
-     * ERD 테이블 위치 업데이트 (실시간 협업용)
-     */
-    @Transactional
-    public void updatePosition(Long tableKey, BigDecimal xPosition, BigDecimal yPosition) {
-        ErdTable table = erdTableRepository.findById(tableKey)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_TABLE_NOT_FOUND));
-        table.updatePosition(xPosition, yPosition);
-    }
-
-    /**
-     * 테이블 키로 프로젝트 키 조회 (WebSocket용)
+     * 테이블 키로 프로젝트 키 조회 (WebSocket용, 메모리 인덱스 우선)
      */
     public Long getProjectKeyByTableKey(Long tableKey) {
-        ErdTable table = erdTableRepository.findById(tableKey)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.ERD_TABLE_NOT_FOUND));
-        return table.getProjectKey();
+        return erdOwnershipIndexService.getProjectKeyByTableKey(tableKey);
     }
 
     /**
@@ -150,15 +159,19 @@ public class ErdTableService {
         // 삭제 전 상태 저장 (히스토리용)
         Map<String, Object> beforeState = convertTableToMap(table);
 
-        // 테이블 삭제는 중요한 작업이므로 Lock 검증 필요
-        erdLockService.validateTableLock(tableKey);
+        // 테이블 삭제는 되돌리기 어려우므로 near-cache 없이 Redis에서 Lock 검증
+        erdLockService.validateTableLockStrict(tableKey);
 
         erdLockService.unlockTable(tableKey, userKey.toString());
         // 히스토리 기록
         if (userKey != null) {
             editHistoryService.recordTableDeletion(userKey, table.getProjectKey(), tableKey, beforeState);
         }
+        erdOwnershipIndexService.removeTable(tableKey);
+        // write-behind 대기 중인 드래그 위치 폐기
+        projectRoomRegistry.executeIfActive(table.getProjectKey(), room -> room.removeTable(tableKey));
         table.softDelete();
+        erdRevisionService.nextProjectRevision(table.getProjectKey());
         log.info("Deleted ERD table: {}", tableKey);
 
     }
@@ -21,6 +21,10 @@ public class LockHeartbeatController {
 
     private final LockHeartbeatService lockHeartBeatService;
 
+    /**
+     * 테이블별 락 하트비트 (REST)
+     * WebSocket 클라이언트는 /pub/erd/lock/heartbeat로 보유한 락 전체를 한 번에 갱신한다.
+     */
     @PostMapping("/{tableId}")
     public ApiResponse<?> heartbeat(@PathVariable Long tableId, @RequestParam String email) {
         lockHeartBeatService.handleHeartbeat(tableId, email);
@@ -6,7 +6,10 @@ import com.yaldi.domain.erd.entity.ErdTable;
 import com.yaldi.domain.erd.repository.ErdColumnRepository;
 import com.yaldi.domain.erd.repository.ErdRelationRepository;
 import com.yaldi.domain.erd.repository.ErdTableRepository;
+import com.yaldi.domain.erd.service.ErdOwnershipIndexService;
+import com.yaldi.domain.erd.service.ErdRevisionService;
 import com.yaldi.domain.version.util.SchemaDataConverter;
+import com.yaldi.infra.websocket.room.ProjectRoomRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +19,7 @@ import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.yaldi.domain.version.util.SchemaDataConverter.*;
 
@@ -32,6 +36,9 @@ public class VersionRollbackService {
     private final ErdTableRepository erdTableRepository;
     private final ErdColumnRepository erdColumnRepository;
     private final ErdRelationRepository erdRelationRepository;
+    private final ErdOwnershipIndexService erdOwnershipIndexService;
+    private final ProjectRoomRegistry projectRoomRegistry;
+    private final ErdRevisionService erdRevisionService;
 
     /**
      * 특정 버전의 스냅샷 데이터를 기반으로 ERD를 롤백
@@ -56,6 +63,9 @@ public class VersionRollbackService {
         // 3) 관계 재생성
         createRelations(projectKey, relations, tableKeyMap, columnKeyMap);
 
+        // 4) 프로젝트 revision 증가 (클라이언트가 롤백을 누락 변경으로 감지)
+        erdRevisionService.nextProjectRevision(projectKey);
+
         log.info("ERD 롤백 완료 - projectKey={}, 테이블 수={}, 관계 수={}",
                 projectKey, tables.size(), relations.size());
     }
@@ -64,9 +74,25 @@ public class VersionRollbackService {
      * 프로젝트의 모든 ERD 객체 삭제 (관계 → 컬럼 → 테이블 순서)
      */
     private void deleteAllErdObjects(Long projectKey) {
-        erdRelationRepository.deleteAll(erdRelationRepository.findByProjectKey(projectKey));
-        erdColumnRepository.deleteAll(erdColumnRepository.findByProjectKey(projectKey));
-        erdTableRepository.deleteAll(erdTableRepository.findByProjectKey(projectKey));
+        List<ErdRelation> relations = erdRelationRepository.findByProjectKey(projectKey);
+        List<ErdColumn> columns = erdColumnRepository.findByProjectKey(projectKey);
+        List<ErdTable> tables = erdTableRepository.findByProjectKey(projectKey);
+
+        erdRelationRepository.deleteAll(relations);
+        erdColumnRepository.deleteAll(columns);
+        erdTableRepository.deleteAll(tables);
+
+        // 소유 관계 인덱스 정리
+        relations.forEach(r -> erdOwnershipIndexService.removeRelation(r.getRelationKey()));
+        Map<Long, List<Long>> columnKeysByTable = columns.stream()
+                .collect(Collectors.groupingBy(ErdColumn::getTableKey,
+                        Collectors.mapping(ErdColumn::getColumnKey, Collectors.toList())));
+        tables.forEach(t -> erdOwnershipIndexService.removeTable(
+                t.getTableKey(), columnKeysByTable.getOrDefault(t.getTableKey(), List.of())));
+
+        // write-behind 대기 중인 드래그 위치 폐기
+        projectRoomRegistry.executeIfActive(projectKey,
+                room -> tables.forEach(t -> room.removeTable(t.getTableKey())));
         log.debug("기존 ERD 객체 삭제 완료 - projectKey={}", projectKey);
     }
 
@@ -90,10 +116,11 @@ public class VersionRollbackService {
             // 테이블 생성
             ErdTable newTable = createTable(projectKey, tableData);
             tableKeyMap.put(oldTableKey, newTable.getTableKey());
+            erdOwnershipIndexService.putTable(newTable.getTableKey(), projectKey);
 
             // 컬럼 생성
             List<Map<String, Object>> columns = safeList(tableData.get("columns"));
-            createColumns(newTable.getTableKey(), columns, columnKeyMap);
+            createColumns(projectKey, newTable.getTableKey(), columns, columnKeyMap);
         }
         log.debug("테이블 및 컬럼 생성 완료 - 테이블 수={}", tables.size());
     }
@@ -118,6 +145,7 @@ public class VersionRollbackService {
      * 테이블의 컬럼들 생성
      */
     private void createColumns(
+            Long projectKey,
             Long newTableKey,
             List<Map<String, Object>> columns,
             Map<Long, Long> columnKeyMap
@@ -144,6 +172,7 @@ public class VersionRollbackService {
             );
 
             columnKeyMap.put(oldColumnKey, newColumn.getColumnKey());
+            erdOwnershipIndexService.putColumn(newColumn.getColumnKey(), projectKey);
         }
     }
 
@@ -167,7 +196,7 @@ public class VersionRollbackService {
             Long oldFromColumnKey = toLongOrNull(relationData.get("fromColumnKey"));
             Long oldToColumnKey = toLongOrNull(relationData.get("toColumnKey"));
 
-            erdRelationRepository.save(
+            ErdRelation newRelation = erdRelationRepository.save(
                     ErdRelation.builder()
                             .projectKey(projectKey)
                             .fromTableKey(tableKeyMap.get(oldFromTableKey))
@@ -180,6 +209,7 @@ public class VersionRollbackService {
                             .onUpdateAction(toReferentialActionType(relationData.get("onUpdateAction")))
                             .build()
             );
+            erdOwnershipIndexService.putRelation(newRelation.getRelationKey(), projectKey);
         }
         log.debug("관계 생성 완료 - 관계 수={}", relations.size());
     }
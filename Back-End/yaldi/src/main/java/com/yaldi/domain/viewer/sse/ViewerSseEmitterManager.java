@@ -1,7 +1,7 @@
 package com.yaldi.domain.viewer.sse;
 
-import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -94,15 +94,16 @@ public class ViewerSseEmitterManager {
      * 특정 프로젝트의 모든 뷰어에게 ERD 업데이트 브로드캐스트
      *
      * Kafka에서 이벤트를 받으면 호출됨 됨
-     * ErdBroadcastKafkaConsumerListener.consume() → sendToViewers() 호출
+     * ErdBroadcastKafkaConsumerListener.consume() → ProjectBroadcastService → sendToViewers() 호출
      *
      * 1. 해당 프로젝트의 뷰어 리스트 조회
      * 2. 뷰어가 없으면 early return (브로드캐스트할 대상 없음)
      * 3. 모든 뷰어에게 동일한 이벤트 전송
      * 4. 전송 실패한 연결은 자동 제거
      *
+     * payload는 ProjectBroadcastService에서 한 번만 직렬화된 JSON 바이트 (뷰어마다 재직렬화하지 않음)
      */
-    public void sendToViewers(Long projectKey, ErdBroadcastEvent event) {
+    public void sendToViewers(Long projectKey, byte[] payload) {
         // 1. 해당 프로젝트의 뷰어 리스트 조회
         List<SseEmitter> projectEmitters = emitters.get(projectKey);
 
@@ -117,7 +118,7 @@ public class ViewerSseEmitterManager {
             try {
                 emitter.send(SseEmitter.event()
                         .name("erd-update")
-                        .data(event));
+                        .data(payload, MediaType.APPLICATION_JSON));
             } catch (IOException e) {
                 // 전송 실패 = 연결이 끊김 → 자동 제거
                 log.error("SSE 전송 실패 - ProjectKey: {}, 연결 제거", projectKey, e);
@@ -159,7 +160,7 @@ public class ViewerSseEmitterManager {
  *    ┌────────────────────────────────────────────────────────────────┐
  *    │ Kafka → ErdBroadcastKafkaConsumerListener                     │
  *    │           ↓                                                   │
- *    │ ViewerSseEmitterManager.sendToViewers(projectKey, event)      │
+ *    │ ViewerSseEmitterManager.sendToViewers(projectKey, payload)    │
  *    │           ↓                                                   │
  *    │ 해당 프로젝트의 모든 뷰어에게 브로드캐스트                           │
  *    │  - 뷰어A: emitter.send(event)                                  │
@@ -2,7 +2,9 @@ package com.yaldi.global.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -14,8 +16,20 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    // AsyncConfigurer를 직접 구현하므로 spring.threads.virtual.enabled를 여기서도 반영
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreadsEnabled) {
+            // 작업마다 가상 스레드, 동시 실행 수는 기존 최대 풀 크기와 동일하게 제한 (메일 서버 보호)
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-mail-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(10);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
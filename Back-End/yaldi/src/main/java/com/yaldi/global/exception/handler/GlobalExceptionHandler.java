@@ -7,6 +7,7 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -192,6 +193,25 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * 낙관적 락 충돌 예외 처리
+     * - 조회 후 커밋 전에 다른 요청이 같은 ERD 엔티티를 먼저 수정 (@Version 조건부 UPDATE 실패)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Optimistic lock conflict at {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity
+                .status(ErrorStatus.ERD_REVISION_CONFLICT.getHttpStatus())
+                .body(ApiResponse.onFailure(
+                        ErrorStatus.ERD_REVISION_CONFLICT,
+                        List.of()
+                ));
+    }
+
     /**
      * HTTP Method 미지원 예외 처리
      * - 지원하지 않는 HTTP Method 사용 (GET 엔드포인트에 POST 요청 등)
@@ -111,6 +111,7 @@ public enum ErrorStatus {
     ERD_COLUMN_DUPLICATE_PHYSICAL_NAME(HttpStatus.BAD_REQUEST, "ERD_COLUMN4401", "중복된 컬럼 물리명입니다."),
     ERD_COLUMN_INVALID_DATA_TYPE(HttpStatus.BAD_REQUEST, "ERD_COLUMN4402", "유효하지 않은 데이터 타입입니다."),
     ERD_COLUMN_PRIMARY_KEY_CONSTRAINT(HttpStatus.BAD_REQUEST, "ERD_COLUMN4403", "Primary Key 수정 시 제약사항 검증 필요합니다."),
+    ERD_COLUMN_INVALID_ORDER(HttpStatus.BAD_REQUEST, "ERD_COLUMN4404", "컬럼 순서 목록이 테이블의 컬럼 구성과 일치하지 않습니다."),
 
     COLUMN_NOT_FOUND(HttpStatus.NOT_FOUND, "COLUMN4400", "컬럼을 찾을 수 없습니다."),
     COLUMN_DUPLICATE_PHYSICAL_NAME(HttpStatus.BAD_REQUEST, "COLUMN4401", "중복된 컬럼 물리명입니다."),
@@ -127,6 +128,8 @@ public enum ErrorStatus {
     ERD_RELATION_INVALID_TYPE(HttpStatus.BAD_REQUEST, "ERD_RELATION4501", "유효하지 않은 관계 타입입니다."),
     ERD_RELATION_CIRCULAR_REFERENCE(HttpStatus.BAD_REQUEST, "ERD_RELATION4502", "순환 참조는 허용되지 않습니다."),
 
+    ERD_REVISION_CONFLICT(HttpStatus.CONFLICT, "ERD_REVISION4503", "다른 사용자가 먼저 수정했습니다. 최신 상태를 확인한 뒤 다시 시도하세요."),
+
     /*
     =========================================================================
     Comment & Reply (4600번대)
@@ -234,6 +237,8 @@ public enum ErrorStatus {
     LOCK_ALREADY_EXIST(HttpStatus.BAD_REQUEST ,"LOCK5401", "이미 테이블에 대한 락이 존재합니다."),
     UNMATCH_WITH_LOCK_OWNER(HttpStatus.UNAUTHORIZED ,"LOCK5402", "락 소유주가 아닙니다."),
     FAIL_TO_UNLOCK(HttpStatus.BAD_REQUEST,"LOCK5403", "락 해제에 실패했습니다."),
+    LOCK_PROJECT_MISMATCH(HttpStatus.BAD_REQUEST, "LOCK5404", "같은 프로젝트의 테이블만 함께 잠글 수 있습니다."),
+    LOCK_COLUMN_MODE_DISABLED(HttpStatus.BAD_REQUEST, "LOCK5405", "컬럼 단위 락이 비활성화되어 있습니다."),
 
     /*
     =========================================================================
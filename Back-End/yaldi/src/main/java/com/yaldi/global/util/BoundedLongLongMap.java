@@ -0,0 +1,225 @@
+package com.yaldi.global.util;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 크기 제한이 있는 primitive long → long 맵 (박싱 없음)
+ *
+ * <ul>
+ *   <li>Open addressing (linear probing) + backward shift 삭제 → tombstone 없음</li>
+ *   <li>최대 크기 도달 시 CLOCK(second-chance) 방식으로 최근 조회되지 않은 항목부터 제거</li>
+ *   <li>조회는 StampedLock 낙관적 읽기로 락/할당 없이 수행, 쓰기만 배타 락 사용</li>
+ * </ul>
+ *
+ * 키 0은 빈 슬롯 표시로 사용하므로 저장할 수 없다 (DB identity 키는 1부터 시작).
+ */
+public final class BoundedLongLongMap {
+
+    /** 조회 실패 시 반환값 */
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final long EMPTY = 0L;
+
+    private final long[] keys;
+    private final long[] values;
+    private final boolean[] referenced;
+    private final int mask;
+    private final int maxSize;
+    private final StampedLock lock = new StampedLock();
+
+    private int size;
+    private int clockHand;
+
+    public BoundedLongLongMap(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        // load factor 0.5 이하 유지 → 탐색 길이 짧게
+        int capacity = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.referenced = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return 저장된 값, 없으면 {@link #NO_VALUE}
+     */
+    public long get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        int idx = find(key);
+        long value = idx >= 0 ? values[idx] : NO_VALUE;
+        if (lock.validate(stamp)) {
+            // 검증된 슬롯에만 참조 비트 기록 (검증 전 기록은 eviction/shift 중인 슬롯을 오염시킬 수 있음)
+            markReferenced(idx);
+            return value;
+        }
+
+        stamp = lock.readLock();
+        try {
+            idx = find(key);
+            markReferenced(idx);
+            return idx >= 0 ? values[idx] : NO_VALUE;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(long key, long value) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int idx = indexOf(key);
+            if (idx >= 0) {
+                values[idx] = value;
+                referenced[idx] = true;
+                return;
+            }
+            if (size >= maxSize) {
+                evictOne();
+            }
+            idx = slot(key);
+            while (keys[idx] != EMPTY) {
+                idx = (idx + 1) & mask;
+            }
+            keys[idx] = key;
+            values[idx] = value;
+            referenced[idx] = false;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long key) {
+        if (key == EMPTY) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int idx = indexOf(key);
+            if (idx >= 0) {
+                deleteAt(idx);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(values, 0L);
+            Arrays.fill(referenced, false);
+            size = 0;
+            clockHand = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 락 없이 탐색 (낙관적 읽기 중 동시 수정이 있어도 최대 capacity 회 탐색 후 종료)
+     * 배열에는 쓰지 않으며, 결과는 호출 측에서 validate 후에만 사용한다.
+     *
+     * @return 슬롯 인덱스, 없으면 -1
+     */
+    private int find(long key) {
+        int idx = slot(key);
+        for (int i = 0; i <= mask; i++) {
+            long k = keys[idx];
+            if (k == key) {
+                return idx;
+            }
+            if (k == EMPTY) {
+                return -1;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * CLOCK 참조 비트 설정 (쓰기 락과는 배타적인 구간에서만 호출)
+     */
+    private void markReferenced(int idx) {
+        if (idx >= 0) {
+            referenced[idx] = true;
+        }
+    }
+
+    private int indexOf(long key) {
+        int idx = slot(key);
+        while (keys[idx] != EMPTY) {
+            if (keys[idx] == key) {
+                return idx;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * CLOCK: 참조 비트가 켜진 항목은 한 번 봐주고, 꺼진 항목을 제거
+     */
+    private void evictOne() {
+        while (true) {
+            int idx = clockHand;
+            clockHand = (clockHand + 1) & mask;
+            if (keys[idx] == EMPTY) {
+                continue;
+            }
+            if (referenced[idx]) {
+                referenced[idx] = false;
+                continue;
+            }
+            deleteAt(idx);
+            return;
+        }
+    }
+
+    /**
+     * Backward shift 삭제: 뒤따르는 클러스터 항목을 당겨와 탐색 체인을 유지
+     */
+    private void deleteAt(int idx) {
+        int gap = idx;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                referenced[gap] = referenced[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0L;
+        referenced[gap] = false;
+        size--;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+    }
+}
@@ -63,7 +63,8 @@ public class KafkaConsumerConfig {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "yaldi-collaboration-group");
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        // 실시간 브로드캐스트: 신규 그룹이 과거 이벤트를 재생하지 않도록 latest
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
         JsonDeserializer<ErdBroadcastEvent> deserializer = new JsonDeserializer<>(ErdBroadcastEvent.class, objectMapper);
@@ -81,8 +82,11 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, ErdBroadcastEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(erdBroadcastConsumerFactory());
+        // 파티션 수만큼 컨슈머 스레드 → 프로젝트(파티션)별 순서 유지하며 병렬 처리
+        factory.setConcurrency(KafkaTopicConfig.COLLABORATION_PARTITIONS);
+        // 리스너가 수동 ack를 하지 않으므로 poll 단위로 커밋
         factory.getContainerProperties().setAckMode(
-                org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL
+                org.springframework.kafka.listener.ContainerProperties.AckMode.BATCH
         );
         return factory;
     }
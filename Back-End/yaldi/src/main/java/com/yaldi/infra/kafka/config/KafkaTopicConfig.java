@@ -13,6 +13,9 @@ import org.springframework.kafka.core.KafkaAdmin;
 @Configuration
 public class KafkaTopicConfig {
 
+    public static final String COLLABORATION_TOPIC = "yaldi.collaboration.topic";
+    public static final int COLLABORATION_PARTITIONS = 3;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -34,8 +37,8 @@ public class KafkaTopicConfig {
 
     @Bean
     public NewTopic collaborationTopic() {
-        return TopicBuilder.name("yaldi.collaboration.topic")
-                .partitions(3)
+        return TopicBuilder.name(COLLABORATION_TOPIC)
+                .partitions(COLLABORATION_PARTITIONS)
                 .replicas(1)
                 .build();
     }
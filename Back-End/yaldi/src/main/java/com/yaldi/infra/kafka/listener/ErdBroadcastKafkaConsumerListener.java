@@ -1,12 +1,11 @@
 package com.yaldi.infra.kafka.listener;
 
-import com.yaldi.domain.viewer.sse.ViewerSseEmitterManager;
-import com.yaldi.global.response.ApiResponse;
+import com.yaldi.infra.kafka.config.KafkaTopicConfig;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.service.ProjectBroadcastService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -14,21 +13,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ErdBroadcastKafkaConsumerListener {
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final ViewerSseEmitterManager viewerSseEmitterManager;
+    private final ProjectBroadcastService projectBroadcastService;
 
     @KafkaListener(
-            topics = "yaldi.collaboration.topic",
+            topics = KafkaTopicConfig.COLLABORATION_TOPIC,
             groupId = "yaldi-collaboration-group",
             containerFactory = "erdBroadcastKafkaListenerContainerFactory"
     )
     public void consume(ErdBroadcastEvent event) {
-        ApiResponse<ErdBroadcastEvent> response = ApiResponse.onSuccess(event);
-
-        // WebSocket 브로드캐스트 (워크스페이스 편집자들에게)
-        messagingTemplate.convertAndSend("/topic/project/" + event.getProjectKey(), response);
-
-        // SSE 브로드캐스트 (뷰어링크 접속자들에게)
-        viewerSseEmitterManager.sendToViewers(event.getProjectKey(), event);
+        // 같은 컨슈머 그룹이므로 파티션을 할당받은 한 노드만 수신
+        // → 로컬 전달 후 클러스터 중계로 다른 노드의 편집자(WebSocket)/뷰어(SSE)에게도 전달
+        projectBroadcastService.broadcastWithViewers(event);
     }
 }
@@ -1,19 +1,34 @@
 package com.yaldi.infra.kafka.service;
 
+import com.yaldi.infra.kafka.config.KafkaTopicConfig;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * 실시간 협업 이벤트 Kafka 발행 서비스
+ * - projectKey를 메시지 키로 사용 → 같은 프로젝트 이벤트는 같은 파티션에서 순서 보장
+ * - 전용 저지연 Producer 사용, 실패 시에만 로그
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ErdBroadcastKafkaProducerService {
-    private final KafkaProducerService kafkaProducerService;
 
-    private static final String ERD_BROADCAST_TOPIC = "yaldi.collaboration.topic";
+    private final KafkaTemplate<String, ErdBroadcastEvent> erdBroadcastKafkaTemplate;
 
     public void publish(ErdBroadcastEvent event) {
-        kafkaProducerService.sendMessage(ERD_BROADCAST_TOPIC, event);
+        String key = String.valueOf(event.getProjectKey());
+
+        erdBroadcastKafkaTemplate.send(KafkaTopicConfig.COLLABORATION_TOPIC, key, event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("협업 이벤트 전송 실패 - projectKey: {}, type: {}, Error: {}",
+                                key, event.getEvent() != null ? event.getEvent().getType() : null,
+                                ex.getMessage());
+                    }
+                });
     }
 }
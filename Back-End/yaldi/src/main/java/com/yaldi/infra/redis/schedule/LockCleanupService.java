@@ -1,73 +1,89 @@
 package com.yaldi.infra.redis.schedule;
 
-import com.yaldi.global.util.LockUtil;
+import com.yaldi.domain.erd.dto.redis.ReclaimedLock;
+import com.yaldi.domain.erd.dto.redis.ReleasedColumnLock;
+import com.yaldi.domain.erd.dto.websocket.event.ColumnUnlockEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableUnlockEvent;
+import com.yaldi.domain.erd.service.ErdLockService;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.service.ProjectBroadcastService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 락 회수/정리 (선출된 리더 노드에서만 실행)
+ *
+ * - 회수: 회수 기한 ZSET의 앞부분만 짧은 주기로 확인, 기한이 지난 락을 풀고 프로젝트에 TABLE_UNLOCK 전송
+ *   (노드 장애로 만료된 락도 다른 사용자 화면에서 바로 풀림), 만료된 컬럼 락도 같은 주기로 회수해 COLUMN_UNLOCK 전송
+ * - 정리: 기한 없이 남은 인덱스 항목 예비 정리 (키 공간 SCAN 없음)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LockCleanupService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final LockUtil lockUtil;
+    private static final int RECLAIM_BATCH_SIZE = 100;
 
-    private static final String LOCK_KEY_PREFIX = "erd:lock:table:";
-    private static final String LOCK_OWNER_SUFFIX = ":owner";
-    private static final String HEARTBEAT_KEY_PREFIX = "erd:lock:heartbeat:";
+    private final ErdLockService erdLockService;
+    private final LockReclaimLeaderElection leaderElection;
+    private final ProjectBroadcastService projectBroadcastService;
+
+    @Scheduled(fixedDelayString = "${yaldi.erd.lock.reclaim.interval-ms:500}")
+    public void reclaimExpiredLocks() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+        try {
+            for (ReclaimedLock lock : erdLockService.reclaimExpiredLocks(RECLAIM_BATCH_SIZE)) {
+                broadcastUnlock(lock);
+            }
+        } catch (Exception e) {
+            log.error("Error during lock reclaim: {}", e.getMessage(), e);
+        }
+        try {
+            for (ReleasedColumnLock lock : erdLockService.reclaimExpiredColumnLocks(RECLAIM_BATCH_SIZE)) {
+                broadcastColumnUnlock(lock);
+            }
+        } catch (Exception e) {
+            log.error("Error during column lock reclaim: {}", e.getMessage(), e);
+        }
+    }
 
     @Scheduled(fixedRate = 30000)
     public void releaseStaleLocks() {
-        int cleanedCount = 0;
-
-        var scanOptions = org.springframework.data.redis.core.ScanOptions.scanOptions()
-                .match(LOCK_KEY_PREFIX + "*" + LOCK_OWNER_SUFFIX)
-                .count(100)
-                .build();
-
-        try (var cursor = redisTemplate.scan(scanOptions)) {
-
-            while (cursor.hasNext()) {
-                String ownerKey = cursor.next();
-
-                // tableId 추출
-                String lockKeyStr = ownerKey.replace(LOCK_OWNER_SUFFIX, "");
-                String tableIdStr = lockKeyStr.replace(LOCK_KEY_PREFIX, "");
-
-                try {
-                    Long tableId = Long.parseLong(tableIdStr);
-                    String heartbeatKey = HEARTBEAT_KEY_PREFIX + tableId;
-
-                    // 하트비트 살아있으면 skip
-                    if (Boolean.TRUE.equals(redisTemplate.hasKey(heartbeatKey))) {
-                        continue;
-                    }
-
-                    // owner 조회 (문자열)
-                    Object raw = redisTemplate.opsForValue().get(ownerKey);
-                    String ownerEmail = raw != null ? raw.toString() : null;
-
-                    if (ownerEmail != null) {
-                        lockUtil.forceUnlock(tableId, ownerEmail);
-
-                        cleanedCount++;
-                        log.info("Cleaned stale lock for table {} (owner: {})", tableId, ownerEmail);
-                    }
-
-                } catch (NumberFormatException e) {
-                    log.warn("Invalid table ID format in key: {}", ownerKey);
-                }
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+        try {
+            int cleanedCount = erdLockService.pruneExpiredLocks();
+            if (cleanedCount > 0) {
+                log.info("Lock cleanup completed: {} expired lock entries pruned", cleanedCount);
             }
-
         } catch (Exception e) {
             log.error("Error during lock cleanup: {}", e.getMessage(), e);
         }
+    }
 
-        if (cleanedCount > 0) {
-            log.info("Lock cleanup completed: {} stale locks released", cleanedCount);
-        }
+    private void broadcastUnlock(ReclaimedLock lock) {
+        projectBroadcastService.broadcast(ErdBroadcastEvent.builder()
+                .projectKey(lock.projectKey())
+                .event(TableUnlockEvent.builder()
+                        .tableKey(lock.tableKey())
+                        .userEmail(lock.owner())
+                        .build())
+                .build());
+    }
+
+    private void broadcastColumnUnlock(ReleasedColumnLock lock) {
+        projectBroadcastService.broadcast(ErdBroadcastEvent.builder()
+                .projectKey(lock.projectKey())
+                .event(ColumnUnlockEvent.builder()
+                        .tableKey(lock.tableKey())
+                        .columnKey(lock.columnKey())
+                        .userEmail(lock.owner())
+                        .build())
+                .build());
     }
 }
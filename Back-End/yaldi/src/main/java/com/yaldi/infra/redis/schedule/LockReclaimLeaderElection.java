@@ -0,0 +1,96 @@
+package com.yaldi.infra.redis.schedule;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 회수 리더 선출 (Redis 임대 키)
+ *
+ * - erd:lock:reclaimer:leader 키를 먼저 잡은 노드가 리더, 임대 시간의 1/3 주기로 연장
+ * - 리더가 죽으면 임대가 만료되고 다음 연장 주기에 다른 노드가 리더가 됨
+ * - 연장에 실패하거나 Redis 오류가 나면 즉시 리더 역할을 내려놓음 (두 노드가 동시에 회수하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockReclaimLeaderElection {
+
+    private static final String LEADER_KEY = "erd:lock:reclaimer:leader";
+
+    /** 비어 있거나 자기 임대면 획득/연장, 반환: 1 리더, 0 다른 노드가 리더 */
+    private static final RedisScript<Long> ACQUIRE_OR_RENEW = RedisScript.of("""
+            local current = redis.call('get', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('pexpire', KEYS[1], ARGV[2])
+                return 1
+            end
+            if not current then
+                redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RESIGN = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${yaldi.erd.lock.reclaim.leader-lease-ms:15000}")
+    private long leaseMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** 리더 임대 만료 시각 (이 노드 기준), 0이면 리더 아님 */
+    private volatile long leaseExpiresAt;
+
+    @Scheduled(fixedRateString = "#{${yaldi.erd.lock.reclaim.leader-lease-ms:15000} / 3}")
+    public void renew() {
+        long now = System.currentTimeMillis();
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_OR_RENEW, List.of(LEADER_KEY), nodeId, Long.toString(leaseMs));
+            boolean leader = result != null && result == 1L;
+            if (leader && leaseExpiresAt == 0) {
+                log.info("Lock reclaim leader elected: nodeId={}", nodeId);
+            } else if (!leader && leaseExpiresAt != 0) {
+                log.info("Lock reclaim leadership lost: nodeId={}", nodeId);
+            }
+            leaseExpiresAt = leader ? now + leaseMs : 0;
+        } catch (Exception e) {
+            leaseExpiresAt = 0;
+            log.warn("Lock reclaim leader renewal failed: nodeId={}", nodeId, e);
+        }
+    }
+
+    /**
+     * 임대가 남아 있는 동안만 리더로 간주
+     */
+    public boolean isLeader() {
+        return System.currentTimeMillis() < leaseExpiresAt;
+    }
+
+    @PreDestroy
+    public void resign() {
+        if (leaseExpiresAt == 0) {
+            return;
+        }
+        leaseExpiresAt = 0;
+        try {
+            redisTemplate.execute(RESIGN, List.of(LEADER_KEY), nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to resign lock reclaim leadership: nodeId={}", nodeId, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.yaldi.infra.websocket.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 중계 메시지
+ * - nodeId: 발신 노드 식별자 (자기 메시지 중복 전달 방지)
+ * - projectKey: 대상 프로젝트
+ * - destinationSuffix: /topic/project/{projectKey} 뒤에 붙는 하위 경로 (없으면 기본 토픽)
+ * - aggregate: 하위 토픽과 함께 기본 토픽에도 전달할지 여부 (하위 토픽 미지원 클라이언트 호환)
+ * - contentType: payload의 MIME 타입 (없으면 application/json)
+ * - payload: 발신 노드에서 한 번 직렬화된 프레임 (수신 노드는 재직렬화 없이 그대로 전달)
+ * - includeViewers: SSE 뷰어에게도 전달할지 여부
+ * - volatileEvent: 커서/드래그 등 휘발성 이벤트 여부 (느린 세션에서 버릴 수 있음)
+ * - originSessionId: 이벤트를 발생시킨 STOMP 세션 (에코 억제용, 없으면 모두에게 전달)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterBroadcastMessage {
+    private String nodeId;
+    private Long projectKey;
+    private String destinationSuffix;
+    private boolean aggregate;
+    private String contentType;
+    private byte[] payload;
+    private boolean includeViewers;
+    private boolean volatileEvent;
+    private String originSessionId;
+}
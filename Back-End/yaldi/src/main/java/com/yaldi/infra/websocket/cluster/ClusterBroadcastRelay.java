@@ -0,0 +1,24 @@
+package com.yaldi.infra.websocket.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 /topic/project/* 메시지 중계 계층
+ *
+ * SimpleBroker는 노드 로컬 세션에만 전달하므로, 한 노드에서 발생한 브로드캐스트를
+ * 다른 노드들에게 전달해 각자의 로컬 구독자에게 다시 전송하도록 한다.
+ *
+ * 구현체 선택: yaldi.websocket.cluster.mode (local | redis)
+ */
+public interface ClusterBroadcastRelay {
+
+    /**
+     * 다른 노드들에게 메시지 전파 (발신 노드 자신에게 되돌아올 수 있음 → nodeId로 걸러냄)
+     */
+    void publish(ClusterBroadcastMessage message);
+
+    /**
+     * 다른 노드에서 전파된 메시지 수신 핸들러 등록
+     */
+    void subscribe(Consumer<ClusterBroadcastMessage> handler);
+}
@@ -0,0 +1,38 @@
+package com.yaldi.infra.websocket.cluster;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내부 중계 (단일 노드 / 테스트용)
+ *
+ * 같은 인스턴스를 공유하는 구독자들에게 동기 전달한다.
+ * 단일 노드에서는 자기 메시지만 돌아오므로 nodeId 필터에 의해 모두 무시된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "yaldi.websocket.cluster.mode", havingValue = "local", matchIfMissing = true)
+public class LocalClusterBroadcastRelay implements ClusterBroadcastRelay {
+
+    private final List<Consumer<ClusterBroadcastMessage>> handlers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ClusterBroadcastMessage message) {
+        for (Consumer<ClusterBroadcastMessage> handler : handlers) {
+            try {
+                handler.accept(message);
+            } catch (Exception e) {
+                log.error("Local relay handler failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterBroadcastMessage> handler) {
+        handlers.add(handler);
+    }
+}
@@ -0,0 +1,95 @@
+package com.yaldi.infra.websocket.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Pub/Sub 기반 노드 간 중계
+ *
+ * 모든 노드가 하나의 채널을 구독하고, 각 노드는 수신한 메시지를 자신의 로컬 구독자에게 전달한다.
+ * Pub/Sub은 at-most-once이므로 휘발성 실시간 이벤트 전달 용도로만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "yaldi.websocket.cluster.mode", havingValue = "redis")
+public class RedisClusterBroadcastRelay implements ClusterBroadcastRelay, MessageListener {
+
+    static final String CHANNEL = "yaldi:ws:broadcast";
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final List<Consumer<ClusterBroadcastMessage>> handlers = new CopyOnWriteArrayList<>();
+    private RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    public void init() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Redis cluster broadcast relay subscribed: channel={}", CHANNEL);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Override
+    public void publish(ClusterBroadcastMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize relay message: projectKey={}", message.getProjectKey(), e);
+        } catch (Exception e) {
+            log.error("Failed to publish relay message", e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterBroadcastMessage> handler) {
+        handlers.add(handler);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ClusterBroadcastMessage relayed;
+        try {
+            relayed = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), ClusterBroadcastMessage.class);
+        } catch (Exception e) {
+            log.error("Failed to deserialize relay message", e);
+            return;
+        }
+
+        for (Consumer<ClusterBroadcastMessage> handler : handlers) {
+            try {
+                handler.accept(relayed);
+            } catch (Exception e) {
+                log.error("Redis relay handler failed", e);
+            }
+        }
+    }
+}
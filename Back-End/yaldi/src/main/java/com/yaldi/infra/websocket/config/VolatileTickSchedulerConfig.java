@@ -0,0 +1,28 @@
+package com.yaldi.infra.websocket.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 휘발성 틱 브로드캐스트 전용 스케줄러
+ *
+ * messageBrokerTaskScheduler가 TaskScheduler 빈으로 등록되어 있어 Boot 기본 스케줄러
+ * (spring.task.scheduling.*)가 만들어지지 않고, @Scheduled 작업은 단일 스레드를 공유한다.
+ * 틱이 정리/flush 작업에 밀리지 않도록 별도 스레드에서 실행한다.
+ */
+@Configuration
+public class VolatileTickSchedulerConfig {
+
+    public static final String TICK_SCHEDULER = "volatileTickScheduler";
+
+    @Bean(TICK_SCHEDULER)
+    public ThreadPoolTaskScheduler volatileTickScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        // 틱은 fixed-rate 단일 작업 → 스레드 하나면 충분
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-tick-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
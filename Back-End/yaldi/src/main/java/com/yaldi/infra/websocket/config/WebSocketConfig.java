@@ -2,19 +2,38 @@ package com.yaldi.infra.websocket.config;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.infra.websocket.execution.KeyedSerialExecutor;
+import com.yaldi.infra.websocket.interceptor.LockHeartbeatInterceptor;
 import com.yaldi.infra.websocket.interceptor.WebSocketConnectionInterceptor;
+import com.yaldi.infra.websocket.outbound.OutboundBackpressureInterceptor;
+import com.yaldi.infra.websocket.outbound.OutboundBackpressureService;
+import com.yaldi.infra.websocket.outbound.OutboundTrackingHandlerDecorator;
+import com.yaldi.infra.websocket.topic.EchoSuppressionInterceptor;
+import com.yaldi.infra.websocket.wire.BinaryWireFormat;
+import com.yaldi.infra.websocket.wire.WireFormatHandlerDecorator;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.util.List;
 
@@ -25,6 +44,26 @@ import java.util.List;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketConnectionInterceptor connectionInterceptor;
+    private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+    private final OutboundBackpressureService outboundBackpressureService;
+    private final EchoSuppressionInterceptor echoSuppressionInterceptor;
+    private final LockHeartbeatInterceptor lockHeartbeatInterceptor;
+
+    // true: 인바운드/아웃바운드 채널을 가상 스레드에서 실행 (Tomcat, @Async와 같은 스위치)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    // STOMP 하트비트 간격 (0: 사용 안 함). 락 하트비트를 STOMP 프레임으로 대신할 때 켠다.
+    @Value("${yaldi.websocket.heartbeat-ms:0}")
+    private long heartbeatMs;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(
+            @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @PostConstruct
     public void init() {
@@ -42,8 +81,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     //메세지 라우팅 경로
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // 서버 -> 클라이언트 구독 경로 prefix
-        registry.enableSimpleBroker("/topic");
+        // 서버 -> 클라이언트 구독 경로 prefix (/queue: 세션별 응답, 예: /user/queue/errors)
+        SimpleBrokerRegistration broker = registry.enableSimpleBroker("/topic", "/queue");
+        if (heartbeatMs > 0) {
+            broker.setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         // 클라이언트 -> 서버 publish prefix
         registry.setApplicationDestinationPrefixes("/pub");
     }
@@ -51,7 +94,33 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     // Interceptor 등록 (Connect/Disconnect 감지)
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(connectionInterceptor);
+        registration.interceptors(connectionInterceptor, echoSuppressionInterceptor, lockHeartbeatInterceptor);
+        if (virtualThreadsEnabled) {
+            // 메시지마다 가상 스레드, 같은 프로젝트(프로젝트 미지정 세션은 세션) 메시지는 도착 순서대로 처리
+            registration.executor(new KeyedSerialExecutor(virtualThreadExecutor("ws-inbound-"),
+                    this::inboundOrderingKey));
+        }
+    }
+
+    // 발신자 에코 억제 → 느린 세션 보호 (세션별 대기열 한도, 휘발성 이벤트 보류/버림, 구조 이벤트 재동기화)
+    // 에코 억제를 먼저 적용해 보내지 않을 메시지가 대기열 길이에 잡히지 않도록 함
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(echoSuppressionInterceptor, outboundBackpressureInterceptor);
+        if (virtualThreadsEnabled) {
+            // 세션별 전송 순서 유지 (틱 프레임 역전 방지)
+            registration.executor(new KeyedSerialExecutor(virtualThreadExecutor("ws-outbound-"),
+                    WebSocketConfig::sessionIdOf));
+        }
+    }
+
+    // 실제 소켓 쓰기 시점 추적 (세션별 대기열 길이 계산용)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(handler ->
+                new OutboundTrackingHandlerDecorator(handler, outboundBackpressureService));
+        // CONNECTED 프레임에 협상된 와이어 포맷 전달 (json이면 클라이언트가 JSON으로 폴백)
+        registration.addDecoratorFactory(WireFormatHandlerDecorator::new);
     }
 
     // Jackson 메시지 컨버터 설정 (JSON → BigDecimal 변환 처리)
@@ -65,8 +134,34 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         MappingJackson2MessageConverter jacksonConverter = new MappingJackson2MessageConverter();
         jacksonConverter.setObjectMapper(objectMapper);
 
+        // 바이너리 포맷 프레임(@Payload byte[])은 변환 없이 그대로 전달
+        ByteArrayMessageConverter byteArrayConverter = new ByteArrayMessageConverter();
+        byteArrayConverter.addSupportedMimeTypes(BinaryWireFormat.CONTENT_TYPE);
+        converters.add(byteArrayConverter);
         converters.add(jacksonConverter);
         // false: 기본 컨버터 + 추가한 컨버터 모두 사용
         return false;
     }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    private Object inboundOrderingKey(Runnable task) {
+        String sessionId = sessionIdOf(task);
+        if (sessionId == null) {
+            return null;
+        }
+        Long projectKey = connectionInterceptor.getProjectKeyBySession(sessionId);
+        return projectKey != null ? projectKey : sessionId;
+    }
+
+    private static String sessionIdOf(Runnable task) {
+        if (task instanceof MessageHandlingRunnable handlingTask) {
+            return SimpMessageHeaderAccessor.getSessionId(handlingTask.getMessage().getHeaders());
+        }
+        return null;
+    }
 }
@@ -0,0 +1,61 @@
+package com.yaldi.infra.websocket.controller;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.ApiResponse;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.websocket.dto.ReplayResponse;
+import com.yaldi.infra.websocket.interceptor.WebSocketConnectionInterceptor;
+import com.yaldi.infra.websocket.replay.ProjectReplayLog;
+import com.yaldi.infra.websocket.replay.ReplayResumePoint;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 재접속 후 누락 이벤트 재전송
+ *
+ * 1. CONNECT 헤더(replayEpoch, lastSequence)로 재개 지점 전달
+ * 2. /topic/project/{projectKey} 구독 후 /pub/erd/replay 구독
+ * 3. 구독 응답으로 누락 이벤트(또는 전체 재조회 필요 여부)를 해당 세션에만 1회 전송
+ * RESYNC_REQUIRED 수신 시에는 재연결 없이 SUBSCRIBE 헤더(replayEpoch, lastSequence)로 다시 구독한다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ProjectReplayController {
+
+    private final ProjectReplayLog projectReplayLog;
+    private final WebSocketConnectionInterceptor connectionInterceptor;
+
+    @SubscribeMapping("/erd/replay")
+    public ApiResponse<ReplayResponse> replay(SimpMessageHeaderAccessor headerAccessor) {
+        Long projectKey = connectionInterceptor.getProjectKeyBySession(headerAccessor.getSessionId());
+        if (projectKey == null) {
+            throw new GeneralException(ErrorStatus.PROJECT_ACCESS_DENIED);
+        }
+
+        ReplayResumePoint resumePoint = ReplayResumePoint.of(headerAccessor);
+        ProjectReplayLog.ReplaySlice slice = resumePoint != null
+                ? projectReplayLog.readSince(projectKey, resumePoint.epoch(), resumePoint.lastSequence())
+                : projectReplayLog.readSince(projectKey, null, 0L);
+
+        List<RawValue> events = slice.payloads().stream()
+                .map(payload -> new RawValue(new String(payload, StandardCharsets.UTF_8)))
+                .toList();
+
+        log.debug("Replay requested: projectKey={}, resumePoint={}, replayed={}, complete={}",
+                projectKey, resumePoint, events.size(), slice.complete());
+
+        return ApiResponse.onSuccess(ReplayResponse.builder()
+                .epoch(slice.epoch())
+                .currentSequence(slice.currentSequence())
+                .fullReloadRequired(!slice.complete())
+                .events(events)
+                .build());
+    }
+}
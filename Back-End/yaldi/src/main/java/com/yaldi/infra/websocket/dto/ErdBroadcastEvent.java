@@ -1,5 +1,6 @@
 package com.yaldi.infra.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.yaldi.infra.websocket.dto.WebSocketEvent;
 import lombok.*;
 
@@ -9,8 +10,11 @@ import lombok.*;
  * - userKey: 이벤트를 발생시킨 사용자 식별자
  * - event: 실제 이벤트 데이터 (WebSocketEvent 구현체)
  * - timestamp: 이벤트 생성 시각 (순서 보장용)
+ * - sequence: 프로젝트별 이벤트 순번 (재접속 시 누락분 재전송용, 커서/드래그 등 휘발성 이벤트는 null)
  */
 @Data
+// sequence는 마지막에 직렬화 (RedisProjectReplayLog가 순번 자리를 마지막 일치 위치로 찾음)
+@JsonPropertyOrder({"projectKey", "userKey", "event", "timestamp", "sequence"})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -21,4 +25,6 @@ public class ErdBroadcastEvent {
 
     @Builder.Default
     private Long timestamp = System.currentTimeMillis();
+
+    private Long sequence;
 }
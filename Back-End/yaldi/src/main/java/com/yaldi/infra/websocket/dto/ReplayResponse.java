@@ -0,0 +1,26 @@
+package com.yaldi.infra.websocket.dto;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 재접속 누락 이벤트 응답 (SUBSCRIBE /pub/erd/replay)
+ * - epoch / currentSequence: 다음 재접속 시 CONNECT 헤더로 보낼 값
+ * - fullReloadRequired: true면 누락 구간이 버퍼를 넘었으므로 ERD 전체 재조회
+ * - events: 누락 이벤트 (실시간 /topic/project/{projectKey} 메시지 본문과 동일한 JSON, 순번 오름차순)
+ *
+ * 실시간 구독과 겹친 이벤트가 있을 수 있으므로 클라이언트는 이미 반영한 sequence 이하를 무시한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReplayResponse {
+
+    private final String epoch;
+    private final long currentSequence;
+    private final boolean fullReloadRequired;
+    private final List<RawValue> events;
+}
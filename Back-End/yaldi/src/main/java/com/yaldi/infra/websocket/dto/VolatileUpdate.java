@@ -0,0 +1,38 @@
+package com.yaldi.infra.websocket.dto;
+
+/**
+ * 틱 브로드캐스트 대기 중인 휘발성 상태 (커서 / 테이블 드래그)
+ *
+ * 좌표를 primitive로 보관해 바이너리 경로에서는 BigDecimal을 만들지 않는다.
+ * JSON 프레임이 필요할 때만 이벤트 DTO로 변환한다.
+ */
+public record VolatileUpdate(
+        Kind kind,
+        long projectKey,
+        WebSocketSessionUser user,
+        long tableKey,
+        double x,
+        double y,
+        long timestamp) {
+
+    public enum Kind {
+        CURSOR,
+        TABLE_MOVE
+    }
+
+    public static VolatileUpdate cursor(long projectKey, WebSocketSessionUser user, double x, double y) {
+        return new VolatileUpdate(Kind.CURSOR, projectKey, user, 0L, x, y, System.currentTimeMillis());
+    }
+
+    public static VolatileUpdate tableMove(long projectKey, WebSocketSessionUser user, long tableKey,
+                                           double x, double y) {
+        return new VolatileUpdate(Kind.TABLE_MOVE, projectKey, user, tableKey, x, y, System.currentTimeMillis());
+    }
+
+    /**
+     * 병합 키: 커서는 사용자별(음수), 테이블 이동은 테이블별(양수)
+     */
+    public long coalesceKey() {
+        return kind == Kind.CURSOR ? -(long) user.getUserKey() : tableKey;
+    }
+}
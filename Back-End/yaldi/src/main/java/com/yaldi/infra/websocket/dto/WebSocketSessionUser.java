@@ -0,0 +1,49 @@
+package com.yaldi.infra.websocket.dto;
+
+import com.yaldi.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * WebSocket 세션에 캐싱되는 사용자 식별 정보
+ * - CONNECT 시점에 한 번만 DB 조회 후 세션 속성에 저장
+ * - 이후 모든 @MessageMapping 핸들러는 DB 접근 없이 이 객체를 사용
+ *
+ * userEmail 필드는 기존 이벤트 포맷과의 호환을 위해 Principal name(JWT subject)을 그대로 담는다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class WebSocketSessionUser implements Serializable {
+
+    private static final String[] USER_COLORS = {
+            "#ff6b6b", "#4ecdc4", "#45b7d1", "#f7b731", "#5f27cd",
+            "#00d2d3", "#1dd1a1", "#feca57", "#ee5a6f", "#c44569"
+    };
+
+    private final Integer userKey;
+    private final String userEmail;
+    private final String userName;
+    private final String userColor;
+
+    public static WebSocketSessionUser of(String principalName, User user) {
+        return WebSocketSessionUser.builder()
+                .userKey(user.getUserKey())
+                .userEmail(principalName)
+                .userName(user.getNickname())
+                .userColor(colorOf(principalName))
+                .build();
+    }
+
+    /**
+     * 사용자 식별자 해시 기반 고유 색상
+     */
+    public static String colorOf(String userEmail) {
+        return USER_COLORS[Math.abs(userEmail.hashCode() % USER_COLORS.length)];
+    }
+}
@@ -0,0 +1,93 @@
+package com.yaldi.infra.websocket.execution;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키별 직렬 실행기
+ *
+ * 같은 키의 작업은 제출 순서대로 하나씩, 다른 키의 작업은 delegate에서 병렬로 실행한다.
+ * 가상 스레드처럼 작업마다 새 스레드를 쓰는 실행기 위에서 프로젝트/세션 단위 순서를 보장하는 용도.
+ *
+ * - 키가 null이면 순서 보장 없이 delegate로 바로 실행
+ * - 키별 대기열은 비는 즉시 제거, 대기열 접근은 모두 compute 내부에서 처리 → 제출/제거 경쟁 없음
+ */
+@Slf4j
+public class KeyedSerialExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Function<Runnable, Object> keyExtractor;
+    private final Map<Object, Queue<Runnable>> queues = new ConcurrentHashMap<>();
+
+    public KeyedSerialExecutor(Executor delegate, Function<Runnable, Object> keyExtractor) {
+        this.delegate = delegate;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Object key = keyExtractor.apply(task);
+        if (key == null) {
+            delegate.execute(task);
+            return;
+        }
+
+        boolean[] first = new boolean[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                // 대기열이 없음 = 실행 중인 작업 없음 → 이 작업이 드레인을 시작
+                first[0] = true;
+                queue = new ArrayDeque<>();
+            }
+            queue.add(task);
+            return queue;
+        });
+
+        if (first[0]) {
+            delegate.execute(() -> drain(key));
+        }
+    }
+
+    private void drain(Object key) {
+        Runnable next = peek(key);
+        while (next != null) {
+            try {
+                next.run();
+            } catch (Throwable e) {
+                log.error("Serial task failed: key={}", key, e);
+            }
+            next = advance(key);
+        }
+    }
+
+    private Runnable peek(Object key) {
+        Runnable[] head = new Runnable[1];
+        queues.computeIfPresent(key, (k, queue) -> {
+            head[0] = queue.peek();
+            return queue;
+        });
+        return head[0];
+    }
+
+    /**
+     * 방금 실행한 작업을 제거하고 다음 작업 반환 (없으면 대기열 제거)
+     */
+    private Runnable advance(Object key) {
+        Runnable[] next = new Runnable[1];
+        queues.computeIfPresent(key, (k, queue) -> {
+            queue.poll();
+            next[0] = queue.peek();
+            return next[0] != null ? queue : null;
+        });
+        return next[0];
+    }
+
+    int getActiveKeyCount() {
+        return queues.size();
+    }
+}
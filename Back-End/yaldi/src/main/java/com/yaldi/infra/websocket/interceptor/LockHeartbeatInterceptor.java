@@ -0,0 +1,132 @@
+package com.yaldi.infra.websocket.interceptor;
+
+import com.yaldi.domain.erd.service.ErdLockService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 하트비트 프레임으로 락 하트비트 갱신 (yaldi.erd.lock.heartbeat.stomp-frames=true)
+ *
+ * 클라이언트 하트비트 프레임이 인바운드 채널에 들어오면 세션 사용자가 이 노드에서 보유한 락을 한 번에 갱신한다.
+ * 프레임마다 Redis를 호출하지 않도록 세션별 최소 간격을 두고, 소켓 I/O 스레드를 막지 않도록 전용 실행기에서 갱신한다.
+ * (spring.threads.virtual.enabled=true면 가상 스레드, 아니면 작은 플랫폼 스레드 풀. 풀이 가득 차면 이번 갱신은 건너뛰고
+ * 다음 하트비트에서 다시 시도)
+ * 클라이언트가 하트비트 프레임을 보내려면 yaldi.websocket.heartbeat-ms가 0보다 커야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockHeartbeatInterceptor implements ChannelInterceptor {
+
+    private final ErdLockService erdLockService;
+
+    @Value("${yaldi.erd.lock.heartbeat.stomp-frames:false}")
+    private boolean enabled;
+
+    @Value("${yaldi.erd.lock.heartbeat.min-interval-ms:3000}")
+    private long minIntervalMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    /** 세션 → 마지막 락 갱신 시각 */
+    private final Map<String, Long> lastRenewedAt = new ConcurrentHashMap<>();
+
+    private Executor renewExecutor;
+
+    @PostConstruct
+    public void init() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("lock-heartbeat-");
+            executor.setVirtualThreads(true);
+            renewExecutor = executor;
+            return;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("lock-heartbeat-");
+        executor.initialize();
+        renewExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (renewExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null) {
+            return message;
+        }
+
+        if (messageType == SimpMessageType.DISCONNECT) {
+            lastRenewedAt.remove(sessionId);
+        } else if (messageType == SimpMessageType.HEARTBEAT) {
+            Principal user = SimpMessageHeaderAccessor.getUser(headers);
+            if (user != null && isDue(sessionId)) {
+                submitRenew(sessionId, user.getName());
+            }
+        }
+        return message;
+    }
+
+    private boolean isDue(String sessionId) {
+        long now = System.currentTimeMillis();
+        AtomicBoolean due = new AtomicBoolean();
+        lastRenewedAt.compute(sessionId, (key, last) -> {
+            if (last != null && now - last < minIntervalMs) {
+                return last;
+            }
+            due.set(true);
+            return now;
+        });
+        return due.get();
+    }
+
+    private void submitRenew(String sessionId, String owner) {
+        try {
+            renewExecutor.execute(() -> renew(owner));
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 참 → 간격 기록을 지워 다음 하트비트에서 바로 재시도
+            lastRenewedAt.remove(sessionId);
+            log.warn("Lock renewal on STOMP heartbeat rejected: owner={}", owner);
+        }
+    }
+
+    private void renew(String owner) {
+        try {
+            erdLockService.renewLocksOf(owner);
+        } catch (Exception e) {
+            log.warn("Failed to renew locks on STOMP heartbeat: owner={}, {}", owner, e.getMessage());
+        }
+    }
+}
@@ -3,12 +3,17 @@ package com.yaldi.infra.websocket.interceptor;
 import com.yaldi.domain.erd.dto.websocket.event.MemberJoinEvent;
 import com.yaldi.domain.erd.dto.websocket.event.MemberLeaveEvent;
 import com.yaldi.domain.project.service.ProjectAccessValidator;
-import com.yaldi.domain.user.entity.User;
-import com.yaldi.domain.user.repository.UserRepository;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import com.yaldi.infra.websocket.presence.ProjectPresenceRegistry;
+import com.yaldi.infra.websocket.replay.ReplayResumePoint;
+import com.yaldi.infra.websocket.room.ProjectRoomRegistry;
 import com.yaldi.infra.websocket.service.ErdBroadcastBatchService;
+import com.yaldi.infra.websocket.service.WebSocketSessionUserResolver;
+import com.yaldi.infra.websocket.wire.BinaryWireFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -29,9 +34,15 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class WebSocketConnectionInterceptor implements ChannelInterceptor {
 
-    private final UserRepository userRepository;
+    private final WebSocketSessionUserResolver sessionUserResolver;
     private final ErdBroadcastBatchService erdBroadcastBatchService;
     private final ProjectAccessValidator projectAccessValidator;
+    private final ProjectRoomRegistry projectRoomRegistry;
+    private final ProjectPresenceRegistry projectPresenceRegistry;
+
+    // false면 x-yaldi-wire: binary 요청도 JSON으로 협상 (바이너리 틱 미발행)
+    @Value("${yaldi.websocket.wire.binary-enabled:false}")
+    private boolean binaryWireEnabled;
 
     // 세션별 프로젝트 매핑
     private final Map<String, Long> sessionProjectMap = new ConcurrentHashMap<>();
@@ -57,27 +68,36 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
     }
 
     /**
-     * Connect 시점: projectKey 헤더로 프로젝트 입장
+     * Connect 시점: 사용자 정보 세션 캐싱 + projectKey 헤더로 프로젝트 입장
      */
     private void handleConnect(StompHeaderAccessor accessor) {
         try {
             Principal principal = accessor.getUser();
             String sessionId = accessor.getSessionId();
 
+            if (principal == null || sessionId == null) {
+                return;
+            }
+
+            // 사용자 정보 조회 (세션당 1회, 이후 핸들러는 세션 속성만 사용)
+            WebSocketSessionUser user = sessionUserResolver.register(accessor);
+            if (user == null) {
+                return;
+            }
+
+            // 와이어 포맷 협상 (x-yaldi-wire: binary 헤더가 없거나 바이너리가 꺼져 있으면 JSON)
+            BinaryWireFormat.negotiate(accessor, binaryWireEnabled);
+
+            // 재접속 재개 지점 기록 (replayEpoch, lastSequence 헤더가 있을 때만)
+            ReplayResumePoint.capture(accessor);
+
             // projectKey 헤더 추출
             String projectKeyStr = accessor.getFirstNativeHeader("projectKey");
 
-            if (principal != null && sessionId != null && projectKeyStr != null) {
+            if (projectKeyStr != null) {
                 String userEmail = principal.getName();
                 Long projectKey = Long.parseLong(projectKeyStr);
 
-                // 사용자 정보 조회
-                User user = userRepository.findByEmail(userEmail).orElse(null);
-                if (user == null) {
-                    log.warn("User not found: {}", userEmail);
-                    return;
-                }
-
                 // 프로젝트 접근 권한 검증
                 try {
                     projectAccessValidator.validateProjectAccess(projectKey, user.getUserKey());
@@ -89,6 +109,12 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
                 // 세션-프로젝트 매핑 저장
                 sessionProjectMap.put(sessionId, projectKey);
 
+                // 프로젝트 방 입장 (방이 없으면 생성)
+                projectRoomRegistry.execute(projectKey, room -> room.join(sessionId));
+
+                // 클러스터 접속자 등록 (presence 구독 시 스냅샷으로 전달)
+                projectPresenceRegistry.join(projectKey, sessionId, user);
+
                 log.info("WebSocket CONNECT: user={}, project={}, session={}",
                         userEmail, projectKey, sessionId);
 
@@ -96,8 +122,8 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
                 MemberJoinEvent joinEvent = MemberJoinEvent.builder()
                         .projectKey(projectKey)
                         .userEmail(userEmail)
-                        .userName(user.getNickname())
-                        .userColor(getUserColor(userEmail))
+                        .userName(user.getUserName())
+                        .userColor(user.getUserColor())
                         .build();
 
                 ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
@@ -131,15 +157,19 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
                     log.info("WebSocket DISCONNECT: user={}, project={}, session={}",
                             userEmail, projectKey, sessionId);
 
-                    // 사용자 정보 조회
-                    User user = userRepository.findByEmail(userEmail).orElse(null);
+                    // 사용자 정보 조회 (CONNECT 시 캐싱된 세션 속성)
+                    WebSocketSessionUser user = sessionUserResolver.getCached(accessor);
+
+                    // 프로젝트 방 퇴장
+                    projectRoomRegistry.execute(projectKey, room -> room.leave(sessionId));
+                    projectPresenceRegistry.leave(projectKey, sessionId);
 
                     // 퇴장 이벤트 브로드캐스트
                     MemberLeaveEvent leaveEvent = MemberLeaveEvent.builder()
                             .projectKey(projectKey)
                             .userEmail(userEmail)
-                            .userName(user != null ? user.getNickname() : userEmail)
-                            .userColor(getUserColor(userEmail))
+                            .userName(user != null ? user.getUserName() : userEmail)
+                            .userColor(WebSocketSessionUser.colorOf(userEmail))
                             .build();
 
                     ErdBroadcastEvent collabEvent = ErdBroadcastEvent.builder()
@@ -158,18 +188,6 @@ public class WebSocketConnectionInterceptor implements ChannelInterceptor {
         }
     }
 
-    /**
-     * 사용자 색상 생성 (이메일 해시 기반)
-     */
-    private String getUserColor(String userEmail) {
-        int hash = userEmail.hashCode();
-        String[] colors = {
-            "#ff6b6b", "#4ecdc4", "#45b7d1", "#f7b731", "#5f27cd",
-            "#00d2d3", "#1dd1a1", "#feca57", "#ee5a6f", "#c44569"
-        };
-        return colors[Math.abs(hash) % colors.length];
-    }
-
     /**
      * 세션의 프로젝트 키 조회 (외부에서 사용 가능)
      */
@@ -0,0 +1,22 @@
+package com.yaldi.infra.websocket.outbound;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutboundChannel 인터셉터: 세션별 대기열 한도 정책 적용 (null 반환 시 전송 생략)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundBackpressureInterceptor implements ChannelInterceptor {
+
+    private final OutboundBackpressureService outboundBackpressureService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        return outboundBackpressureService.admit(message, channel);
+    }
+}
@@ -0,0 +1,267 @@
+package com.yaldi.infra.websocket.outbound;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.erd.dto.websocket.event.ResyncRequiredEvent;
+import com.yaldi.global.response.ApiResponse;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 느린 세션 보호 (세션별 아웃바운드 대기열 한도 + 이벤트 분류별 정책)
+ *
+ * - 대기열 길이: clientOutboundChannel 진입(admit) 시 +1, 소켓에 실제로 쓰인 시점(onDelivered) -1
+ * - VOLATILE: 대기열이 volatile-limit 이상이면 destination별 최신 1건만 보류, 대기열이 빠지면 보류분 전송
+ * - STRUCTURAL: 버리지 않음. structural-limit을 넘으면 RESYNC_REQUIRED를 한 번 보내고,
+ *   대기열이 빠질 때까지 이후 구조 이벤트는 보내지 않는다 (클라이언트는 replay로 누락분 복구)
+ * - CONTROL: 항상 전송
+ *
+ * 한도에 걸리지 않는 동안 Spring 세션 버퍼(send-buffer-size-limit)가 넘쳐 연결이 끊기는 일을 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundBackpressureService {
+
+    private static final String TOPIC_PREFIX = "/topic/project/";
+    private static final String RESYNC_REASON = "OUTBOUND_QUEUE_OVERFLOW";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${yaldi.websocket.outbound.volatile-limit:32}")
+    private int volatileLimit;
+
+    @Value("${yaldi.websocket.outbound.structural-limit:1000}")
+    private int structuralLimit;
+
+    private final Map<String, OutboundSessionState> sessions = new ConcurrentHashMap<>();
+
+    /** 보류분/재동기화 요청 재전송용 (최초 admit 시점에 clientOutboundChannel을 기억) */
+    private volatile MessageChannel outboundChannel;
+
+    private Counter volatileDroppedCounter;
+    private Counter structuralDroppedCounter;
+    private Counter resyncCounter;
+
+    @PostConstruct
+    public void init() {
+        volatileDroppedCounter = Counter.builder("yaldi.websocket.outbound.dropped")
+                .tag("class", "volatile")
+                .register(meterRegistry);
+        structuralDroppedCounter = Counter.builder("yaldi.websocket.outbound.dropped")
+                .tag("class", "structural")
+                .register(meterRegistry);
+        resyncCounter = Counter.builder("yaldi.websocket.outbound.resync")
+                .register(meterRegistry);
+        Gauge.builder("yaldi.websocket.outbound.queue.depth.max", sessions,
+                        states -> states.values().stream().mapToInt(OutboundSessionState::depth).max().orElse(0))
+                .register(meterRegistry);
+        Gauge.builder("yaldi.websocket.outbound.lagging.sessions", sessions,
+                        states -> states.values().stream().filter(state -> state.depth() >= volatileLimit).count())
+                .register(meterRegistry);
+    }
+
+    public void register(String sessionId, String userName) {
+        sessions.put(sessionId, new OutboundSessionState(sessionId, userName));
+    }
+
+    public void unregister(String sessionId) {
+        OutboundSessionState state = sessions.remove(sessionId);
+        if (state == null) {
+            return;
+        }
+        OutboundSessionSnapshot snapshot = state.snapshot();
+        if (snapshot.volatileDropped() > 0 || snapshot.structuralDropped() > 0) {
+            log.info("Lagging WebSocket session closed: {}", snapshot);
+        }
+    }
+
+    /**
+     * clientOutboundChannel 진입 시점 정책 적용
+     *
+     * @return 그대로 보낼 메시지, 보류/생략하면 null
+     */
+    public Message<?> admit(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        OutboundSessionState state = sessionId != null ? sessions.get(sessionId) : null;
+        if (state == null) {
+            return message;
+        }
+        outboundChannel = channel;
+
+        switch (OutboundEventClass.of(message)) {
+            case VOLATILE -> {
+                if (state.depth() >= volatileLimit) {
+                    if (state.holdVolatile(SimpMessageHeaderAccessor.getDestination(headers), message)) {
+                        volatileDroppedCounter.increment();
+                    }
+                    return null;
+                }
+            }
+            case STRUCTURAL -> {
+                if (state.isResyncPending()) {
+                    dropStructural(state);
+                    return null;
+                }
+                if (state.depth() >= structuralLimit) {
+                    dropStructural(state);
+                    if (state.beginResync()) {
+                        resyncCounter.increment();
+                        log.warn("Outbound queue overflow, resync requested: {}", state.snapshot());
+                        requestResync(headers, channel);
+                    }
+                    return null;
+                }
+            }
+            case CONTROL -> {
+                // 항상 전송
+            }
+        }
+
+        state.onEnqueued();
+        return message;
+    }
+
+    /**
+     * MESSAGE 프레임이 소켓에 쓰인 시점
+     * 대기열이 절반 이하로 빠지면 보류한 휘발성 메시지를 보내고 재동기화 대기 해제
+     */
+    public void onDelivered(String sessionId) {
+        OutboundSessionState state = sessions.get(sessionId);
+        if (state == null) {
+            return;
+        }
+        int depth = state.onDelivered();
+        if (depth > volatileLimit / 2) {
+            return;
+        }
+        if (state.isResyncPending()) {
+            state.endResync();
+        }
+
+        MessageChannel channel = outboundChannel;
+        if (channel == null || state.heldVolatile().isEmpty()) {
+            return;
+        }
+        state.heldVolatile().keySet().forEach(destination -> {
+            Message<?> held = state.heldVolatile().remove(destination);
+            if (held != null) {
+                channel.send(held);
+            }
+        });
+    }
+
+    /**
+     * 대기열이 긴 순서로 세션 상태 조회
+     */
+    public List<OutboundSessionSnapshot> getSnapshots(int limit) {
+        return sessions.values().stream()
+                .map(OutboundSessionState::snapshot)
+                .sorted(Comparator.comparingInt(OutboundSessionSnapshot::queueDepth).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 전체 세션 집계 (세션 ID/사용자 정보는 담지 않음)
+     */
+    public OutboundSummary getSummary() {
+        int count = 0;
+        int lagging = 0;
+        int resyncPending = 0;
+        long queued = 0;
+        int maxDepth = 0;
+        long held = 0;
+        long volatileDropped = 0;
+        long structuralDropped = 0;
+        long resyncRequests = 0;
+        for (OutboundSessionState state : sessions.values()) {
+            OutboundSessionSnapshot snapshot = state.snapshot();
+            count++;
+            if (snapshot.queueDepth() >= volatileLimit) {
+                lagging++;
+            }
+            if (snapshot.resyncPending()) {
+                resyncPending++;
+            }
+            queued += snapshot.queueDepth();
+            maxDepth = Math.max(maxDepth, snapshot.queueDepth());
+            held += snapshot.volatileHeld();
+            volatileDropped += snapshot.volatileDropped();
+            structuralDropped += snapshot.structuralDropped();
+            resyncRequests += snapshot.resyncRequests();
+        }
+        return new OutboundSummary(count, lagging, resyncPending, queued, maxDepth, held, volatileDropped,
+                structuralDropped, resyncRequests);
+    }
+
+    private void dropStructural(OutboundSessionState state) {
+        state.structuralDropped();
+        structuralDroppedCounter.increment();
+    }
+
+    /**
+     * 밀린 세션에게만 RESYNC_REQUIRED 전송 (원래 메시지와 같은 구독으로)
+     */
+    private void requestResync(MessageHeaders dropped, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(dropped);
+        String destination = SimpMessageHeaderAccessor.getDestination(dropped);
+        Long projectKey = parseProjectKey(destination);
+        try {
+            ErdBroadcastEvent event = ErdBroadcastEvent.builder()
+                    .projectKey(projectKey)
+                    .event(ResyncRequiredEvent.builder()
+                            .projectKey(projectKey)
+                            .reason(RESYNC_REASON)
+                            .build())
+                    .build();
+            byte[] payload = objectMapper.writeValueAsBytes(ApiResponse.onSuccess(event));
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(SimpMessageHeaderAccessor.getSubscriptionId(dropped));
+            accessor.setDestination(destination);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setHeader(OutboundEventClass.HEADER, OutboundEventClass.CONTROL);
+            accessor.setLeaveMutable(true);
+            channel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("Failed to send resync request: sessionId={}", sessionId, e);
+        }
+    }
+
+    private Long parseProjectKey(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        String rest = destination.substring(TOPIC_PREFIX.length());
+        int end = rest.indexOf('/');
+        try {
+            return Long.parseLong(end < 0 ? rest : rest.substring(0, end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
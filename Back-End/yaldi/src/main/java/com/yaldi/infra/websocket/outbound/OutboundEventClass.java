@@ -0,0 +1,31 @@
+package com.yaldi.infra.websocket.outbound;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+/**
+ * 클라이언트로 나가는 메시지 분류 (느린 세션 처리 정책 결정용)
+ *
+ * - VOLATILE: 커서/드래그 틱. 밀리면 세션별 최신 1건만 보관하고 나머지는 버림
+ * - STRUCTURAL: 테이블/컬럼/관계 변경 등. 버리지 않고, 한도를 넘으면 재동기화를 요청
+ * - CONTROL: 재동기화 요청 등 서버 제어 메시지. 항상 전송
+ *
+ * 분류는 메시지 헤더(STOMP 프레임에는 포함되지 않음)로 전달된다.
+ * 헤더가 없으면 /topic 브로드캐스트는 STRUCTURAL, 그 외(@SubscribeMapping 응답 등)는 CONTROL로 취급한다.
+ */
+public enum OutboundEventClass {
+    VOLATILE,
+    STRUCTURAL,
+    CONTROL;
+
+    public static final String HEADER = "yaldiOutboundClass";
+
+    public static OutboundEventClass of(Message<?> message) {
+        Object value = message.getHeaders().get(HEADER);
+        if (value instanceof OutboundEventClass eventClass) {
+            return eventClass;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return destination != null && destination.startsWith("/topic/") ? STRUCTURAL : CONTROL;
+    }
+}
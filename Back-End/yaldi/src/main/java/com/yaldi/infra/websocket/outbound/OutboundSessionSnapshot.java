@@ -0,0 +1,18 @@
+package com.yaldi.infra.websocket.outbound;
+
+/**
+ * 세션별 아웃바운드 큐 상태 조회용 스냅샷
+ */
+public record OutboundSessionSnapshot(
+        String sessionId,
+        String userName,
+        long connectedAt,
+        int queueDepth,
+        int maxQueueDepth,
+        long delivered,
+        int volatileHeld,
+        long volatileDropped,
+        long structuralDropped,
+        long resyncRequests,
+        boolean resyncPending) {
+}
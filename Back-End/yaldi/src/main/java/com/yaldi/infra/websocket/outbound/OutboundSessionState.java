@@ -0,0 +1,100 @@
+package com.yaldi.infra.websocket.outbound;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.messaging.Message;
+
+/**
+ * 세션별 아웃바운드 큐 상태
+ *
+ * depth: 아웃바운드 채널에 들어왔지만 아직 소켓에 쓰이지 않은 MESSAGE 프레임 수
+ * (clientOutboundChannel 실행 대기 + Spring 세션 버퍼를 합친 실제 대기열 길이)
+ */
+class OutboundSessionState {
+
+    private final String sessionId;
+    private final String userName;
+    private final long connectedAt = System.currentTimeMillis();
+
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder volatileDropped = new LongAdder();
+    private final LongAdder structuralDropped = new LongAdder();
+    private final LongAdder resyncRequests = new LongAdder();
+
+    /** destination → 밀려서 보류 중인 최신 휘발성 메시지 */
+    private final Map<String, Message<?>> heldVolatile = new ConcurrentHashMap<>();
+
+    /** 재동기화 요청을 보낸 뒤 대기열이 빠질 때까지 구조 이벤트를 보내지 않음 */
+    private final AtomicBoolean resyncPending = new AtomicBoolean();
+
+    OutboundSessionState(String sessionId, String userName) {
+        this.sessionId = sessionId;
+        this.userName = userName;
+    }
+
+    int onEnqueued() {
+        int current = depth.incrementAndGet();
+        maxDepth.accumulateAndGet(current, Math::max);
+        return current;
+    }
+
+    int onDelivered() {
+        delivered.increment();
+        return depth.updateAndGet(current -> Math.max(0, current - 1));
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    /**
+     * 휘발성 메시지 보류 (같은 destination의 이전 보류분은 최신 값으로 교체)
+     *
+     * @return 교체되어 버려진 이전 메시지가 있으면 true
+     */
+    boolean holdVolatile(String destination, Message<?> message) {
+        boolean replaced = heldVolatile.put(destination, message) != null;
+        if (replaced) {
+            volatileDropped.increment();
+        }
+        return replaced;
+    }
+
+    Map<String, Message<?>> heldVolatile() {
+        return heldVolatile;
+    }
+
+    void structuralDropped() {
+        structuralDropped.increment();
+    }
+
+    /**
+     * @return 이번 호출로 재동기화 대기 상태에 들어갔으면 true (요청 메시지는 한 번만 전송)
+     */
+    boolean beginResync() {
+        boolean started = resyncPending.compareAndSet(false, true);
+        if (started) {
+            resyncRequests.increment();
+        }
+        return started;
+    }
+
+    boolean isResyncPending() {
+        return resyncPending.get();
+    }
+
+    void endResync() {
+        resyncPending.set(false);
+    }
+
+    OutboundSessionSnapshot snapshot() {
+        return new OutboundSessionSnapshot(sessionId, userName, connectedAt, depth.get(), maxDepth.get(),
+                delivered.sum(), heldVolatile.size(), volatileDropped.sum(), structuralDropped.sum(),
+                resyncRequests.sum(), resyncPending.get());
+    }
+}
@@ -0,0 +1,16 @@
+package com.yaldi.infra.websocket.outbound;
+
+/**
+ * 아웃바운드 대기열 전체 집계 (세션 ID/사용자 정보 없음, 관리 엔드포인트 노출용)
+ */
+public record OutboundSummary(
+        int sessions,
+        int laggingSessions,
+        int resyncPendingSessions,
+        long queuedTotal,
+        int maxQueueDepth,
+        long volatileHeld,
+        long volatileDropped,
+        long structuralDropped,
+        long resyncRequests) {
+}
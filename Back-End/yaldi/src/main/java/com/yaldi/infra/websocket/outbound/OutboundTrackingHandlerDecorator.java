@@ -0,0 +1,86 @@
+package com.yaldi.infra.websocket.outbound;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 세션 등록/해제 + 실제 소켓 쓰기 시점 추적
+ *
+ * STOMP 핸들러에는 전송 추적용 세션을 넘긴다.
+ * Spring의 ConcurrentWebSocketSessionDecorator가 그 위를 감싸므로, 여기서의 sendMessage 완료 = 소켓 쓰기 완료.
+ */
+public class OutboundTrackingHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutboundBackpressureService outboundBackpressureService;
+
+    public OutboundTrackingHandlerDecorator(WebSocketHandler delegate,
+                                            OutboundBackpressureService outboundBackpressureService) {
+        super(delegate);
+        this.outboundBackpressureService = outboundBackpressureService;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        outboundBackpressureService.register(session.getId(),
+                session.getPrincipal() != null ? session.getPrincipal().getName() : null);
+        super.afterConnectionEstablished(new TrackingSession(session));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            outboundBackpressureService.unregister(session.getId());
+        }
+    }
+
+    private final class TrackingSession extends WebSocketSessionDecorator {
+
+        private TrackingSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                // admit에서 센 것은 MESSAGE 프레임뿐 (CONNECTED, RECEIPT, 하트비트 등은 제외)
+                if (isMessageFrame(message)) {
+                    outboundBackpressureService.onDelivered(getId());
+                }
+            }
+        }
+
+        private boolean isMessageFrame(WebSocketMessage<?> message) {
+            if (message instanceof TextMessage text) {
+                return text.getPayload().startsWith("MESSAGE\n");
+            }
+            if (message instanceof BinaryMessage binary) {
+                ByteBuffer payload = binary.getPayload();
+                if (payload.remaining() < MESSAGE_COMMAND.length) {
+                    return false;
+                }
+                for (int i = 0; i < MESSAGE_COMMAND.length; i++) {
+                    if (payload.get(payload.position() + i) != MESSAGE_COMMAND[i]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.yaldi.infra.websocket.outbound;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃바운드 대기열 집계 조회 (/actuator/websocketoutbound)
+ * 세션 ID/사용자 정보 없이 전체 집계만 반환, 기본 노출 목록에는 없음 (management.endpoints.web.exposure.include로 켬)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "websocketoutbound")
+public class WebSocketOutboundEndpoint {
+
+    private final OutboundBackpressureService outboundBackpressureService;
+
+    @ReadOperation
+    public OutboundSummary summary() {
+        return outboundBackpressureService.getSummary();
+    }
+}
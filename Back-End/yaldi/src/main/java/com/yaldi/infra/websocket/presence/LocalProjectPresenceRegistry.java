@@ -0,0 +1,44 @@
+package com.yaldi.infra.websocket.presence;
+
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 메모리 접속자 저장소 (기본값, 단일 노드/테스트용)
+ */
+@Component
+@ConditionalOnProperty(name = "yaldi.websocket.presence.store", havingValue = "local", matchIfMissing = true)
+public class LocalProjectPresenceRegistry implements ProjectPresenceRegistry {
+
+    private static final String NODE_ID = "local";
+
+    private final Map<Long, Map<String, PresenceMember>> projects = new ConcurrentHashMap<>();
+
+    @Override
+    public void join(Long projectKey, String sessionId, WebSocketSessionUser user) {
+        projects.compute(projectKey, (k, sessions) -> {
+            Map<String, PresenceMember> members = sessions != null ? sessions : new ConcurrentHashMap<>();
+            members.put(sessionId, PresenceMember.of(sessionId, user, NODE_ID));
+            return members;
+        });
+    }
+
+    @Override
+    public void leave(Long projectKey, String sessionId) {
+        // compute 내부에서 제거 → 빈 프로젝트 맵 정리와 join이 원자적으로 직렬화
+        projects.computeIfPresent(projectKey, (k, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    @Override
+    public List<PresenceMember> getMembers(Long projectKey) {
+        Map<String, PresenceMember> sessions = projects.get(projectKey);
+        return sessions != null ? List.copyOf(sessions.values()) : List.of();
+    }
+}
@@ -0,0 +1,23 @@
+package com.yaldi.infra.websocket.presence;
+
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+
+/**
+ * 프로젝트 접속 세션 1건
+ * - nodeId: 세션이 붙어 있는 노드 (노드 장애 시 해당 노드 세션 일괄 정리에 사용)
+ */
+public record PresenceMember(
+        String sessionId,
+        Integer userKey,
+        String userEmail,
+        String userName,
+        String userColor,
+        String nodeId,
+        long joinedAt
+) {
+
+    public static PresenceMember of(String sessionId, WebSocketSessionUser user, String nodeId) {
+        return new PresenceMember(sessionId, user.getUserKey(), user.getUserEmail(), user.getUserName(),
+                user.getUserColor(), nodeId, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,158 @@
+package com.yaldi.infra.websocket.presence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.erd.dto.redis.ColumnLockEntry;
+import com.yaldi.domain.erd.dto.websocket.event.LockSnapshotEvent;
+import com.yaldi.domain.erd.dto.websocket.event.PresenceSnapshotEvent;
+import com.yaldi.domain.erd.service.ErdLockService;
+import com.yaldi.global.response.ApiResponse;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+import com.yaldi.infra.websocket.interceptor.WebSocketConnectionInterceptor;
+import com.yaldi.infra.websocket.outbound.OutboundEventClass;
+import com.yaldi.infra.websocket.topic.ProjectTopic;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+/**
+ * presence 토픽 구독 시 현재 접속자 스냅샷과 테이블/컬럼 락 스냅샷을 해당 구독에만 즉시 전송
+ *
+ * 새로 들어온 사용자가 MEMBER_JOIN 배치 flush(2초)를 기다리지 않고 바로 접속자 목록을 그리고,
+ * 이미 잠긴 테이블/컬럼을 알고 시작하므로 실패할 락 요청을 보내지 않는다
+ * (테이블 락은 Redis HGETALL 한 번, 컬럼 락은 스크립트 한 번).
+ * 대상: /topic/project/{projectKey}/presence, 하위 토픽 미지원 클라이언트는 /topic/project/{projectKey}
+ * (세션이 CONNECT 때 입장한 프로젝트와 같을 때만)
+ */
+@Slf4j
+@Component
+public class PresenceSnapshotSender {
+
+    private static final String TOPIC_PREFIX = "/topic/project/";
+
+    private final ProjectPresenceRegistry projectPresenceRegistry;
+    private final ErdLockService erdLockService;
+    private final WebSocketConnectionInterceptor connectionInterceptor;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel clientOutboundChannel;
+
+    public PresenceSnapshotSender(ProjectPresenceRegistry projectPresenceRegistry,
+                                  ErdLockService erdLockService,
+                                  WebSocketConnectionInterceptor connectionInterceptor,
+                                  ObjectMapper objectMapper,
+                                  @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.projectPresenceRegistry = projectPresenceRegistry;
+        this.erdLockService = erdLockService;
+        this.connectionInterceptor = connectionInterceptor;
+        this.objectMapper = objectMapper;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent subscribeEvent) {
+        MessageHeaders headers = subscribeEvent.getMessage().getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (sessionId == null || destination == null) {
+            return;
+        }
+        Long projectKey = connectionInterceptor.getProjectKeyBySession(sessionId);
+        if (projectKey == null || !isPresenceDestination(destination, projectKey)) {
+            return;
+        }
+
+        try {
+            send(headers, projectKey, PresenceSnapshotEvent.builder()
+                    .projectKey(projectKey)
+                    .members(distinctUsers(projectPresenceRegistry.getMembers(projectKey)))
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to send presence snapshot: projectKey={}, sessionId={}", projectKey, sessionId, e);
+        }
+
+        try {
+            send(headers, projectKey, LockSnapshotEvent.builder()
+                    .projectKey(projectKey)
+                    .locks(locks(projectKey))
+                    .columnLocks(columnLocks(projectKey))
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to send lock snapshot: projectKey={}, sessionId={}", projectKey, sessionId, e);
+        }
+    }
+
+    private void send(MessageHeaders subscribeHeaders, Long projectKey, WebSocketEvent snapshot) throws Exception {
+        ErdBroadcastEvent event = ErdBroadcastEvent.builder()
+                .projectKey(projectKey)
+                .event(snapshot)
+                .build();
+        byte[] payload = objectMapper.writeValueAsBytes(ApiResponse.onSuccess(event));
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SimpMessageHeaderAccessor.getSessionId(subscribeHeaders));
+        accessor.setSubscriptionId(SimpMessageHeaderAccessor.getSubscriptionId(subscribeHeaders));
+        accessor.setDestination(SimpMessageHeaderAccessor.getDestination(subscribeHeaders));
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setHeader(OutboundEventClass.HEADER, OutboundEventClass.CONTROL);
+        accessor.setLeaveMutable(true);
+        clientOutboundChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    private boolean isPresenceDestination(String destination, Long projectKey) {
+        String projectTopic = TOPIC_PREFIX + projectKey;
+        return destination.equals(projectTopic) || destination.equals(projectTopic + ProjectTopic.PRESENCE.suffix());
+    }
+
+    /**
+     * 세션 단위 목록 → 사용자 단위 (여러 탭 접속 시 가장 먼저 들어온 세션 기준)
+     */
+    private List<PresenceSnapshotEvent.Member> distinctUsers(List<PresenceMember> sessions) {
+        Map<String, PresenceSnapshotEvent.Member> users = new LinkedHashMap<>();
+        sessions.stream()
+                .sorted(Comparator.comparingLong(PresenceMember::joinedAt))
+                .forEach(member -> users.putIfAbsent(member.userEmail(), PresenceSnapshotEvent.Member.builder()
+                        .userKey(member.userKey())
+                        .userEmail(member.userEmail())
+                        .userName(member.userName())
+                        .userColor(member.userColor())
+                        .build()));
+        return List.copyOf(users.values());
+    }
+
+    private List<LockSnapshotEvent.Lock> locks(Long projectKey) {
+        return erdLockService.getProjectLockSnapshot(projectKey).entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(lock -> LockSnapshotEvent.Lock.builder()
+                        .tableKey(lock.getKey())
+                        .userEmail(lock.getValue().owner())
+                        .userName(lock.getValue().userName())
+                        .userColor(lock.getValue().userColor())
+                        .acquiredAt(lock.getValue().acquiredAt())
+                        .build())
+                .toList();
+    }
+
+    private List<LockSnapshotEvent.ColumnLock> columnLocks(Long projectKey) {
+        return erdLockService.getProjectColumnLockSnapshot(projectKey).stream()
+                .sorted(Comparator.comparing(ColumnLockEntry::tableKey).thenComparing(ColumnLockEntry::columnKey))
+                .map(lock -> LockSnapshotEvent.ColumnLock.builder()
+                        .tableKey(lock.tableKey())
+                        .columnKey(lock.columnKey())
+                        .userEmail(lock.owner())
+                        .userName(lock.userName())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package com.yaldi.infra.websocket.presence;
+
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import java.util.List;
+
+/**
+ * 프로젝트별 접속자 저장소 (클러스터 전체 기준)
+ *
+ * - local: 노드 메모리 (단일 노드, 테스트용)
+ * - redis: 프로젝트별 Hash + 노드 하트비트 (다중 노드)
+ *
+ * 선택: yaldi.websocket.presence.store
+ */
+public interface ProjectPresenceRegistry {
+
+    void join(Long projectKey, String sessionId, WebSocketSessionUser user);
+
+    void leave(Long projectKey, String sessionId);
+
+    /**
+     * 현재 접속 중인 세션 목록 (O(접속 세션 수), 살아 있는 노드의 세션만)
+     */
+    List<PresenceMember> getMembers(Long projectKey);
+}
@@ -0,0 +1,232 @@
+package com.yaldi.infra.websocket.presence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 접속자 저장소 (다중 노드용)
+ *
+ * - 접속자: erd:presence:members:{projectKey} Hash (field = sessionId, value = PresenceMember JSON)
+ * - 노드 하트비트: erd:presence:nodes ZSET (member = nodeId, score = 마지막 하트비트 시각)
+ * - 노드별 세션 색인: erd:presence:node:{nodeId} Set ("{projectKey}:{sessionId}")
+ *
+ * 노드 장애 시 SCAN 없이 정리:
+ * 1. 조회 시 하트비트가 node-timeout-ms보다 오래된 노드의 세션은 결과에서 제외
+ * 2. 하트비트마다 죽은 노드를 ZSET 점수 범위로 찾아 세션 색인 기준으로 Hash 필드 삭제
+ * 모든 키에 TTL을 걸고 하트비트로 연장하므로 전체 클러스터가 내려가도 키가 남지 않는다.
+ * 하트비트 기록과 생존 판단은 모두 Redis 서버 시각(TIME) 기준이라 노드 간 시계 차이가 있어도
+ * 살아 있는 노드를 죽은 것으로 보거나 그 반대로 보지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "yaldi.websocket.presence.store", havingValue = "redis")
+public class RedisProjectPresenceRegistry implements ProjectPresenceRegistry {
+
+    private static final String MEMBERS_KEY_PREFIX = "erd:presence:members:";
+    private static final String NODES_KEY = "erd:presence:nodes";
+    private static final String NODE_SESSIONS_KEY_PREFIX = "erd:presence:node:";
+
+    /**
+     * 노드 하트비트 기록 (점수 = Redis 서버 시각)
+     * KEYS: [1] 노드 ZSET
+     * ARGV: [1] nodeId, [2] 키 TTL(ms)
+     */
+    private static final RedisScript<Long> TOUCH_NODE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZADD', KEYS[1], nowMillis, ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return nowMillis
+            """, Long.class);
+
+    /**
+     * Redis 서버 시각 기준으로 하트비트가 node-timeout-ms 이내인(ARGV[2] = 1) 또는 지난(0) 노드
+     * KEYS: [1] 노드 ZSET
+     * ARGV: [1] node-timeout-ms, [2] 1이면 살아 있는 노드, 0이면 죽은 노드
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> NODES_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local nowMillis = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local aliveSince = nowMillis - tonumber(ARGV[1])
+            if ARGV[2] == '1' then
+                return redis.call('ZRANGEBYSCORE', KEYS[1], aliveSince, '+inf')
+            end
+            return redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. aliveSince)
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${yaldi.websocket.presence.node-timeout-ms:30000}")
+    private long nodeTimeoutMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** 이 노드에 붙은 세션 → 프로젝트 (하트비트 TTL 연장, 종료 시 정리용) */
+    private final Map<String, Long> localSessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void join(Long projectKey, String sessionId, WebSocketSessionUser user) {
+        String membersKey = MEMBERS_KEY_PREFIX + projectKey;
+        String nodeSessionsKey = NODE_SESSIONS_KEY_PREFIX + nodeId;
+        try {
+            String member = objectMapper.writeValueAsString(PresenceMember.of(sessionId, user, nodeId));
+            localSessions.put(sessionId, projectKey);
+            touchNode();
+            redisTemplate.opsForHash().put(membersKey, sessionId, member);
+            redisTemplate.expire(membersKey, keyTtl());
+            redisTemplate.opsForSet().add(nodeSessionsKey, projectKey + ":" + sessionId);
+            redisTemplate.expire(nodeSessionsKey, keyTtl());
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize presence member: projectKey={}, sessionId={}", projectKey, sessionId, e);
+        } catch (Exception e) {
+            log.warn("Failed to register presence: projectKey={}, sessionId={}", projectKey, sessionId, e);
+        }
+    }
+
+    @Override
+    public void leave(Long projectKey, String sessionId) {
+        localSessions.remove(sessionId);
+        try {
+            redisTemplate.opsForHash().delete(MEMBERS_KEY_PREFIX + projectKey, sessionId);
+            redisTemplate.opsForSet().remove(NODE_SESSIONS_KEY_PREFIX + nodeId, projectKey + ":" + sessionId);
+        } catch (Exception e) {
+            // 남은 필드는 노드 정리 또는 키 TTL로 제거됨
+            log.warn("Failed to remove presence: projectKey={}, sessionId={}", projectKey, sessionId, e);
+        }
+    }
+
+    @Override
+    public List<PresenceMember> getMembers(Long projectKey) {
+        List<Object> values = redisTemplate.opsForHash().values(MEMBERS_KEY_PREFIX + projectKey);
+        if (values.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> aliveNodes = nodes(true);
+        List<PresenceMember> members = new ArrayList<>(values.size());
+        for (Object value : values) {
+            PresenceMember member = parse(value);
+            if (member != null && aliveNodes.contains(member.nodeId())) {
+                members.add(member);
+            }
+        }
+        return members;
+    }
+
+    /**
+     * 노드 하트비트 + 키 TTL 연장 + 죽은 노드 세션 정리
+     */
+    @Scheduled(fixedRateString = "${yaldi.websocket.presence.heartbeat-ms:10000}")
+    public void heartbeat() {
+        try {
+            touchNode();
+            Duration ttl = keyTtl();
+            localSessions.values().stream().distinct()
+                    .forEach(projectKey -> redisTemplate.expire(MEMBERS_KEY_PREFIX + projectKey, ttl));
+            if (!localSessions.isEmpty()) {
+                redisTemplate.expire(NODE_SESSIONS_KEY_PREFIX + nodeId, ttl);
+            }
+            reapDeadNodes();
+        } catch (Exception e) {
+            log.warn("Presence heartbeat failed: nodeId={}", nodeId, e);
+        }
+    }
+
+    /**
+     * 정상 종료 시 이 노드의 세션을 즉시 정리 (하트비트 만료를 기다리지 않음)
+     */
+    @PreDestroy
+    public void shutdown() {
+        try {
+            removeNode(nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to clean up presence on shutdown: nodeId={}", nodeId, e);
+        }
+    }
+
+    private void reapDeadNodes() {
+        Set<String> deadNodes = nodes(false);
+        if (deadNodes.isEmpty()) {
+            return;
+        }
+        // 여러 노드가 같은 죽은 노드를 동시에 정리해도 삭제 연산이라 결과는 같음
+        for (String deadNode : deadNodes) {
+            removeNode(deadNode);
+            log.info("Reaped presence of dead node: nodeId={}", deadNode);
+        }
+    }
+
+    private void removeNode(String node) {
+        String nodeSessionsKey = NODE_SESSIONS_KEY_PREFIX + node;
+        Set<String> entries = redisTemplate.opsForSet().members(nodeSessionsKey);
+        if (entries != null && !entries.isEmpty()) {
+            Map<String, List<Object>> fieldsByProject = new HashMap<>();
+            for (String entry : entries) {
+                int separator = entry.indexOf(':');
+                fieldsByProject.computeIfAbsent(MEMBERS_KEY_PREFIX + entry.substring(0, separator),
+                        k -> new ArrayList<>()).add(entry.substring(separator + 1));
+            }
+            fieldsByProject.forEach((membersKey, sessionIds) ->
+                    redisTemplate.opsForHash().delete(membersKey, sessionIds.toArray()));
+        }
+        redisTemplate.delete(nodeSessionsKey);
+        redisTemplate.opsForZSet().remove(NODES_KEY, node);
+    }
+
+    private void touchNode() {
+        redisTemplate.execute(TOUCH_NODE_SCRIPT, List.of(NODES_KEY), nodeId, String.valueOf(keyTtl().toMillis()));
+    }
+
+    /**
+     * @param alive true면 살아 있는 노드, false면 하트비트가 끊긴 노드 (Redis 서버 시각 기준)
+     */
+    private Set<String> nodes(boolean alive) {
+        List<?> nodes = redisTemplate.execute(NODES_SCRIPT, List.of(NODES_KEY),
+                String.valueOf(nodeTimeoutMs), alive ? "1" : "0");
+        if (nodes == null || nodes.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> result = new HashSet<>(nodes.size());
+        nodes.forEach(node -> result.add(node.toString()));
+        return result;
+    }
+
+    /**
+     * 마지막 하트비트 이후 노드 정리가 한 번 이상 돌 수 있도록 노드 타임아웃의 2배
+     */
+    private Duration keyTtl() {
+        return Duration.ofMillis(nodeTimeoutMs * 2);
+    }
+
+    private PresenceMember parse(Object value) {
+        try {
+            return objectMapper.readValue(value.toString(), PresenceMember.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed presence entry: {}", value);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.yaldi.infra.websocket.replay;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 메모리 기반 재전송 로그 (단일 노드용)
+ *
+ * 프로젝트별 최근 capacity개 이벤트를 링 버퍼로 보관한다.
+ * ttl-ms 동안 이벤트가 없던 프로젝트 버퍼는 제거되며, 다시 생성될 때 새 epoch를 발급한다.
+ * 노드마다 순번이 따로 매겨지므로 cluster.mode=redis(다중 노드)와 함께 쓰면 기동 시 실패한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "yaldi.websocket.replay.store", havingValue = "local", matchIfMissing = true)
+public class LocalProjectReplayLog implements ProjectReplayLog {
+
+    @Value("${yaldi.websocket.replay.capacity:1000}")
+    private int capacity;
+
+    @Value("${yaldi.websocket.replay.ttl-ms:600000}")
+    private long ttlMs;
+
+    @Value("${yaldi.websocket.cluster.mode:local}")
+    private String clusterMode;
+
+    private final Map<Long, ReplayBuffer> buffers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        if ("redis".equalsIgnoreCase(clusterMode)) {
+            // 노드별 순번이 섞이면 클라이언트가 다른 노드의 순번으로 재개해 이벤트를 잘못 건너뜀
+            throw new IllegalStateException("yaldi.websocket.replay.store=local cannot be used with "
+                    + "yaldi.websocket.cluster.mode=redis; set yaldi.websocket.replay.store=redis");
+        }
+    }
+
+    @Override
+    public Appended append(Long projectKey, LongFunction<byte[]> serializer) {
+        ReplayBuffer buffer = buffers.computeIfAbsent(projectKey, key -> new ReplayBuffer());
+        return buffer.append(serializer, capacity);
+    }
+
+    @Override
+    public ReplaySlice readSince(Long projectKey, String epoch, long lastSequence) {
+        ReplayBuffer buffer = buffers.computeIfAbsent(projectKey, key -> new ReplayBuffer());
+        return buffer.readSince(epoch, lastSequence);
+    }
+
+    /**
+     * 오래 이벤트가 없던 프로젝트 버퍼 제거
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuffers() {
+        long threshold = System.currentTimeMillis() - ttlMs;
+        buffers.keySet().forEach(projectKey ->
+                buffers.computeIfPresent(projectKey, (key, buffer) -> buffer.lastAppendAt < threshold ? null : buffer));
+    }
+
+    private static final class ReplayBuffer {
+
+        private final String epoch = UUID.randomUUID().toString();
+        private final Deque<Entry> entries = new ArrayDeque<>();
+        private long sequence;
+        private volatile long lastAppendAt = System.currentTimeMillis();
+
+        private record Entry(long sequence, byte[] payload) {
+        }
+
+        /**
+         * 순번 발급 + 직렬화 + 보관을 한 번에 → 로그 순서 = 순번 순서
+         */
+        synchronized Appended append(LongFunction<byte[]> serializer, int capacity) {
+            long next = sequence + 1;
+            byte[] payload = serializer.apply(next);
+            sequence = next;
+            entries.addLast(new Entry(next, payload));
+            while (entries.size() > capacity) {
+                entries.removeFirst();
+            }
+            lastAppendAt = System.currentTimeMillis();
+            return new Appended(next, payload);
+        }
+
+        synchronized ReplaySlice readSince(String clientEpoch, long lastSequence) {
+            if (!epoch.equals(clientEpoch) || lastSequence > sequence) {
+                return ReplaySlice.gap(epoch, sequence);
+            }
+            if (lastSequence == sequence) {
+                return new ReplaySlice(epoch, sequence, true, List.of());
+            }
+            Entry oldest = entries.peekFirst();
+            if (oldest == null || oldest.sequence() > lastSequence + 1) {
+                return ReplaySlice.gap(epoch, sequence);
+            }
+
+            List<byte[]> missed = new ArrayList<>((int) (sequence - lastSequence));
+            for (Entry entry : entries) {
+                if (entry.sequence() > lastSequence) {
+                    missed.add(entry.payload());
+                }
+            }
+            return new ReplaySlice(epoch, sequence, true, missed);
+        }
+    }
+}
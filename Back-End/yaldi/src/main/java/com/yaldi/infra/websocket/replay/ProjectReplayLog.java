@@ -0,0 +1,48 @@
+package com.yaldi.infra.websocket.replay;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 프로젝트별 브로드캐스트 순번 + 재전송 로그
+ *
+ * - append: 순번을 발급하고 그 순번이 찍힌 직렬화 결과를 로그에 보관 (최근 capacity개)
+ * - readSince: 재접속 클라이언트가 마지막으로 받은 순번 이후 이벤트 조회
+ *   로그에서 이미 밀려난 구간이 있거나 epoch가 다르면 전체 재조회 필요
+ *
+ * epoch: 순번 체계의 식별자. 로그가 초기화되면(노드 재시작, 퇴출 등) 바뀌어 이전 순번과 섞이지 않게 한다.
+ */
+public interface ProjectReplayLog {
+
+    /**
+     * 순번 발급 후 serializer가 만든 바이트를 로그에 추가하고 발급 순번과 함께 반환
+     * serializer는 항상 발급될 순번으로 호출되지만, 구현에 따라(다른 노드와 순번이 겹치면) 여러 번 호출될 수 있으므로
+     * 호출 측은 반환된 순번을 최종 값으로 사용한다.
+     */
+    Appended append(Long projectKey, LongFunction<byte[]> serializer);
+
+    /**
+     * lastSequence 이후 이벤트 조회
+     */
+    ReplaySlice readSince(Long projectKey, String epoch, long lastSequence);
+
+    /**
+     * @param sequence 발급된 순번
+     * @param payload  순번이 찍힌 직렬화 결과 (로그에 보관된 것과 같은 바이트)
+     */
+    record Appended(long sequence, byte[] payload) {
+    }
+
+    /**
+     * @param epoch           현재 순번 체계 식별자
+     * @param currentSequence 현재까지 발급된 마지막 순번
+     * @param complete        false면 누락 구간을 모두 보관하지 못함 → 전체 재조회 필요
+     * @param payloads        lastSequence 이후 이벤트 (순번 오름차순, ApiResponse JSON 바이트)
+     */
+    record ReplaySlice(String epoch, long currentSequence, boolean complete, List<byte[]> payloads) {
+
+        static ReplaySlice gap(String epoch, long currentSequence) {
+            return new ReplaySlice(epoch, currentSequence, false, List.of());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.yaldi.infra.websocket.replay;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 재전송 로그 (다중 노드용)
+ *
+ * - 순번: erd:replay:seq:{projectKey} INCR → 모든 노드가 같은 순번 체계 공유 (TTL 없음)
+ * - 로그: erd:replay:log:{projectKey} ZSET (score = 순번, member = ApiResponse JSON), 최근 capacity개 유지
+ * - epoch: erd:replay:epoch, Redis 데이터가 초기화되면 새로 발급되어 이전 순번과 구분
+ *
+ * 순번 발급(INCR)과 로그 보관(ZADD, 오래된 항목 제거, 만료 갱신)은 Lua 스크립트 한 번으로 원자 실행한다.
+ * 직렬화는 실제 순번으로 하므로 다음 순번을 예상해 직렬화하고, 스크립트는 예상이 맞을 때만 발급한다 (CAS).
+ * 같은 프로젝트의 발행은 노드 안에서 직렬화되어 있어 예상이 어긋나는 것은 다른 노드와 겹칠 때뿐이며,
+ * 그때는 스크립트가 돌려준 현재 순번으로 다시 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "yaldi.websocket.replay.store", havingValue = "redis")
+public class RedisProjectReplayLog implements ProjectReplayLog {
+
+    private static final String EPOCH_KEY = "erd:replay:epoch";
+    private static final String SEQUENCE_KEY_PREFIX = "erd:replay:seq:";
+    private static final String LOG_KEY_PREFIX = "erd:replay:log:";
+
+    /** 다른 노드와 순번 예상이 계속 겹칠 때 포기하기 전까지의 시도 횟수 */
+    private static final int MAX_APPEND_ATTEMPTS = 5;
+
+    /**
+     * KEYS: [1] 순번 키, [2] 로그 키
+     * ARGV: [1] 예상 순번, [2] 예상 순번으로 직렬화한 이벤트, [3] capacity, [4] ttl(ms)
+     * 반환: 예상이 맞으면 발급된 순번(1 이상), 어긋나면 -(현재 순번) (0 이하)
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if current + 1 ~= tonumber(ARGV[1]) then
+                return -current
+            end
+            local sequence = redis.call('INCR', KEYS[1])
+            redis.call('ZADD', KEYS[2], sequence, ARGV[2])
+            redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[3]) + 1))
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return sequence
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${yaldi.websocket.replay.capacity:1000}")
+    private int capacity;
+
+    @Value("${yaldi.websocket.replay.ttl-ms:600000}")
+    private long ttlMs;
+
+    @PostConstruct
+    public void init() {
+        redisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public Appended append(Long projectKey, LongFunction<byte[]> serializer) {
+        List<String> keys = List.of(SEQUENCE_KEY_PREFIX + projectKey, LOG_KEY_PREFIX + projectKey);
+        String current = redisTemplate.opsForValue().get(keys.get(0));
+        long expected = (current != null ? Long.parseLong(current) : 0L) + 1;
+
+        for (int attempt = 0; attempt < MAX_APPEND_ATTEMPTS; attempt++) {
+            byte[] payload = serializer.apply(expected);
+            Long result = redisTemplate.execute(APPEND_SCRIPT, keys, String.valueOf(expected),
+                    new String(payload, StandardCharsets.UTF_8), String.valueOf(capacity), String.valueOf(ttlMs));
+            if (result == null) {
+                throw new IllegalStateException("Replay sequence not issued: projectKey=" + projectKey);
+            }
+            if (result > 0) {
+                return new Appended(result, payload);
+            }
+            // 다른 노드가 먼저 발급함 → 현재 순번 다음 값으로 다시 직렬화
+            expected = -result + 1;
+        }
+        throw new IllegalStateException("Replay sequence contended too long: projectKey=" + projectKey);
+    }
+
+    @Override
+    public ReplaySlice readSince(Long projectKey, String clientEpoch, long lastSequence) {
+        String epoch = currentEpoch();
+        String current = redisTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + projectKey);
+        long sequence = current != null ? Long.parseLong(current) : 0L;
+
+        if (!epoch.equals(clientEpoch) || lastSequence > sequence) {
+            return ReplaySlice.gap(epoch, sequence);
+        }
+        if (lastSequence == sequence) {
+            return new ReplaySlice(epoch, sequence, true, List.of());
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(LOG_KEY_PREFIX + projectKey, lastSequence + 1, sequence);
+        if (entries == null || entries.isEmpty()) {
+            return ReplaySlice.gap(epoch, sequence);
+        }
+
+        List<byte[]> missed = new ArrayList<>(entries.size());
+        long expected = lastSequence + 1;
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            // 순번이 하나라도 비면(밀려난 구간, 유실된 기록) 부분 재전송 대신 전체 재조회
+            if (entry.getScore() == null || entry.getScore().longValue() != expected) {
+                return ReplaySlice.gap(epoch, sequence);
+            }
+            expected++;
+            missed.add(entry.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        if (expected != sequence + 1) {
+            return ReplaySlice.gap(epoch, sequence);
+        }
+        return new ReplaySlice(epoch, sequence, true, missed);
+    }
+
+    private String currentEpoch() {
+        String epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+        if (epoch == null) {
+            // Redis 초기화 등으로 epoch가 사라졌으면 새 epoch 발급 (이전 순번은 모두 무효)
+            redisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, UUID.randomUUID().toString());
+            epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+        }
+        return epoch;
+    }
+}
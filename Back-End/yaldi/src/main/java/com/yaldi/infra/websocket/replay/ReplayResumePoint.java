@@ -0,0 +1,56 @@
+package com.yaldi.infra.websocket.replay;
+
+import java.util.Map;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+/**
+ * 재접속 클라이언트가 CONNECT 헤더로 보낸 재개 지점
+ * - replayEpoch: 마지막으로 받은 순번 체계 (ReplayResponse.epoch)
+ * - lastSequence: 마지막으로 반영한 이벤트 순번
+ */
+public record ReplayResumePoint(String epoch, long lastSequence) {
+
+    public static final String EPOCH_HEADER = "replayEpoch";
+    public static final String LAST_SEQUENCE_HEADER = "lastSequence";
+    static final String SESSION_ATTRIBUTE = "yaldi.ws.replayResumePoint";
+
+    /**
+     * CONNECT 시점: 재개 지점 헤더가 있으면 세션 속성에 기록
+     */
+    public static void capture(StompHeaderAccessor accessor) {
+        String epoch = accessor.getFirstNativeHeader(EPOCH_HEADER);
+        String lastSequence = accessor.getFirstNativeHeader(LAST_SEQUENCE_HEADER);
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || epoch == null || lastSequence == null) {
+            return;
+        }
+        try {
+            attributes.put(SESSION_ATTRIBUTE, new ReplayResumePoint(epoch, Long.parseLong(lastSequence)));
+        } catch (NumberFormatException ignored) {
+            // 잘못된 순번이면 재개 지점 없이 전체 재조회
+        }
+    }
+
+    /**
+     * 현재 프레임(SUBSCRIBE) 헤더 우선, 없으면 CONNECT 때 세션에 기록된 재개 지점 (둘 다 없으면 null → 최초 접속)
+     * RESYNC_REQUIRED를 받은 클라이언트는 재연결 없이 SUBSCRIBE 헤더로 재개 지점을 보낸다.
+     */
+    public static ReplayResumePoint of(SimpMessageHeaderAccessor accessor) {
+        String epoch = accessor.getFirstNativeHeader(EPOCH_HEADER);
+        String lastSequence = accessor.getFirstNativeHeader(LAST_SEQUENCE_HEADER);
+        if (epoch != null && lastSequence != null) {
+            try {
+                return new ReplayResumePoint(epoch, Long.parseLong(lastSequence));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 순번이면 세션에 기록된 재개 지점 사용
+            }
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return attributes.get(SESSION_ATTRIBUTE) instanceof ReplayResumePoint resumePoint ? resumePoint : null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.yaldi.infra.websocket.room;
+
+import com.yaldi.domain.erd.repository.ErdTablePositionBatchRepository.TablePosition;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * 활성 프로젝트의 인메모리 협업 상태 ("방")
+ *
+ * - 접속 세션 수(퇴출 판단용)와 DB 반영 대기 중인 테이블 위치(write-behind)만 소유
+ * - 접속자 목록(ProjectPresenceRegistry), 락(Redis), 이벤트 순번(ProjectReplayLog)은 여러 노드가 공유해야 하므로
+ *   각 저장소가 권위를 갖고, 노드 로컬인 방에는 복제하지 않음 (복제본은 읽는 곳 없이 어긋나기만 함)
+ * - 모든 상태 변경은 RoomMailbox를 통해 단일 스레드로 직렬 처리 → 경쟁 조건 없음
+ * - 아래 상태 메서드는 ProjectRoomRegistry가 메일박스 안에서만 호출한다 (외부 스레드 직접 호출 금지)
+ */
+public class ProjectRoom {
+
+    private final long projectKey;
+    private final RoomMailbox mailbox;
+
+    // --- 메일박스 스레드 전용 상태 ---
+    private final Set<String> sessions = new HashSet<>();
+    private final Map<Long, TablePosition> dirtyPositions = new LinkedHashMap<>();
+
+    // --- 레지스트리(다른 스레드)에서 읽는 상태 ---
+    private volatile int memberCount;
+    private volatile long lastActivityAt = System.currentTimeMillis();
+    private volatile boolean closed;
+
+    ProjectRoom(long projectKey, Executor executor) {
+        this.projectKey = projectKey;
+        this.mailbox = new RoomMailbox(executor);
+    }
+
+    void submit(Runnable task) {
+        mailbox.submit(task);
+    }
+
+    public long getProjectKey() {
+        return projectKey;
+    }
+
+    // ===== sessions =====
+
+    public void join(String sessionId) {
+        sessions.add(sessionId);
+        memberCount = sessions.size();
+    }
+
+    public void leave(String sessionId) {
+        sessions.remove(sessionId);
+        memberCount = sessions.size();
+    }
+
+    // ===== table positions =====
+
+    public void commitPosition(long tableKey, BigDecimal x, BigDecimal y) {
+        dirtyPositions.put(tableKey, new TablePosition(tableKey, x, y));
+    }
+
+    /**
+     * 삭제된 테이블의 저장 대기 위치 폐기 (flush 시 삭제된 테이블에 다시 쓰지 않도록)
+     */
+    public void removeTable(long tableKey) {
+        dirtyPositions.remove(tableKey);
+    }
+
+    /**
+     * 저장 대기 위치를 꺼내고 비움 (write-behind flush용)
+     */
+    public List<TablePosition> drainDirtyPositions() {
+        if (dirtyPositions.isEmpty()) {
+            return List.of();
+        }
+        List<TablePosition> drained = new ArrayList<>(dirtyPositions.values());
+        dirtyPositions.clear();
+        return drained;
+    }
+
+    /**
+     * 저장 실패한 위치를 되돌림 (그 사이 더 새로운 위치가 들어왔으면 새 위치 유지)
+     */
+    public void restoreDirtyPositions(List<TablePosition> positions) {
+        positions.forEach(position -> dirtyPositions.putIfAbsent(position.tableKey(), position));
+    }
+
+    // ===== lifecycle (레지스트리 전용) =====
+
+    void touch() {
+        lastActivityAt = System.currentTimeMillis();
+    }
+
+    boolean isIdle(long now, long idleTimeoutMs) {
+        return memberCount == 0 && now - lastActivityAt >= idleTimeoutMs;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    int getMemberCount() {
+        return memberCount;
+    }
+}
@@ -0,0 +1,293 @@
+package com.yaldi.infra.websocket.room;
+
+import com.yaldi.domain.erd.repository.ErdTablePositionBatchRepository;
+import com.yaldi.domain.erd.repository.ErdTablePositionBatchRepository.TablePosition;
+import com.yaldi.domain.erd.service.ErdRevisionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 활성 프로젝트 방(ProjectRoom) 레지스트리
+ *
+ * - 첫 CONNECT 시 방 생성, 접속자가 없고 idle-timeout이 지나면 퇴출
+ * - 모든 방 작업은 execute/ask로 해당 방 메일박스에 제출 (단일 작성자)
+ * - 드래그 완료 위치는 방에 테이블별 최신 값만 쌓였다가 주기적으로, 그리고 퇴출/종료 시
+ *   JDBC 배치 UPDATE 한 번으로 DB에 반영 (write-behind)
+ * - 주기 flush/퇴출은 스케줄러 스레드를 막지 않음: 방 메일박스에서 꺼내고, 저장은 전용 flush 스레드에서 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectRoomRegistry {
+
+    private final ErdTablePositionBatchRepository erdTablePositionBatchRepository;
+    private final ErdRevisionService erdRevisionService;
+
+    @Value("${yaldi.websocket.room.mailbox-threads:4}")
+    private int mailboxThreads;
+
+    @Value("${yaldi.websocket.room.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 5;
+
+    private final Map<Long, ProjectRoom> rooms = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushInProgress = new AtomicBoolean(false);
+    private ExecutorService roomExecutor;
+    private ExecutorService flushExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        roomExecutor = Executors.newFixedThreadPool(mailboxThreads, runnable -> {
+            Thread thread = new Thread(runnable, "project-room-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-room-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 방 상태 변경 작업 제출 (방이 없으면 생성)
+     */
+    public void execute(long projectKey, Consumer<ProjectRoom> action) {
+        ProjectRoom room = getOrCreate(projectKey);
+        room.submit(() -> {
+            if (room.isClosed()) {
+                // 퇴출 직전에 도착한 작업 → 새 방으로 재전달
+                execute(projectKey, action);
+                return;
+            }
+            room.touch();
+            action.accept(room);
+        });
+    }
+
+    /**
+     * 활성 방이 있을 때만 작업 제출 (방을 새로 만들지 않음)
+     */
+    public void executeIfActive(long projectKey, Consumer<ProjectRoom> action) {
+        if (isActive(projectKey)) {
+            execute(projectKey, action);
+        }
+    }
+
+    /**
+     * 방 상태 조회 (메일박스에서 실행 후 결과 반환)
+     */
+    public <T> CompletableFuture<T> ask(long projectKey, Function<ProjectRoom, T> query) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(projectKey, room -> {
+            try {
+                result.complete(query.apply(room));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    public boolean isActive(long projectKey) {
+        ProjectRoom room = rooms.get(projectKey);
+        return room != null && !room.isClosed();
+    }
+
+    public int getActiveRoomCount() {
+        return rooms.size();
+    }
+
+    private ProjectRoom getOrCreate(long projectKey) {
+        return rooms.compute(projectKey, (key, room) ->
+                room == null || room.isClosed() ? new ProjectRoom(key, roomExecutor) : room);
+    }
+
+    /**
+     * 저장 대기 위치 주기적 반영
+     * 메일박스에서는 꺼내기만 하고, 모든 방의 위치를 모아 flush 스레드에서 JDBC 배치 한 번으로 저장
+     * (스케줄러 스레드는 꺼내기 요청만 제출하고 바로 반환, 이전 flush가 끝나지 않았으면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${yaldi.websocket.room.flush-interval-ms:1000}")
+    public void flushPositions() {
+        if (!flushInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        Map<Long, CompletableFuture<List<TablePosition>>> drains = new HashMap<>();
+        rooms.values().forEach(room -> drains.put(room.getProjectKey(), drain(room, false)));
+        persistWhenDrained(drains).whenComplete((ignored, error) -> flushInProgress.set(false));
+    }
+
+    /**
+     * 접속자가 없고 오래 사용되지 않은 방 퇴출 (퇴출 전 저장 대기 위치 반영)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        Map<Long, CompletableFuture<List<TablePosition>>> drains = new HashMap<>();
+        rooms.values().forEach(room -> {
+            if (!room.isIdle(now, idleTimeoutMs)) {
+                return;
+            }
+            CompletableFuture<List<TablePosition>> drained = new CompletableFuture<>();
+            room.submit(() -> {
+                if (room.isClosed() || !room.isIdle(System.currentTimeMillis(), idleTimeoutMs)) {
+                    drained.complete(List.of());
+                    return;
+                }
+                room.close();
+                rooms.remove(room.getProjectKey(), room);
+                drained.complete(room.drainDirtyPositions());
+                log.info("Project room evicted: projectKey={}", room.getProjectKey());
+            });
+            drains.put(room.getProjectKey(), drained);
+        });
+        persistWhenDrained(drains);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 종료 시 모든 방을 닫고 저장 대기 위치를 꺼낸 뒤 메일박스 종료 → 마지막 배치 저장
+        Map<Long, CompletableFuture<List<TablePosition>>> drains = new HashMap<>();
+        rooms.values().forEach(room -> drains.put(room.getProjectKey(), drain(room, true)));
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Project room flush executor did not terminate in time");
+        }
+        roomExecutor.shutdown();
+        if (!roomExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Project room executor did not terminate in time");
+        }
+        persistPositions(awaitDrains(drains), false);
+    }
+
+    private CompletableFuture<List<TablePosition>> drain(ProjectRoom room, boolean close) {
+        CompletableFuture<List<TablePosition>> drained = new CompletableFuture<>();
+        room.submit(() -> {
+            if (close) {
+                room.close();
+            }
+            drained.complete(room.drainDirtyPositions());
+        });
+        return drained;
+    }
+
+    /**
+     * 모든 꺼내기가 끝나거나 제한 시간이 지나면 flush 스레드에서 저장 (호출 스레드는 대기하지 않음)
+     */
+    private CompletableFuture<Void> persistWhenDrained(Map<Long, CompletableFuture<List<TablePosition>>> drains) {
+        if (drains.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(drains.values().toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .handleAsync((ignored, error) -> {
+                    persistPositions(collectDrains(drains), true);
+                    return null;
+                }, this::runOnFlushThread);
+    }
+
+    private void runOnFlushThread(Runnable task) {
+        try {
+            flushExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 꺼낸 위치를 잃지 않도록 현재 스레드에서 저장
+            task.run();
+        }
+    }
+
+    /**
+     * 완료된 꺼내기 결과만 모음 (늦게 꺼내진 위치는 다음 flush에서 저장되도록 방에 되돌림)
+     */
+    private Map<Long, List<TablePosition>> collectDrains(Map<Long, CompletableFuture<List<TablePosition>>> drains) {
+        Map<Long, List<TablePosition>> drainedByProject = new HashMap<>();
+        drains.forEach((projectKey, drained) -> {
+            if (!drained.isDone()) {
+                log.warn("Room position drain timed out: projectKey={}", projectKey);
+                drained.thenAccept(late -> requeue(projectKey, late));
+                return;
+            }
+            List<TablePosition> positions = drained.getNow(List.of());
+            if (!positions.isEmpty()) {
+                drainedByProject.put(projectKey, positions);
+            }
+        });
+        return drainedByProject;
+    }
+
+    private Map<Long, List<TablePosition>> awaitDrains(Map<Long, CompletableFuture<List<TablePosition>>> drains) {
+        Map<Long, List<TablePosition>> drainedByProject = new HashMap<>();
+        drains.forEach((projectKey, drained) -> {
+            try {
+                List<TablePosition> positions = drained.get(5, TimeUnit.SECONDS);
+                if (!positions.isEmpty()) {
+                    drainedByProject.put(projectKey, positions);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 늦게 꺼내진 위치는 다음 flush에서 저장되도록 방에 되돌림
+                log.warn("Room position drain timed out: projectKey={}", projectKey);
+                drained.thenAccept(late -> requeue(projectKey, late));
+            }
+        });
+        return drainedByProject;
+    }
+
+    private void persistPositions(Map<Long, List<TablePosition>> drainedByProject, boolean requeueOnFailure) {
+        if (drainedByProject.isEmpty()) {
+            return;
+        }
+        List<TablePosition> batch = new ArrayList<>();
+        drainedByProject.values().forEach(batch::addAll);
+
+        try {
+            erdTablePositionBatchRepository.batchUpdatePositions(batch);
+            log.debug("Table positions flushed: projects={}, tables={}", drainedByProject.size(), batch.size());
+        } catch (Exception e) {
+            if (!requeueOnFailure) {
+                log.error("Failed to persist table positions on shutdown: tables={}", batch.size(), e);
+                return;
+            }
+            log.warn("Failed to persist table positions, requeued: tables={}", batch.size(), e);
+            drainedByProject.forEach(this::requeue);
+            return;
+        }
+
+        // 위치가 저장된 프로젝트의 revision 증가 (실패해도 위치는 이미 저장됐으므로 되돌리지 않음)
+        try {
+            erdRevisionService.nextProjectRevisions(drainedByProject.keySet());
+        } catch (Exception e) {
+            log.warn("Failed to advance project revisions after position flush: projects={}",
+                    drainedByProject.keySet(), e);
+        }
+    }
+
+    private void requeue(long projectKey, List<TablePosition> positions) {
+        if (!positions.isEmpty()) {
+            // 닫힌 방이면 execute가 새 방으로 재전달
+            execute(projectKey, room -> room.restoreDirtyPositions(positions));
+        }
+    }
+}
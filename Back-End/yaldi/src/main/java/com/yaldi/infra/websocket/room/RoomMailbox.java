@@ -0,0 +1,73 @@
+package com.yaldi.infra.websocket.room;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 단위 단일 작성자(single-writer) 메일박스
+ *
+ * 공유 Executor 위에서 작업을 한 번에 하나씩, 제출 순서대로 실행한다.
+ * 같은 방의 작업은 절대 동시에 실행되지 않으므로 방 상태는 락 없이 일반 컬렉션으로 관리한다.
+ * Executor가 거부하면(종료 중 등) 작업은 큐에 남고, 다음 제출 때 다시 스케줄된다.
+ */
+@Slf4j
+final class RoomMailbox {
+
+    /** 한 번 스케줄될 때 처리할 최대 작업 수 (다른 방이 굶지 않도록 양보) */
+    private static final int DRAIN_BATCH = 256;
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    RoomMailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @throws RejectedExecutionException Executor가 실행을 거부한 경우 (작업은 큐에 남음)
+     */
+    void submit(Runnable task) {
+        tasks.add(task);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // scheduled가 true로 남으면 이후 제출이 영원히 실행되지 않으므로 되돌림
+                scheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            int processed = 0;
+            while (processed++ < DRAIN_BATCH && (task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("Room task failed", e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            if (!tasks.isEmpty()) {
+                try {
+                    schedule();
+                } catch (RejectedExecutionException e) {
+                    log.warn("Room mailbox reschedule rejected: pendingTasks={}", tasks.size());
+                }
+            }
+        }
+    }
+}
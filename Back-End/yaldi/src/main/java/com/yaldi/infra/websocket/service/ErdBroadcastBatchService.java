@@ -1,18 +1,34 @@
 package com.yaldi.infra.websocket.service;
 
+import com.yaldi.domain.erd.dto.websocket.event.CursorPosEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableMoveEvent;
 import com.yaldi.infra.kafka.service.ErdBroadcastKafkaProducerService;
 import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * ERD 브로드캐스트 배치 서비스
+ *
+ * 사용자별 버퍼에 쌓인 이벤트를 주기적으로 병합(coalescing)하여 Kafka로 발행한다.
+ * - 병합 단위: (이벤트 타입, 대상 키) → 예: 테이블별 마지막 TABLE_MOVE, 사용자별 마지막 CURSOR_POS
+ * - 병합되지 않는 이벤트는 원래 순서 그대로 유지
+ * - 사용자별 버퍼는 lock-free 큐로 collectEvent/flush 동시 실행에 안전
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,78 +36,141 @@ public class ErdBroadcastBatchService {
 
     private final ErdBroadcastKafkaProducerService kafkaProducerService;
 
-    private final Map<Long, Map<String, List<ErdBroadcastEvent>>> eventBuffer = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Queue<ErdBroadcastEvent>>> eventBuffer = new ConcurrentHashMap<>();
 
-    // 압축 가능한 이벤트 타입 (마지막 것만 유효한 이벤트)
-    private static final Set<String> COMPRESSIBLE_EVENTS = Set.of(
-        "CURSOR_MOVE",      // 커서 위치 - 마지막 위치만 중요
-        "TABLE_MOVE"        // 테이블 드래그 중 - 마지막 위치만 중요
-    );
+    private final Map<Long, BatchStats> statsByProject = new ConcurrentHashMap<>();
 
+    // 프로젝트 방 퇴출과 같은 기준으로 오래 갱신되지 않은 통계 제거
+    @Value("${yaldi.websocket.room.idle-timeout-ms:600000}")
+    private long statsIdleTimeoutMs;
+
+    /**
+     * compute 내부에서 적재 → flush의 빈 버퍼 제거와 원자적으로 직렬화되어 유실 없음
+     */
     public void collectEvent(ErdBroadcastEvent event) {
-        eventBuffer
-                .computeIfAbsent(event.getProjectKey(), k -> new ConcurrentHashMap<>())
-                .computeIfAbsent(String.valueOf(event.getUserKey()), k -> new ArrayList<>())
-                .add(event);
+        eventBuffer.compute(event.getProjectKey(), (projectKey, senderMap) -> {
+            Map<String, Queue<ErdBroadcastEvent>> senders =
+                    senderMap != null ? senderMap : new ConcurrentHashMap<>();
+            senders.compute(String.valueOf(event.getUserKey()), (sender, queue) -> {
+                Queue<ErdBroadcastEvent> buffer = queue != null ? queue : new ConcurrentLinkedQueue<>();
+                buffer.add(event);
+                return buffer;
+            });
+            return senders;
+        });
     }
 
     @Scheduled(fixedRate = 2000)
     public void flush() {
         eventBuffer.forEach((projectKey, senderMap) -> {
-            senderMap.forEach((sender, events) -> {
-                if (events.isEmpty()) return;
-
-                // 1. 타임스탬프 순으로 정렬 (순서 보장)
-                events.sort((e1, e2) -> Long.compare(e1.getTimestamp(), e2.getTimestamp()));
-
-                // 2. 이벤트 타입별로 그룹화 (순서 유지)
-                Map<String, List<ErdBroadcastEvent>> groupedByType = events.stream()
-                        .collect(Collectors.groupingBy(
-                                e -> e.getEvent().getType(),
-                                java.util.LinkedHashMap::new,  // 순서 보장을 위해 LinkedHashMap 사용
-                                Collectors.toList()
-                        ));
-
-                int originalCount = events.size();
-                int compressedCount = 0;
-
-                // 3. 타입별로 압축 처리
-                for (Map.Entry<String, List<ErdBroadcastEvent>> entry : groupedByType.entrySet()) {
-                    String eventType = entry.getKey();
-                    List<ErdBroadcastEvent> typeEvents = entry.getValue();
-
-                    if (COMPRESSIBLE_EVENTS.contains(eventType) && typeEvents.size() > 1) {
-                        // 압축 가능한 이벤트: 타임스탬프가 가장 최근인 것만 전송
-                        ErdBroadcastEvent latest = typeEvents.stream()
-                                .max((e1, e2) -> Long.compare(e1.getTimestamp(), e2.getTimestamp()))
-                                .orElse(typeEvents.get(typeEvents.size() - 1));
-                        kafkaProducerService.publish(latest);
-                        compressedCount++;
-
-                        log.debug("Compressed {} {} events to 1 (projectKey={}, user={})",
-                                typeEvents.size(), eventType, projectKey, sender);
-                    } else {
-                        // 압축 불가능한 이벤트: 타임스탬프 순으로 모두 전송
-                        typeEvents.forEach(kafkaProducerService::publish);
-                        compressedCount += typeEvents.size();
-                    }
-                }
+            senderMap.forEach((sender, queue) -> {
+                List<ErdBroadcastEvent> drained = drain(queue);
+                if (drained.isEmpty()) return;
 
-                if (originalCount > compressedCount) {
-                    log.info("Batch optimization: {} events → {} events ({}% reduced, projectKey={}, user={})",
-                            originalCount, compressedCount,
-                            (originalCount - compressedCount) * 100 / originalCount,
-                            projectKey, sender);
-                }
+                List<ErdBroadcastEvent> coalesced = coalesce(drained);
+                coalesced.forEach(kafkaProducerService::publish);
 
-                events.clear();
+                BatchStats stats = statsByProject.computeIfAbsent(projectKey, k -> new BatchStats());
+                stats.inputEvents.add(drained.size());
+                stats.outputEvents.add(coalesced.size());
+                stats.lastUpdatedAt = System.currentTimeMillis();
+
+                if (drained.size() > coalesced.size()) {
+                    log.debug("Batch optimization: {} events → {} events (projectKey={}, user={})",
+                            drained.size(), coalesced.size(), projectKey, sender);
+                }
             });
 
-            // 4. 메모리 누수 방지: 빈 사용자 맵 제거
-            senderMap.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+            // 메모리 누수 방지: 빈 사용자 큐 제거
+            senderMap.keySet().forEach(sender ->
+                    senderMap.computeIfPresent(sender, (k, queue) -> queue.isEmpty() ? null : queue));
         });
 
-        // 5. 메모리 누수 방지: 빈 프로젝트 맵 제거
-        eventBuffer.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+        // 메모리 누수 방지: 빈 프로젝트 맵 제거
+        eventBuffer.keySet().forEach(projectKey ->
+                eventBuffer.computeIfPresent(projectKey, (k, senderMap) -> senderMap.isEmpty() ? null : senderMap));
+
+        // 메모리 누수 방지: 유휴 프로젝트 통계 제거
+        long now = System.currentTimeMillis();
+        statsByProject.values().removeIf(stats -> now - stats.lastUpdatedAt >= statsIdleTimeoutMs);
+    }
+
+    /**
+     * 프로젝트별 배치 통계 조회 (없거나 유휴 시간이 지나 제거되었으면 null)
+     */
+    public BatchStats getStats(Long projectKey) {
+        return statsByProject.get(projectKey);
+    }
+
+    private List<ErdBroadcastEvent> drain(Queue<ErdBroadcastEvent> queue) {
+        List<ErdBroadcastEvent> drained = new ArrayList<>();
+        ErdBroadcastEvent event;
+        while ((event = queue.poll()) != null) {
+            drained.add(event);
+        }
+        return drained;
+    }
+
+    /**
+     * 뒤에서부터 훑으며 같은 병합 키의 이전 이벤트를 제거
+     * → 각 키의 마지막 이벤트만 남고, 나머지 이벤트의 상대 순서는 그대로 유지
+     */
+    private List<ErdBroadcastEvent> coalesce(List<ErdBroadcastEvent> events) {
+        List<ErdBroadcastEvent> result = new ArrayList<>(events.size());
+        Set<String> seenKeys = new HashSet<>();
+
+        for (int i = events.size() - 1; i >= 0; i--) {
+            ErdBroadcastEvent event = events.get(i);
+            String coalesceKey = coalesceKey(event.getEvent());
+            if (coalesceKey != null && !seenKeys.add(coalesceKey)) {
+                continue;
+            }
+            result.add(event);
+        }
+
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 병합 가능한 이벤트의 키 (마지막 상태만 유효한 이벤트)
+     *
+     * @return 병합 불가능한 이벤트면 null
+     */
+    private String coalesceKey(WebSocketEvent event) {
+        if (event instanceof TableMoveEvent move && move.getTableKey() != null) {
+            // 테이블 드래그 중 - 테이블별 마지막 위치만 중요
+            return move.getType() + ":" + move.getTableKey();
+        }
+        if (event instanceof CursorPosEvent cursor) {
+            // 커서 위치 - 사용자별 마지막 위치만 중요 (버퍼가 이미 사용자별)
+            return cursor.getType() + ":" + cursor.getUserEmail();
+        }
+        return null;
+    }
+
+    /**
+     * 프로젝트별 누적 배치 통계
+     */
+    public static class BatchStats {
+        private final LongAdder inputEvents = new LongAdder();
+        private final LongAdder outputEvents = new LongAdder();
+        private volatile long lastUpdatedAt = System.currentTimeMillis();
+
+        public long getInputEvents() {
+            return inputEvents.sum();
+        }
+
+        public long getOutputEvents() {
+            return outputEvents.sum();
+        }
+
+        /**
+         * 압축률 (제거된 이벤트 비율, 0.0 ~ 1.0)
+         */
+        public double getCompressionRatio() {
+            long input = getInputEvents();
+            return input == 0 ? 0.0 : 1.0 - (double) getOutputEvents() / input;
+        }
     }
 }
@@ -0,0 +1,240 @@
+package com.yaldi.infra.websocket.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.erd.dto.websocket.event.CursorPosEvent;
+import com.yaldi.domain.erd.dto.websocket.event.VolatileTickEvent;
+import com.yaldi.domain.viewer.sse.ViewerSseEmitterManager;
+import com.yaldi.global.response.ApiResponse;
+import com.yaldi.infra.websocket.cluster.ClusterBroadcastMessage;
+import com.yaldi.infra.websocket.cluster.ClusterBroadcastRelay;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.execution.KeyedSerialExecutor;
+import com.yaldi.infra.websocket.outbound.OutboundEventClass;
+import com.yaldi.infra.websocket.replay.ProjectReplayLog;
+import com.yaldi.infra.websocket.topic.EchoSuppressionInterceptor;
+import com.yaldi.infra.websocket.topic.ProjectTopic;
+import com.yaldi.infra.websocket.wire.BinaryWireFormat;
+import jakarta.annotation.PostConstruct;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * /topic/project/{projectKey} 브로드캐스트 단일 진입점
+ *
+ * 1. 이벤트를 ApiResponse JSON 바이트로 한 번만 직렬화
+ *    (휘발성 이벤트가 아니면 프로젝트별 순번을 찍고 재전송 로그에 보관)
+ *    순번 발급과 발행은 프로젝트별 직렬 실행기(KeyedSerialExecutor) 안에서 함께 수행 → 발행 순서 = 순번 순서
+ * 2. 같은 바이트를 로컬 STOMP 구독자, SSE 뷰어, 클러스터 중계에 그대로 전달 (메시지 컨버터 우회)
+ *    STOMP는 이벤트 종류별 하위 토픽(ProjectTopic)으로, SSE 뷰어에게는 STRUCTURE 이벤트만 전달
+ * 3. 다른 노드는 중계받은 바이트를 재직렬화 없이 자신의 로컬 구독자에게 전달
+ * 4. 중계로 되돌아온 자기 메시지는 nodeId로 걸러냄
+ *
+ * 바이너리 프레임(BinaryWireFormat)은 broadcastBinary로 별도 하위 토픽에 전송한다.
+ * 모든 메시지에는 OutboundEventClass 헤더를 붙여 느린 세션에서의 처리 방식(버림/재동기화)을 구분한다.
+ * 발신 세션을 지정하면 헤더로 실어 보내 에코 억제(EchoSuppressionInterceptor)에 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectBroadcastService {
+
+    private static final String TOPIC_PREFIX = "/topic/project/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterBroadcastRelay clusterBroadcastRelay;
+    private final ViewerSseEmitterManager viewerSseEmitterManager;
+    private final ObjectMapper objectMapper;
+    private final ProjectReplayLog projectReplayLog;
+
+    // true: 하위 토픽 외에 기본 토픽(/topic/project/{projectKey})에도 전달 (하위 토픽 이전 클라이언트 호환)
+    @Value("${yaldi.websocket.topic.legacy-aggregate:false}")
+    private boolean legacyAggregate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 순번이 찍히는 이벤트의 실행 기반 (작업마다 가상 스레드, 프로젝트 단위 순서는 sequencedExecutor가 보장)
+    private Executor sequencedDelegate = virtualThreadExecutor();
+    private KeyedSerialExecutor sequencedExecutor;
+
+    /** 프로젝트 키로 직렬화되는 순번 발급 + 발행 작업 */
+    private record SequencedTask(Long projectKey, Runnable body) implements Runnable {
+        @Override
+        public void run() {
+            body.run();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        sequencedExecutor = new KeyedSerialExecutor(sequencedDelegate,
+                task -> task instanceof SequencedTask sequenced ? sequenced.projectKey() : null);
+        clusterBroadcastRelay.subscribe(this::onRelayMessage);
+        log.info("Project broadcast node registered: nodeId={}", nodeId);
+    }
+
+    /**
+     * 워크스페이스 편집자(WebSocket)에게만 브로드캐스트
+     */
+    public void broadcast(ErdBroadcastEvent event) {
+        broadcast(event, null, false);
+    }
+
+    /**
+     * 워크스페이스 편집자(WebSocket)에게만 브로드캐스트 (발신 세션의 echo:false 구독에는 전달하지 않음)
+     */
+    public void broadcast(ErdBroadcastEvent event, String originSessionId) {
+        broadcast(event, originSessionId, false);
+    }
+
+    /**
+     * 워크스페이스 편집자(WebSocket) + 뷰어링크 접속자(SSE)에게 브로드캐스트 (SSE는 STRUCTURE 이벤트만)
+     */
+    public void broadcastWithViewers(ErdBroadcastEvent event) {
+        broadcast(event, null, true);
+    }
+
+    /**
+     * 이미 인코딩된 바이너리 프레임을 /topic/project/{projectKey}{destinationSuffix}로 브로드캐스트 (SSE 제외)
+     */
+    public void broadcastBinary(Long projectKey, String destinationSuffix, byte[] frame) {
+        publish(ClusterBroadcastMessage.builder()
+                .projectKey(projectKey)
+                .destinationSuffix(destinationSuffix)
+                .contentType(BinaryWireFormat.CONTENT_TYPE.toString())
+                .payload(frame)
+                .volatileEvent(true)
+                .build());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void broadcast(ErdBroadcastEvent event, String originSessionId, boolean includeViewers) {
+        if (!isReplayable(event)) {
+            try {
+                publishEvent(event, serialize(event), originSessionId, includeViewers, true);
+            } catch (UncheckedIOException e) {
+                log.error("Failed to serialize broadcast: projectKey={}", event.getProjectKey(), e);
+            }
+            return;
+        }
+
+        // 순번 발급과 발행 사이에 같은 프로젝트의 다른 발행이 끼어들지 않도록 한 작업으로 실행
+        sequencedExecutor.execute(new SequencedTask(event.getProjectKey(), () -> {
+            ProjectReplayLog.Appended appended;
+            try {
+                appended = projectReplayLog.append(event.getProjectKey(), sequence -> {
+                    event.setSequence(sequence);
+                    return serialize(event);
+                });
+            } catch (UncheckedIOException e) {
+                log.error("Failed to serialize broadcast: projectKey={}", event.getProjectKey(), e);
+                return;
+            }
+            event.setSequence(appended.sequence());
+            publishEvent(event, appended.payload(), originSessionId, includeViewers, false);
+        }));
+    }
+
+    private void publishEvent(ErdBroadcastEvent event, byte[] payload, String originSessionId,
+                              boolean includeViewers, boolean volatileEvent) {
+        ProjectTopic topic = ProjectTopic.of(event.getEvent());
+        publish(ClusterBroadcastMessage.builder()
+                .projectKey(event.getProjectKey())
+                .destinationSuffix(topic.suffix())
+                .aggregate(true)
+                .contentType(MimeTypeUtils.APPLICATION_JSON_VALUE)
+                .payload(payload)
+                .includeViewers(includeViewers && topic == ProjectTopic.STRUCTURE)
+                .volatileEvent(volatileEvent)
+                .originSessionId(originSessionId)
+                .build());
+    }
+
+    private byte[] serialize(ErdBroadcastEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.onSuccess(event));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 커서/드래그 틱은 다음 틱에 최신 값이 다시 오므로 재전송 대상에서 제외
+     */
+    private boolean isReplayable(ErdBroadcastEvent event) {
+        return event.getProjectKey() != null
+                && !(event.getEvent() instanceof VolatileTickEvent)
+                && !(event.getEvent() instanceof CursorPosEvent);
+    }
+
+    private static Executor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-broadcast-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    private void publish(ClusterBroadcastMessage message) {
+        message.setNodeId(nodeId);
+        deliverLocal(message);
+        clusterBroadcastRelay.publish(message);
+    }
+
+    private void onRelayMessage(ClusterBroadcastMessage message) {
+        // 자기 노드가 보낸 메시지는 이미 로컬 전달 완료
+        if (nodeId.equals(message.getNodeId()) || message.getPayload() == null) {
+            return;
+        }
+        deliverLocal(message);
+    }
+
+    private void deliverLocal(ClusterBroadcastMessage message) {
+        String baseDestination = TOPIC_PREFIX + message.getProjectKey();
+        MimeType contentType = message.getContentType() != null
+                ? MimeTypeUtils.parseMimeType(message.getContentType())
+                : MimeTypeUtils.APPLICATION_JSON;
+
+        String suffix = message.getDestinationSuffix();
+        if (suffix != null) {
+            send(baseDestination + suffix, contentType, message);
+        }
+        if (suffix == null || (message.isAggregate() && legacyAggregate)) {
+            send(baseDestination, contentType, message);
+        }
+
+        if (message.isIncludeViewers()) {
+            viewerSseEmitterManager.sendToViewers(message.getProjectKey(), message.getPayload());
+        }
+    }
+
+    private void send(String destination, MimeType contentType, ClusterBroadcastMessage message) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(contentType);
+            accessor.setHeader(OutboundEventClass.HEADER,
+                    message.isVolatileEvent() ? OutboundEventClass.VOLATILE : OutboundEventClass.STRUCTURAL);
+            if (message.getOriginSessionId() != null) {
+                accessor.setHeader(EchoSuppressionInterceptor.ORIGIN_SESSION_HEADER, message.getOriginSessionId());
+            }
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(destination,
+                    MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("Failed to deliver broadcast: destination={}", destination, e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.yaldi.infra.websocket.service;
+
+import com.yaldi.domain.erd.dto.websocket.event.CursorPosEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableMoveEvent;
+import com.yaldi.domain.erd.dto.websocket.event.VolatileTickEvent;
+import com.yaldi.infra.websocket.config.VolatileTickSchedulerConfig;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.dto.VolatileUpdate;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import com.yaldi.infra.websocket.wire.BinaryWireFormat;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * 휘발성 협업 이벤트(커서, 테이블 드래그) 틱 브로드캐스터
+ *
+ * 클라이언트 프레임마다 바로 전송하지 않고, 프로젝트별로 사용자/테이블당 최신 상태만 보관했다가
+ * 틱마다 하나의 프레임으로 전송한다.
+ * → 아웃바운드 메시지 수가 클라이언트 전송 빈도가 아닌 틱 주기에 비례
+ *
+ * - JSON: VOLATILE_TICK 이벤트 → /topic/project/{projectKey}/cursor
+ * - 바이너리: BinaryWireFormat 틱 프레임 → /topic/project/{projectKey}/volatile.bin
+ *
+ * 틱 주기: yaldi.websocket.tick.interval-ms (기본 40ms = 25Hz), 전용 스케줄러(volatileTickScheduler)에서 실행
+ */
+@Service
+@Slf4j
+public class VolatileTickBroadcastService {
+
+    public static final String BINARY_DESTINATION_SUFFIX = "/volatile.bin";
+
+    private final ProjectBroadcastService projectBroadcastService;
+    private final TaskScheduler tickScheduler;
+
+    @Value("${yaldi.websocket.tick.interval-ms:40}")
+    private long tickIntervalMs;
+
+    // 기본 off: 켜면 틱마다 JSON과 바이너리를 모두 인코딩/발행하므로 바이너리 클라이언트가 있을 때만 사용
+    @Value("${yaldi.websocket.wire.binary-enabled:false}")
+    private boolean binaryEnabled;
+
+    /**
+     * projectKey → (병합 키 → 최신 상태)
+     */
+    private final Map<Long, Map<Long, VolatileUpdate>> pending = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> tickTask;
+
+    public VolatileTickBroadcastService(ProjectBroadcastService projectBroadcastService,
+                                        @Qualifier(VolatileTickSchedulerConfig.TICK_SCHEDULER) TaskScheduler tickScheduler) {
+        this.projectBroadcastService = projectBroadcastService;
+        this.tickScheduler = tickScheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        tickTask = tickScheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(tickIntervalMs));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel(false);
+        }
+    }
+
+    /**
+     * 커서 위치 갱신 (사용자별 최신 값만 유지)
+     */
+    public void offerCursor(long projectKey, WebSocketSessionUser user, double x, double y) {
+        offer(VolatileUpdate.cursor(projectKey, user, x, y));
+    }
+
+    /**
+     * 테이블 이동 갱신 (테이블별 최신 값만 유지)
+     */
+    public void offerTableMove(long projectKey, WebSocketSessionUser user, long tableKey, double x, double y) {
+        offer(VolatileUpdate.tableMove(projectKey, user, tableKey, x, y));
+    }
+
+    private void offer(VolatileUpdate update) {
+        // compute 내부에서 적재 → tick의 빈 맵 제거와 원자적으로 직렬화
+        pending.compute(update.projectKey(), (projectKey, latest) -> {
+            Map<Long, VolatileUpdate> states = latest != null ? latest : new ConcurrentHashMap<>();
+            states.put(update.coalesceKey(), update);
+            return states;
+        });
+    }
+
+    public void tick() {
+        pending.forEach((projectKey, states) -> {
+            List<VolatileUpdate> updates = new ArrayList<>(states.size());
+            // 키 단위 remove → 틱 도중 들어온 값은 유실 없이 다음 틱으로 넘어감
+            for (Long key : states.keySet()) {
+                VolatileUpdate update = states.remove(key);
+                if (update != null) {
+                    updates.add(update);
+                }
+            }
+            if (updates.isEmpty()) {
+                return;
+            }
+            updates.sort(Comparator.comparingLong(VolatileUpdate::timestamp));
+
+            try {
+                projectBroadcastService.broadcast(toJsonTick(projectKey, updates));
+                if (binaryEnabled) {
+                    projectBroadcastService.broadcastBinary(projectKey, BINARY_DESTINATION_SUFFIX,
+                            BinaryWireFormat.encodeTick(updates));
+                }
+            } catch (Exception e) {
+                log.error("Failed to send tick frame: projectKey={}", projectKey, e);
+            }
+        });
+
+        // 메모리 누수 방지: 빈 프로젝트 맵 제거
+        pending.keySet().forEach(projectKey ->
+                pending.computeIfPresent(projectKey, (k, states) -> states.isEmpty() ? null : states));
+    }
+
+    /**
+     * 기존 JSON 클라이언트용 VOLATILE_TICK 이벤트 (이 경로에서만 BigDecimal 생성)
+     */
+    private ErdBroadcastEvent toJsonTick(Long projectKey, List<VolatileUpdate> updates) {
+        List<ErdBroadcastEvent> events = new ArrayList<>(updates.size());
+        for (VolatileUpdate update : updates) {
+            WebSocketSessionUser user = update.user();
+            ErdBroadcastEvent.ErdBroadcastEventBuilder builder = ErdBroadcastEvent.builder()
+                    .projectKey(projectKey)
+                    .userKey(user.getUserKey())
+                    .timestamp(update.timestamp());
+
+            if (update.kind() == VolatileUpdate.Kind.CURSOR) {
+                builder.event(CursorPosEvent.builder()
+                        .projectKey(projectKey)
+                        .userEmail(user.getUserEmail())
+                        .userName(user.getUserName())
+                        .userColor(user.getUserColor())
+                        .xPosition(BigDecimal.valueOf(update.x()))
+                        .yPosition(BigDecimal.valueOf(update.y()))
+                        .build());
+            } else {
+                builder.event(TableMoveEvent.builder()
+                        .tableKey(update.tableKey())
+                        .xPosition(BigDecimal.valueOf(update.x()))
+                        .yPosition(BigDecimal.valueOf(update.y()))
+                        .build());
+            }
+            events.add(builder.build());
+        }
+
+        return ErdBroadcastEvent.builder()
+                .projectKey(projectKey)
+                .event(VolatileTickEvent.builder().events(events).build())
+                .build();
+    }
+}
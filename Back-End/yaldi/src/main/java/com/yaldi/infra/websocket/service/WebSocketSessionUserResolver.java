@@ -0,0 +1,105 @@
+package com.yaldi.infra.websocket.service;
+
+import com.yaldi.domain.user.entity.User;
+import com.yaldi.domain.user.repository.UserRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * WebSocket 세션 사용자 식별 정보 관리
+ *
+ * CONNECT 시점에 한 번 DB 조회 → 세션 속성에 저장
+ * 커서/드래그 등 고빈도 프레임 처리 시에는 세션 속성만 읽어 DB 왕복을 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketSessionUserResolver {
+
+    public static final String SESSION_USER_ATTRIBUTE = "yaldi.ws.sessionUser";
+
+    private final UserRepository userRepository;
+
+    /**
+     * CONNECT 시점: 사용자 조회 후 세션 속성에 저장
+     *
+     * @return 조회된 사용자 정보 (사용자가 없으면 null)
+     */
+    public WebSocketSessionUser register(SimpMessageHeaderAccessor accessor) {
+        Principal principal = accessor.getUser();
+        if (principal == null) {
+            return null;
+        }
+
+        WebSocketSessionUser sessionUser = loadUser(principal.getName()).orElse(null);
+        if (sessionUser == null) {
+            log.warn("User not found: {}", principal.getName());
+            return null;
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            attributes.put(SESSION_USER_ATTRIBUTE, sessionUser);
+        }
+        return sessionUser;
+    }
+
+    /**
+     * 세션에 캐싱된 사용자 정보 조회 (DB 접근 없음)
+     */
+    public WebSocketSessionUser getCached(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object cached = attributes.get(SESSION_USER_ATTRIBUTE);
+        return cached instanceof WebSocketSessionUser sessionUser ? sessionUser : null;
+    }
+
+    /**
+     * 메시지 핸들러용 사용자 조회
+     * 세션 캐시 우선, CONNECT 이전 세션 등 캐시가 없는 경우에만 DB 조회 후 캐싱
+     */
+    public WebSocketSessionUser resolve(SimpMessageHeaderAccessor accessor, Principal principal) {
+        if (principal == null) {
+            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+        }
+
+        WebSocketSessionUser cached = getCached(accessor);
+        if (cached != null) {
+            return cached;
+        }
+
+        WebSocketSessionUser sessionUser = loadUser(principal.getName())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            attributes.put(SESSION_USER_ATTRIBUTE, sessionUser);
+        }
+        return sessionUser;
+    }
+
+    /**
+     * Principal name(JWT subject = userKey)으로 사용자 조회
+     * 숫자가 아닌 경우 이메일로 간주
+     */
+    private Optional<WebSocketSessionUser> loadUser(String principalName) {
+        Optional<User> user;
+        try {
+            user = userRepository.findById(Integer.parseInt(principalName));
+        } catch (NumberFormatException e) {
+            user = userRepository.findByEmail(principalName);
+        }
+        return user.map(u -> WebSocketSessionUser.of(principalName, u));
+    }
+}
@@ -0,0 +1,84 @@
+package com.yaldi.infra.websocket.topic;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발신자 에코 억제 (clientInboundChannel + clientOutboundChannel 공용)
+ *
+ * - 인바운드: SUBSCRIBE 헤더에 echo:false가 있으면 해당 구독을 에코 억제 대상으로 기록
+ * - 아웃바운드: 브로드캐스트의 발신 세션(ORIGIN_SESSION_HEADER)과 받는 세션이 같고
+ *   억제 대상 구독이면 전송 생략 (이미 낙관적으로 반영한 자기 변경을 다시 받지 않음)
+ *
+ * 발신 세션은 ProjectBroadcastService.broadcast(event, originSessionId)로 지정한 경우에만 붙는다.
+ * 여러 사용자의 값을 묶은 틱 프레임은 대상이 아니다.
+ */
+@Component
+public class EchoSuppressionInterceptor implements ChannelInterceptor {
+
+    public static final String ECHO_HEADER = "echo";
+    public static final String ORIGIN_SESSION_HEADER = "yaldiOriginSession";
+
+    /** sessionId → 에코 억제 구독 ID */
+    private final Map<String, Set<String>> suppressedSubscriptions = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (messageType == null) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null) {
+            return message;
+        }
+
+        switch (messageType) {
+            case MESSAGE -> {
+                if (isEcho(headers, sessionId)) {
+                    return null;
+                }
+            }
+            case SUBSCRIBE -> {
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+                if (subscriptionId != null && "false".equalsIgnoreCase(
+                        SimpMessageHeaderAccessor.getFirstNativeHeader(ECHO_HEADER, headers))) {
+                    suppressedSubscriptions.computeIfAbsent(sessionId, k -> ConcurrentHashMap.newKeySet())
+                            .add(subscriptionId);
+                }
+            }
+            case UNSUBSCRIBE -> {
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+                if (subscriptionId != null) {
+                    suppressedSubscriptions.computeIfPresent(sessionId, (k, subscriptions) -> {
+                        subscriptions.remove(subscriptionId);
+                        return subscriptions.isEmpty() ? null : subscriptions;
+                    });
+                }
+            }
+            case DISCONNECT -> suppressedSubscriptions.remove(sessionId);
+            default -> {
+                // 그 외 프레임은 그대로 통과
+            }
+        }
+        return message;
+    }
+
+    private boolean isEcho(MessageHeaders headers, String sessionId) {
+        if (!sessionId.equals(headers.get(ORIGIN_SESSION_HEADER))) {
+            return false;
+        }
+        Set<String> subscriptions = suppressedSubscriptions.get(sessionId);
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+        return subscriptions != null && subscriptionId != null && subscriptions.contains(subscriptionId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.yaldi.infra.websocket.topic;
+
+import com.yaldi.domain.comment.dto.event.CommentCreatedEvent;
+import com.yaldi.domain.comment.dto.event.CommentDeletedEvent;
+import com.yaldi.domain.comment.dto.event.CommentResolvedEvent;
+import com.yaldi.domain.comment.dto.event.ReplyCreatedEvent;
+import com.yaldi.domain.comment.dto.event.ReplyDeletedEvent;
+import com.yaldi.domain.erd.dto.websocket.event.ColumnLockEvent;
+import com.yaldi.domain.erd.dto.websocket.event.ColumnUnlockEvent;
+import com.yaldi.domain.erd.dto.websocket.event.CursorPosEvent;
+import com.yaldi.domain.erd.dto.websocket.event.LockSnapshotEvent;
+import com.yaldi.domain.erd.dto.websocket.event.MemberJoinEvent;
+import com.yaldi.domain.erd.dto.websocket.event.MemberLeaveEvent;
+import com.yaldi.domain.erd.dto.websocket.event.PresenceSnapshotEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableLockBatchEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableLockEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableUnlockBatchEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableUnlockEvent;
+import com.yaldi.domain.erd.dto.websocket.event.VolatileTickEvent;
+import com.yaldi.infra.websocket.dto.WebSocketEvent;
+
+/**
+ * 프로젝트 하위 토픽 (/topic/project/{projectKey}{suffix})
+ *
+ * 클라이언트는 필요한 하위 토픽만 구독한다. (읽기 전용 화면은 structure만, 접힌 댓글 패널은 comments 생략 등)
+ * - PRESENCE: 입장/퇴장, 테이블/컬럼 락/해제 (구독 직후 접속자 스냅샷 1회)
+ * - CURSOR: 커서/드래그 틱 (JSON VOLATILE_TICK, 바이너리는 /volatile.bin)
+ * - STRUCTURE: 테이블/컬럼/관계 변경, 확정 위치, 컬럼 순서 (SSE 뷰어는 이 토픽만 받음)
+ * - COMMENTS: 댓글/대댓글
+ *
+ * 웹 클라이언트(ErdWebSocketClient)는 presence(에코 수신), cursor/structure(echo:false)를 구독한다.
+ * 하위 토픽 이전 클라이언트가 남아 있는 동안에는 yaldi.websocket.topic.legacy-aggregate=true로
+ * 같은 프레임을 기본 토픽(/topic/project/{projectKey})에도 전달할 수 있다 (기본값 false).
+ * 순번(sequence)은 프로젝트 전체 기준이므로 하위 토픽만 구독하면 중간 번호가 비는 것이 정상이다.
+ */
+public enum ProjectTopic {
+    PRESENCE("/presence"),
+    CURSOR("/cursor"),
+    STRUCTURE("/structure"),
+    COMMENTS("/comments");
+
+    private final String suffix;
+
+    ProjectTopic(String suffix) {
+        this.suffix = suffix;
+    }
+
+    public String suffix() {
+        return suffix;
+    }
+
+    public static ProjectTopic of(WebSocketEvent event) {
+        if (event instanceof CursorPosEvent || event instanceof VolatileTickEvent) {
+            return CURSOR;
+        }
+        if (event instanceof MemberJoinEvent || event instanceof MemberLeaveEvent
+                || event instanceof PresenceSnapshotEvent || event instanceof LockSnapshotEvent
+                || event instanceof TableLockEvent || event instanceof TableUnlockEvent
+                || event instanceof TableLockBatchEvent || event instanceof TableUnlockBatchEvent
+                || event instanceof ColumnLockEvent || event instanceof ColumnUnlockEvent) {
+            return PRESENCE;
+        }
+        if (event instanceof CommentCreatedEvent || event instanceof CommentDeletedEvent
+                || event instanceof CommentResolvedEvent || event instanceof ReplyCreatedEvent
+                || event instanceof ReplyDeletedEvent) {
+            return COMMENTS;
+        }
+        return STRUCTURE;
+    }
+}
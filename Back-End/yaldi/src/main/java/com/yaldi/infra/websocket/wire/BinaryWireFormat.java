@@ -0,0 +1,126 @@
+package com.yaldi.infra.websocket.wire;
+
+import com.yaldi.infra.websocket.dto.VolatileUpdate;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeType;
+
+/**
+ * 고빈도 협업 이벤트용 고정 길이 바이너리 포맷 (big-endian)
+ *
+ * <pre>
+ * 클라이언트 → 서버
+ *   커서        [0x01][projectKey i64][x f32][y f32]            = 17 bytes
+ *   테이블 이동  [0x02][tableKey i64][x f32][y f32]              = 17 bytes
+ *
+ * 서버 → 클라이언트 (/topic/project/{projectKey}/volatile.bin)
+ *   틱 프레임    [0x10][count u16] + 항목 * count
+ *     커서       [0x01][userKey i32][x f32][y f32]               = 13 bytes
+ *     테이블 이동 [0x02][userKey i32][tableKey i64][x f32][y f32] = 21 bytes
+ * </pre>
+ *
+ * 사용자 이름/색상은 프레임에 싣지 않고 userKey로 식별한다 (MEMBER_JOIN 등 JSON 이벤트로 전달된 정보 사용).
+ * CONNECT 헤더 {@code x-yaldi-wire: binary}로 협상하며, 협상하지 않은 클라이언트는 기존 JSON을 그대로 사용한다.
+ * 서버는 선택한 포맷을 CONNECTED 헤더 {@code x-yaldi-wire}로 돌려주므로 클라이언트는 json이면 JSON으로 폴백한다.
+ * SockJS는 텍스트 전송이므로 바이너리 포맷은 네이티브 WebSocket 엔드포인트에서만 지원한다.
+ */
+public final class BinaryWireFormat {
+
+    public static final MimeType CONTENT_TYPE = new MimeType("application", "vnd.yaldi.collab+binary");
+
+    public static final String NEGOTIATION_HEADER = "x-yaldi-wire";
+    public static final String NEGOTIATION_BINARY = "binary";
+    public static final String NEGOTIATION_JSON = "json";
+    public static final String SESSION_ATTRIBUTE = "yaldi.ws.wireFormat";
+
+    public static final byte CURSOR = 0x01;
+    public static final byte TABLE_MOVE = 0x02;
+    public static final byte TICK = 0x10;
+
+    public static final int INBOUND_FRAME_SIZE = 1 + Long.BYTES + Float.BYTES * 2;
+    private static final int TICK_HEADER_SIZE = 1 + Short.BYTES;
+    private static final int CURSOR_ENTRY_SIZE = 1 + Integer.BYTES + Float.BYTES * 2;
+    private static final int TABLE_MOVE_ENTRY_SIZE = 1 + Integer.BYTES + Long.BYTES + Float.BYTES * 2;
+    private static final int MAX_TICK_ENTRIES = 0xFFFF;
+
+    private BinaryWireFormat() {
+    }
+
+    /**
+     * 클라이언트 → 서버 프레임 (커서/테이블 이동 공통 레이아웃)
+     *
+     * @param key 커서면 projectKey, 테이블 이동이면 tableKey
+     */
+    public record InboundFrame(byte type, long key, float x, float y) {
+    }
+
+    /**
+     * @throws IllegalArgumentException 길이 또는 타입이 맞지 않는 경우
+     */
+    public static InboundFrame decodeInbound(byte[] frame, byte expectedType) {
+        if (frame == null || frame.length != INBOUND_FRAME_SIZE || frame[0] != expectedType) {
+            throw new IllegalArgumentException("Invalid binary frame");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(frame, 1, INBOUND_FRAME_SIZE - 1);
+        return new InboundFrame(expectedType, buffer.getLong(), buffer.getFloat(), buffer.getFloat());
+    }
+
+    public static byte[] encodeTick(List<VolatileUpdate> updates) {
+        int count = Math.min(updates.size(), MAX_TICK_ENTRIES);
+        int size = TICK_HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            size += updates.get(i).kind() == VolatileUpdate.Kind.CURSOR ? CURSOR_ENTRY_SIZE : TABLE_MOVE_ENTRY_SIZE;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(TICK);
+        buffer.putShort((short) count);
+        for (int i = 0; i < count; i++) {
+            VolatileUpdate update = updates.get(i);
+            if (update.kind() == VolatileUpdate.Kind.CURSOR) {
+                buffer.put(CURSOR);
+                buffer.putInt(update.user().getUserKey());
+            } else {
+                buffer.put(TABLE_MOVE);
+                buffer.putInt(update.user().getUserKey());
+                buffer.putLong(update.tableKey());
+            }
+            buffer.putFloat((float) update.x());
+            buffer.putFloat((float) update.y());
+        }
+        return buffer.array();
+    }
+
+    /**
+     * CONNECT 시점: 선택한 포맷을 세션 속성에 기록 (CONNECTED 헤더로 그대로 돌려줌)
+     *
+     * @param binaryEnabled false면 요청 헤더와 관계없이 JSON (바이너리 틱을 발행하지 않으므로)
+     * @return 선택한 포맷 (binary 또는 json)
+     */
+    public static String negotiate(StompHeaderAccessor accessor, boolean binaryEnabled) {
+        String requested = accessor.getFirstNativeHeader(NEGOTIATION_HEADER);
+        String chosen = binaryEnabled && NEGOTIATION_BINARY.equalsIgnoreCase(requested)
+                ? NEGOTIATION_BINARY
+                : NEGOTIATION_JSON;
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            attributes.put(SESSION_ATTRIBUTE, chosen);
+        }
+        return chosen;
+    }
+
+    /**
+     * 세션 속성에 기록된 포맷 (협상 전이면 json)
+     */
+    public static String chosenFormat(Map<String, Object> attributes) {
+        return NEGOTIATION_BINARY.equals(attributes.get(SESSION_ATTRIBUTE)) ? NEGOTIATION_BINARY : NEGOTIATION_JSON;
+    }
+
+    public static boolean isBinarySession(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        return attributes != null && NEGOTIATION_BINARY.equals(chosenFormat(attributes));
+    }
+}
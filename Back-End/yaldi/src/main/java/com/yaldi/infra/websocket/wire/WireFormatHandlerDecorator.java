@@ -0,0 +1,51 @@
+package com.yaldi.infra.websocket.wire;
+
+import java.io.IOException;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * CONNECTED 프레임에 협상된 와이어 포맷 헤더 추가 ({@code x-yaldi-wire:binary|json})
+ *
+ * Spring은 브로커의 CONNECT_ACK를 CONNECTED로 바꿀 때 네이티브 헤더를 옮기지 않으므로 전송 직전 프레임에 끼워 넣는다.
+ * 세션 속성은 STOMP 세션 속성과 같은 맵이라 CONNECT 인터셉터에서 기록한 포맷을 그대로 읽는다.
+ */
+public class WireFormatHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private static final String CONNECTED_COMMAND = "CONNECTED\n";
+
+    public WireFormatHandlerDecorator(WebSocketHandler delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        super.afterConnectionEstablished(new WireFormatSession(session));
+    }
+
+    static TextMessage withWireFormatHeader(TextMessage connected, String format) {
+        String header = BinaryWireFormat.NEGOTIATION_HEADER + ":" + format + "\n";
+        return new TextMessage(CONNECTED_COMMAND + header
+                + connected.getPayload().substring(CONNECTED_COMMAND.length()));
+    }
+
+    private static final class WireFormatSession extends WebSocketSessionDecorator {
+
+        private WireFormatSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (message instanceof TextMessage text && text.getPayload().startsWith(CONNECTED_COMMAND)) {
+                super.sendMessage(withWireFormatHeader(text, BinaryWireFormat.chosenFormat(getAttributes())));
+                return;
+            }
+            super.sendMessage(message);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- ERD 낙관적 동시성 제어: 엔티티별 revision(@Version)과 프로젝트별 ERD revision
+ALTER TABLE erd_tables ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE erd_columns ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE erd_relations ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS erd_revision BIGINT NOT NULL DEFAULT 0;
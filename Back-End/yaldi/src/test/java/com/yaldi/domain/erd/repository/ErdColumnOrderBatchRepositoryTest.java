@@ -0,0 +1,42 @@
+package com.yaldi.domain.erd.repository;
+
+import com.yaldi.domain.erd.repository.ErdColumnOrderBatchRepository.ColumnOrder;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ErdColumnOrderBatchRepositoryTest {
+
+    @Test
+    @DisplayName("전체 순서를 UPDATE 배치 한 번으로 실행 (인덱스 = column_order, columnKey 순 정렬)")
+    @SuppressWarnings("unchecked")
+    void updatesAllOrdersInSingleBatch() {
+        // given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ErdColumnOrderBatchRepository repository = new ErdColumnOrderBatchRepository(jdbcTemplate);
+        ArgumentCaptor<List<ColumnOrder>> orders = ArgumentCaptor.forClass(List.class);
+        when(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1, 1}});
+
+        // when
+        int updated = repository.batchUpdateColumnOrders(10L, List.of(30L, 10L, 20L));
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), orders.capture(), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(orders.getValue()).containsExactly(
+                new ColumnOrder(10L, 1), new ColumnOrder(20L, 2), new ColumnOrder(30L, 0));
+    }
+}
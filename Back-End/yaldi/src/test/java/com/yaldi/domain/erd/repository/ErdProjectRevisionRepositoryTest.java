@@ -0,0 +1,55 @@
+package com.yaldi.domain.erd.repository;
+
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ErdProjectRevisionRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ErdProjectRevisionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new ErdProjectRevisionRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("증가 후 revision을 반환")
+    void incrementReturnsNewRevision() {
+        // given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(100L))).thenReturn(8L);
+
+        // when & then
+        assertThat(repository.increment(100L)).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("프로젝트가 없으면 증가/조회 모두 PROJECT_NOT_FOUND")
+    void missingProjectIsNotFound() {
+        // given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(404L)))
+                .thenThrow(new EmptyResultDataAccessException(1));
+
+        // when & then
+        assertThatThrownBy(() -> repository.increment(404L))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.PROJECT_NOT_FOUND);
+        assertThatThrownBy(() -> repository.find(404L))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.PROJECT_NOT_FOUND);
+    }
+}
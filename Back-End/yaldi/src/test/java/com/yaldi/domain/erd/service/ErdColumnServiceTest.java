@@ -0,0 +1,261 @@
+package com.yaldi.domain.erd.service;
+
+import com.yaldi.domain.edithistory.service.EditHistoryService;
+import com.yaldi.domain.erd.dto.request.ErdColumnUpdateRequest;
+import com.yaldi.domain.erd.dto.response.ErdColumnResponse;
+import com.yaldi.domain.erd.entity.ErdColumn;
+import com.yaldi.domain.erd.repository.ErdColumnOrderBatchRepository;
+import com.yaldi.domain.erd.repository.ErdColumnRepository;
+import com.yaldi.domain.erd.repository.ErdProjectRevisionRepository;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 컬럼 순서 일괄 변경 / 컬럼 수정 revision 검증 테스트
+ */
+class ErdColumnServiceTest {
+
+    private static final Long TABLE_KEY = 10L;
+    private static final Long PROJECT_KEY = 100L;
+    private static final Integer USER_KEY = 1;
+    private static final Long COLUMN_KEY = 5L;
+    private static final Long REVISION = 3L;
+
+    private ErdColumnRepository erdColumnRepository;
+    private ErdColumnOrderBatchRepository erdColumnOrderBatchRepository;
+    private ErdTableService erdTableService;
+    private ErdLockService erdLockService;
+    private EditHistoryService editHistoryService;
+    private ErdProjectRevisionRepository erdProjectRevisionRepository;
+    private ErdColumnService erdColumnService;
+    private ErdColumn column;
+
+    @BeforeEach
+    void setUp() {
+        erdColumnRepository = mock(ErdColumnRepository.class);
+        erdColumnOrderBatchRepository = mock(ErdColumnOrderBatchRepository.class);
+        erdTableService = mock(ErdTableService.class);
+        erdLockService = mock(ErdLockService.class);
+        editHistoryService = mock(EditHistoryService.class);
+        erdProjectRevisionRepository = mock(ErdProjectRevisionRepository.class);
+        ErdRevisionService erdRevisionService = new ErdRevisionService(erdProjectRevisionRepository,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(erdRevisionService, "lockFreeEdits", true);
+        erdColumnService = new ErdColumnService(erdColumnRepository, erdColumnOrderBatchRepository, erdTableService,
+                erdLockService, editHistoryService, mock(ErdOwnershipIndexService.class), erdRevisionService);
+
+        when(erdColumnRepository.findColumnKeysByTableKey(TABLE_KEY)).thenReturn(List.of(1L, 2L, 3L));
+        when(erdTableService.getProjectKeyByTableKey(TABLE_KEY)).thenReturn(PROJECT_KEY);
+
+        column = ErdColumn.builder().columnKey(COLUMN_KEY).tableKey(TABLE_KEY).logicalName("이름")
+                .revision(REVISION).build();
+        when(erdColumnRepository.findById(COLUMN_KEY)).thenReturn(Optional.of(column));
+    }
+
+    @Test
+    @DisplayName("revision이 다르면 수정하지 않고 현재 상태와 함께 ERD_REVISION_CONFLICT")
+    void rejectsStaleRevisionWithCurrentState() {
+        // given
+        ErdColumnUpdateRequest request = ErdColumnUpdateRequest.builder()
+                .logicalName("새 이름").revision(REVISION - 1).build();
+
+        // when & then
+        assertThatThrownBy(() -> erdColumnService.updateColumn(COLUMN_KEY, request, USER_KEY))
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> {
+                    GeneralException conflict = (GeneralException) e;
+                    assertThat(conflict.getErrorStatus()).isEqualTo(ErrorStatus.ERD_REVISION_CONFLICT);
+                    assertThat(conflict.getData()).isInstanceOf(ErdColumnResponse.class);
+                    assertThat(((ErdColumnResponse) conflict.getData()).getRevision()).isEqualTo(REVISION);
+                    assertThat(((ErdColumnResponse) conflict.getData()).getLogicalName()).isEqualTo("이름");
+                });
+        assertThat(column.getLogicalName()).isEqualTo("이름");
+        verifyNoInteractions(erdProjectRevisionRepository, editHistoryService);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 요청이 먼저 커밋해 flush가 실패하면 다시 읽은 현재 상태와 함께 ERD_REVISION_CONFLICT")
+    void mapsConcurrentCommitToConflictWithReloadedState() {
+        // given
+        ErdColumn current = ErdColumn.builder().columnKey(COLUMN_KEY).tableKey(TABLE_KEY).logicalName("다른 이름")
+                .revision(REVISION + 1).build();
+        when(erdColumnRepository.findById(COLUMN_KEY)).thenReturn(Optional.of(column), Optional.of(current));
+        doThrow(new ObjectOptimisticLockingFailureException(ErdColumn.class, COLUMN_KEY))
+                .when(erdColumnRepository).flush();
+        ErdColumnUpdateRequest request = ErdColumnUpdateRequest.builder()
+                .comment("설명").revision(REVISION).build();
+
+        // when & then
+        assertThatThrownBy(() -> erdColumnService.updateColumn(COLUMN_KEY, request, USER_KEY))
+                .isInstanceOf(GeneralException.class)
+                .satisfies(e -> {
+                    GeneralException conflict = (GeneralException) e;
+                    assertThat(conflict.getErrorStatus()).isEqualTo(ErrorStatus.ERD_REVISION_CONFLICT);
+                    assertThat(((ErdColumnResponse) conflict.getData()).getRevision()).isEqualTo(REVISION + 1);
+                    assertThat(((ErdColumnResponse) conflict.getData()).getLogicalName()).isEqualTo("다른 이름");
+                });
+        verifyNoInteractions(erdProjectRevisionRepository, editHistoryService);
+    }
+
+    @Test
+    @DisplayName("revision을 보낸 비구조 수정은 락 검증을 생략")
+    void skipsLockForNonStructuralEditWithRevision() {
+        // given
+        ErdColumnUpdateRequest request = ErdColumnUpdateRequest.builder()
+                .logicalName("새 이름").dataType("BIGINT").revision(REVISION).build();
+
+        // when
+        erdColumnService.updateColumn(COLUMN_KEY, request, USER_KEY);
+
+        // then
+        verify(erdLockService, never()).validateColumnLock(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("PK/FK 변경은 revision을 보내도 락 검증 유지")
+    void keepsLockForStructuralEditWithRevision() {
+        // given
+        ErdColumnUpdateRequest primaryKey = ErdColumnUpdateRequest.builder()
+                .isPrimaryKey(true).revision(REVISION).build();
+        ErdColumnUpdateRequest foreignKey = ErdColumnUpdateRequest.builder()
+                .isForeignKey(true).revision(REVISION).build();
+
+        // when
+        erdColumnService.updateColumn(COLUMN_KEY, primaryKey, USER_KEY);
+        erdColumnService.updateColumn(COLUMN_KEY, foreignKey, USER_KEY);
+
+        // then
+        verify(erdLockService, times(2)).validateColumnLock(TABLE_KEY, COLUMN_KEY);
+    }
+
+    @Test
+    @DisplayName("revision 없는 수정은 기존처럼 락 검증")
+    void keepsLockWithoutRevision() {
+        // given
+        ErdColumnUpdateRequest request = ErdColumnUpdateRequest.builder().logicalName("새 이름").build();
+
+        // when
+        erdColumnService.updateColumn(COLUMN_KEY, request, USER_KEY);
+
+        // then
+        verify(erdLockService, times(1)).validateColumnLock(TABLE_KEY, COLUMN_KEY);
+    }
+
+    @Test
+    @DisplayName("프로젝트 revision은 내용이 바뀐 경우에만 증가 (엔티티 revision 제외 필드인 순서 포함)")
+    void incrementsProjectRevisionOnlyOnContentChange() {
+        // given: 같은 값 수정은 flush해도 @Version 그대로, 설명 수정은 @Version 증가
+        ErdColumnUpdateRequest unchanged = ErdColumnUpdateRequest.builder().logicalName("이름").build();
+        ErdColumnUpdateRequest orderOnly = ErdColumnUpdateRequest.builder().columnOrder(2).build();
+        ErdColumnUpdateRequest changed = ErdColumnUpdateRequest.builder().comment("설명").build();
+        doNothing()
+                .doNothing()
+                .doAnswer(invocation -> {
+                    ReflectionTestUtils.setField(column, "revision", REVISION + 1);
+                    return null;
+                })
+                .when(erdColumnRepository).flush();
+
+        // when
+        erdColumnService.updateColumn(COLUMN_KEY, unchanged, USER_KEY);
+        verify(erdProjectRevisionRepository, never()).increment(anyLong());
+        erdColumnService.updateColumn(COLUMN_KEY, orderOnly, USER_KEY);
+        verify(erdProjectRevisionRepository, times(1)).increment(PROJECT_KEY);
+        ErdColumnResponse response = erdColumnService.updateColumn(COLUMN_KEY, changed, USER_KEY);
+
+        // then
+        verify(erdProjectRevisionRepository, times(2)).increment(PROJECT_KEY);
+        assertThat(response.getRevision()).isEqualTo(REVISION + 1);
+    }
+
+    @Test
+    @DisplayName("중복된 컬럼 키가 있으면 ERD_COLUMN_INVALID_ORDER")
+    void rejectsDuplicateColumnKeys() {
+        assertInvalidOrder(List.of(1L, 2L, 2L));
+    }
+
+    @Test
+    @DisplayName("테이블의 컬럼이 빠져 있으면 ERD_COLUMN_INVALID_ORDER")
+    void rejectsMissingColumnKeys() {
+        assertInvalidOrder(List.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("다른 테이블의 컬럼이 섞여 있으면 ERD_COLUMN_INVALID_ORDER")
+    void rejectsColumnsOfAnotherTable() {
+        assertInvalidOrder(List.of(1L, 2L, 99L));
+    }
+
+    @Test
+    @DisplayName("검증 이후 컬럼이 삭제되어 갱신 건수가 다르면 ERD_COLUMN_INVALID_ORDER")
+    void rejectsWhenBatchUpdatesFewerRows() {
+        // given
+        List<Long> order = List.of(3L, 1L, 2L);
+        when(erdColumnOrderBatchRepository.batchUpdateColumnOrders(TABLE_KEY, order)).thenReturn(2);
+
+        // when & then
+        assertThatThrownBy(() -> erdColumnService.reorderColumns(TABLE_KEY, order, USER_KEY))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.ERD_COLUMN_INVALID_ORDER);
+        verifyNoInteractions(editHistoryService);
+    }
+
+    @Test
+    @DisplayName("올바른 순서는 테이블 락을 한 번 검증하고, 배치 UPDATE 한 번과 히스토리 한 건으로 저장")
+    void reordersWithSingleLockCheckAndHistory() {
+        // given
+        List<Long> order = List.of(3L, 1L, 2L);
+        when(erdColumnOrderBatchRepository.batchUpdateColumnOrders(TABLE_KEY, order)).thenReturn(3);
+
+        // when
+        erdColumnService.reorderColumns(TABLE_KEY, order, USER_KEY);
+
+        // then
+        verify(erdLockService, times(1)).validateTableLock(TABLE_KEY, USER_KEY);
+        verify(erdLockService, never()).validateColumnLock(anyLong(), anyLong());
+        verify(erdColumnOrderBatchRepository, times(1)).batchUpdateColumnOrders(TABLE_KEY, order);
+        verify(erdProjectRevisionRepository, times(1)).increment(PROJECT_KEY);
+        verify(editHistoryService, times(1)).recordTableUpdate(USER_KEY, PROJECT_KEY, TABLE_KEY,
+                Map.of("columnOrder", List.of(1L, 2L, 3L)), Map.of("columnOrder", order));
+        verify(editHistoryService, never()).recordColumnUpdate(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("테이블 락이 없으면 순서를 저장하지 않음")
+    void rejectsWithoutTableLock() {
+        // given
+        doThrow(new GeneralException(ErrorStatus.LOCK_ABSENT))
+                .when(erdLockService).validateTableLock(TABLE_KEY, USER_KEY);
+
+        // when & then
+        assertThatThrownBy(() -> erdColumnService.reorderColumns(TABLE_KEY, List.of(3L, 1L, 2L), USER_KEY))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.LOCK_ABSENT);
+        verifyNoInteractions(erdColumnOrderBatchRepository, editHistoryService);
+    }
+
+    private void assertInvalidOrder(List<Long> order) {
+        assertThatThrownBy(() -> erdColumnService.reorderColumns(TABLE_KEY, order, USER_KEY))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.ERD_COLUMN_INVALID_ORDER);
+        verifyNoInteractions(erdColumnOrderBatchRepository, editHistoryService);
+    }
+}
@@ -0,0 +1,146 @@
+package com.yaldi.domain.erd.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ErdLockNearCacheTest {
+
+    private static final String OWNER_KEY = "erd:lock:table:7:owner";
+
+    private ErdLockNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new ErdLockNearCache(mock(RedisConnectionFactory.class));
+        ReflectionTestUtils.setField(nearCache, "enabled", true);
+        ReflectionTestUtils.setField(nearCache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(nearCache, "maxEntries", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("소유자 변경 알림을 받으면 다음 조회는 Redis에서 다시 읽음")
+    void reloadsAfterInvalidationMessage() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String[] owner = {"1"};
+        LongFunction<String> loader = tableKey -> {
+            loads.incrementAndGet();
+            return owner[0];
+        };
+        nearCache.getOwner(7L, loader);
+
+        // when
+        owner[0] = "2";
+        String cachedBeforeMessage = nearCache.getOwner(7L, loader);
+        nearCache.onMessage(invalidationMessage("7"), null);
+        String afterMessage = nearCache.getOwner(7L, loader);
+
+        // then
+        assertThat(cachedBeforeMessage).isEqualTo("1");
+        assertThat(afterMessage).isEqualTo("2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 락 해제 알림은 해당 테이블 항목만 제거")
+    void releaseMessageEvictsOnlyThatTable() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String[] owner = {"1"};
+        LongFunction<String> loader = tableKey -> {
+            loads.incrementAndGet();
+            return tableKey == 7L ? owner[0] : "3";
+        };
+        nearCache.getOwner(7L, loader);
+        nearCache.getOwner(8L, loader);
+
+        // when
+        owner[0] = null;
+        nearCache.onMessage(invalidationMessage("7"), null);
+        nearCache.onMessage(invalidationMessage("not-a-table"), null);
+        String released = nearCache.getOwner(7L, loader);
+        String untouched = nearCache.getOwner(8L, loader);
+
+        // then
+        assertThat(released).isNull();
+        assertThat(untouched).isEqualTo("3");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 알림이 없어도 Redis에서 다시 읽음")
+    void reloadsAfterTtlExpiry() {
+        // given
+        ReflectionTestUtils.setField(nearCache, "ttlMs", 0L);
+        AtomicInteger loads = new AtomicInteger();
+        String[] owner = {"1"};
+        LongFunction<String> loader = tableKey -> {
+            loads.incrementAndGet();
+            return owner[0];
+        };
+        nearCache.getOwner(7L, loader);
+
+        // when
+        owner[0] = "2";
+        String afterExpiry = nearCache.getOwner(7L, loader);
+
+        // then
+        assertThat(afterExpiry).isEqualTo("2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("파괴적 작업의 엄격 검증은 near-cache를 거치지 않고 항상 Redis에서 확인")
+    @SuppressWarnings("unchecked")
+    void strictValidationBypassesCache() {
+        // given
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(OWNER_KEY)).thenReturn("1", "2");
+        ErdLockService erdLockService = new ErdLockService(redisTemplate, new ObjectMapper(),
+                mock(ErdOwnershipIndexService.class), nearCache);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("1", null, List.of()));
+        erdLockService.validateTableLock(7L);
+
+        // when & then: 다른 노드에서 락이 넘어갔지만 알림이 아직 도착하지 않은 상황
+        assertThatCode(() -> erdLockService.validateTableLock(7L)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> erdLockService.validateTableLockStrict(7L))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.UNMATCH_WITH_LOCK_OWNER);
+        verify(valueOperations, times(2)).get(OWNER_KEY);
+    }
+
+    private static DefaultMessage invalidationMessage(String body) {
+        return new DefaultMessage(ErdLockNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
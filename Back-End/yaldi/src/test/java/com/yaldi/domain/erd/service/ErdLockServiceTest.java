@@ -1,13 +1,26 @@
 package com.yaldi.domain.erd.service;
 
+import com.yaldi.domain.erd.dto.redis.ColumnLockEntry;
 import com.yaldi.domain.erd.dto.redis.LockInfo;
+import com.yaldi.domain.erd.dto.redis.ReclaimedLock;
+import com.yaldi.domain.erd.dto.redis.ReleasedColumnLock;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.status.ErrorStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -21,13 +34,167 @@ class ErdLockServiceTest {
     @Autowired
     private ErdLockService erdLockService;
 
+    @Autowired
+    private ErdOwnershipIndexService erdOwnershipIndexService;
+
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    private static final Long PROJECT_KEY = 100L;
+
     @BeforeEach
     void setUp() {
-        // 테스트 전 Redis 정리
-        redisTemplate.keys("erd:lock:table:*").forEach(redisTemplate::delete);
+        // 테스트 전 Redis 정리 (락 키 + 사용자/프로젝트 인덱스)
+        redisTemplate.keys("erd:lock:*").forEach(redisTemplate::delete);
+        // 락 인덱스는 테이블의 프로젝트를 기준으로 관리
+        for (long tableKey = 1L; tableKey <= 3L; tableKey++) {
+            erdOwnershipIndexService.putTable(tableKey, PROJECT_KEY);
+        }
+        heldLocks().clear();
+        heldColumnLocks().clear();
+    }
+
+    private Map<?, ?> heldLocks() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(erdLockService, "heldLocks");
+    }
+
+    private Map<?, ?> heldColumnLocks() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(erdLockService, "heldColumnLocks");
+    }
+
+    private void expireColumnLock(long tableKey, long columnKey, String owner) {
+        // 컬럼 락의 만료 시각을 과거로 (컬럼 Hash와 프로젝트 인덱스 모두, 서버 시각으로 기록된 값)
+        redisTemplate.execute(RedisScript.of("""
+                local field = cjson.decode(ARGV[1])
+                for i = 1, 2 do
+                    local hashField = i == 1 and field or cjson.decode(ARGV[2]) .. ':' .. field
+                    local entry = cjson.decode(redis.call('hget', KEYS[i], hashField))
+                    entry.expiresAt = 1
+                    redis.call('hset', KEYS[i], hashField, cjson.encode(entry))
+                end
+                return 1
+                """, Long.class),
+                List.of("erd:lock:table:" + tableKey + ":columns", "erd:lock:project:" + PROJECT_KEY + ":columns"),
+                Long.toString(columnKey), Long.toString(tableKey));
+        redisTemplate.opsForZSet().add("erd:lock:column-deadlines",
+                tableKey + ":" + columnKey + ":" + PROJECT_KEY + ":" + owner, 0);
+    }
+
+    private long pttl(String key) {
+        return redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("락 획득 시 소유자/하트비트 키가 TTL과 함께 기록되고 watchdog 대상에 등록")
+    void lockTable_OwnerAndTtl() {
+        // when
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("erd:lock:table:1:owner")).isEqualTo("test@example.com");
+        assertThat(redisTemplate.opsForValue().get("erd:lock:table:1:owner-name")).isEqualTo("Tester");
+        assertThat(pttl("erd:lock:table:1")).isBetween(1L, 30_000L);
+        assertThat(pttl("erd:lock:table:1:owner")).isBetween(1L, 30_000L);
+        assertThat(pttl("erd:lock:heartbeat:1")).isBetween(1L, 10_000L);
+        assertThat(heldLocks()).containsKey(1L);
+    }
+
+    @Test
+    @DisplayName("하트비트 갱신은 소유자만 가능하고 락 TTL을 연장")
+    void renewHeartbeat_OwnerOnly() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+        redisTemplate.expire("erd:lock:table:1", 1, TimeUnit.SECONDS);
+
+        // when
+        erdLockService.renewHeartbeat(1L, "test@example.com");
+
+        // then
+        assertThat(pttl("erd:lock:table:1")).isGreaterThan(1_000L);
+        assertThatThrownBy(() -> erdLockService.renewHeartbeat(1L, "other@example.com"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.UNMATCH_WITH_LOCK_OWNER);
+        assertThatThrownBy(() -> erdLockService.renewHeartbeat(2L, "test@example.com"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorStatus")
+                .isEqualTo(ErrorStatus.LOCK_ABSENT);
+    }
+
+    @Test
+    @DisplayName("락 해제 시 소유자/이름/하트비트 키와 watchdog 항목 모두 제거")
+    void unlockTable_RemovesAllKeys() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+
+        // when
+        erdLockService.unlockTable(1L, "test@example.com");
+
+        // then
+        assertThat(redisTemplate.hasKey("erd:lock:table:1:owner")).isFalse();
+        assertThat(redisTemplate.hasKey("erd:lock:table:1:owner-name")).isFalse();
+        assertThat(redisTemplate.hasKey("erd:lock:heartbeat:1")).isFalse();
+        assertThat(heldLocks()).doesNotContainKey(1L);
+    }
+
+    @Test
+    @DisplayName("watchdog은 이 노드가 보유한 락의 TTL을 연장")
+    void renewHeldLocks_ExtendsTtl() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+        redisTemplate.expire("erd:lock:table:1", 1, TimeUnit.SECONDS);
+        redisTemplate.expire("erd:lock:table:1:owner", 1, TimeUnit.SECONDS);
+
+        // when
+        erdLockService.renewHeldLocks();
+
+        // then
+        assertThat(pttl("erd:lock:table:1")).isGreaterThan(1_000L);
+        assertThat(pttl("erd:lock:table:1:owner")).isGreaterThan(1_000L);
+        assertThat(heldLocks()).containsKey(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 인수/만료된 락은 watchdog 연장에 실패하면 보유 목록에서 제거")
+    void renewHeldLocks_DropsLostLocks() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+        erdLockService.lockTable(2L, "test@example.com", "Tester");
+        // 락 1은 다른 노드의 사용자가 인수, 락 2는 TTL 만료
+        redisTemplate.opsForValue().set("erd:lock:table:1:owner", "other@example.com");
+        redisTemplate.delete(List.of("erd:lock:table:2", "erd:lock:table:2:owner"));
+
+        // when
+        erdLockService.renewHeldLocks();
+
+        // then
+        assertThat(heldLocks()).doesNotContainKeys(1L, 2L);
+        assertThat(redisTemplate.opsForValue().get("erd:lock:table:1:owner")).isEqualTo("other@example.com");
+    }
+
+    @Test
+    @DisplayName("heartbeat-lapse 모드에서는 하트비트가 끊긴 락만 바로 인수")
+    void lockTable_StealsStaleLock() {
+        // given
+        ReflectionTestUtils.setField(erdLockService, "reclaimOnHeartbeatLapse", true);
+        try {
+            erdLockService.lockTable(1L, "other@example.com", "Other");
+            erdLockService.lockTable(2L, "other@example.com", "Other");
+            redisTemplate.delete("erd:lock:heartbeat:1");
+
+            // when
+            boolean stale = erdLockService.lockTable(1L, "test@example.com", "Tester");
+            boolean alive = erdLockService.lockTable(2L, "test@example.com", "Tester");
+
+            // then
+            assertThat(stale).isTrue();
+            assertThat(alive).isFalse();
+            assertThat(erdLockService.isLockedByUser(1L, "test@example.com")).isTrue();
+            assertThat(erdLockService.getProjectLocks(PROJECT_KEY))
+                    .containsOnly(entry(1L, "test@example.com"), entry(2L, "other@example.com"));
+        } finally {
+            ReflectionTestUtils.setField(erdLockService, "reclaimOnHeartbeatLapse", false);
+        }
     }
 
     @Test
@@ -123,6 +290,239 @@ class ErdLockServiceTest {
         assertThat(erdLockService.isLocked(3L)).isTrue(); // 다른 사용자 락은 유지
     }
 
+    @Test
+    @DisplayName("프로젝트 락 목록은 획득/해제와 함께 갱신")
+    void getProjectLocks() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+        erdLockService.lockTable(2L, "other@example.com", "Other");
+
+        // when
+        Map<Long, String> locked = erdLockService.getProjectLocks(PROJECT_KEY);
+        erdLockService.releaseAllLocksByUser("test@example.com");
+        Map<Long, String> afterRelease = erdLockService.getProjectLocks(PROJECT_KEY);
+
+        // then
+        assertThat(locked).containsOnly(entry(1L, "test@example.com"), entry(2L, "other@example.com"));
+        assertThat(afterRelease).containsOnly(entry(2L, "other@example.com"));
+    }
+
+    @Test
+    @DisplayName("기한이 지난 만료 락은 회수되고 살아 있는 락은 유지")
+    void reclaimExpiredLocks() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+        erdLockService.lockTable(2L, "other@example.com", "Other");
+        // 노드 장애로 락 1의 TTL이 만료된 상황
+        redisTemplate.delete(List.of("erd:lock:table:1", "erd:lock:table:1:owner",
+                "erd:lock:table:1:owner-name", "erd:lock:heartbeat:1"));
+        redisTemplate.opsForZSet().add("erd:lock:deadlines", "1:" + PROJECT_KEY + ":test@example.com", 0);
+        redisTemplate.opsForZSet().add("erd:lock:deadlines", "2:" + PROJECT_KEY + ":other@example.com", 0);
+
+        // when
+        List<ReclaimedLock> reclaimed = erdLockService.reclaimExpiredLocks(10);
+
+        // then
+        assertThat(reclaimed).containsExactly(new ReclaimedLock(1L, PROJECT_KEY, "test@example.com"));
+        assertThat(erdLockService.isLocked(2L)).isTrue();
+        assertThat(erdLockService.getProjectLocks(PROJECT_KEY)).containsOnly(entry(2L, "other@example.com"));
+    }
+
+    @Test
+    @DisplayName("기한이 남은 항목은 회수하지 않고 형식이 잘못된 항목은 기한 목록에서만 제거")
+    void reclaimExpiredLocks_SkipsFutureAndMalformed() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+        redisTemplate.delete(List.of("erd:lock:table:1", "erd:lock:table:1:owner",
+                "erd:lock:table:1:owner-name", "erd:lock:heartbeat:1"));
+        redisTemplate.opsForZSet().add("erd:lock:deadlines", "1:" + PROJECT_KEY + ":test@example.com",
+                Long.MAX_VALUE / 2);
+        redisTemplate.opsForZSet().add("erd:lock:deadlines", "invalid", 0);
+
+        // when
+        List<ReclaimedLock> reclaimed = erdLockService.reclaimExpiredLocks(10);
+
+        // then
+        assertThat(reclaimed).isEmpty();
+        assertThat(redisTemplate.opsForZSet().score("erd:lock:deadlines", "invalid")).isNull();
+        assertThat(erdLockService.getProjectLocks(PROJECT_KEY)).containsOnly(entry(1L, "test@example.com"));
+    }
+
+    @Test
+    @DisplayName("일괄 락은 하나라도 다른 사용자 락이면 아무것도 잡지 않음")
+    void lockTables_AllOrNothing() {
+        // given
+        erdLockService.lockTable(3L, "other@example.com", "Other");
+
+        // when
+        boolean conflicted = erdLockService.lockTables(List.of(2L, 1L, 3L), "test@example.com", "Tester");
+        boolean partiallyLocked = erdLockService.isLocked(1L) || erdLockService.isLocked(2L);
+        boolean acquired = erdLockService.lockTables(List.of(2L, 1L), "test@example.com", "Tester");
+        List<Long> released = erdLockService.unlockTables(List.of(1L, 2L, 3L), "test@example.com");
+
+        // then
+        assertThat(conflicted).isFalse();
+        assertThat(partiallyLocked).isFalse();
+        assertThat(acquired).isTrue();
+        assertThat(released).containsExactly(1L, 2L);
+        assertThat(erdLockService.getProjectLocks(PROJECT_KEY)).containsOnly(entry(3L, "other@example.com"));
+    }
+
+    @Test
+    @DisplayName("WebSocket 락 하트비트는 사용자가 보유한 락만 한 번에 갱신")
+    void renewLocksOf() {
+        // given
+        erdLockService.lockTable(1L, "test@example.com", "Tester");
+        erdLockService.lockTable(2L, "test@example.com", "Tester");
+        erdLockService.lockTable(3L, "other@example.com", "Other");
+        redisTemplate.delete(List.of("erd:lock:heartbeat:1", "erd:lock:heartbeat:2", "erd:lock:heartbeat:3"));
+
+        // when
+        int renewed = erdLockService.renewLocksOf("test@example.com");
+
+        // then
+        assertThat(renewed).isEqualTo(2);
+        assertThat(erdLockService.isHeartbeatAlive(1L)).isTrue();
+        assertThat(erdLockService.isHeartbeatAlive(2L)).isTrue();
+        assertThat(erdLockService.isHeartbeatAlive(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("컬럼 락과 테이블 락은 서로 배타적")
+    void columnLock_ExcludesTableLock() {
+        // given
+        ReflectionTestUtils.setField(erdLockService, "columnMode", true);
+        try {
+            erdLockService.lockColumn(1L, 10L, "other@example.com", "Other");
+
+            // when
+            boolean sameColumn = erdLockService.lockColumn(1L, 10L, "test@example.com", "Tester");
+            boolean otherColumn = erdLockService.lockColumn(1L, 11L, "test@example.com", "Tester");
+            boolean tableWhileColumnsHeld = erdLockService.lockTable(1L, "test@example.com", "Tester");
+            erdLockService.unlockColumn(1L, 10L, "other@example.com");
+            boolean tableAfterRelease = erdLockService.lockTable(1L, "test@example.com", "Tester");
+            boolean columnUnderTable = erdLockService.lockColumn(1L, 10L, "other@example.com", "Other");
+            boolean coveredByOwnTable = erdLockService.lockColumn(1L, 10L, "test@example.com", "Tester");
+
+            // then
+            assertThat(sameColumn).isFalse();
+            assertThat(otherColumn).isTrue();
+            assertThat(tableWhileColumnsHeld).isFalse();
+            assertThat(tableAfterRelease).isTrue();
+            assertThat(columnUnderTable).isFalse();
+            assertThat(coveredByOwnTable).isTrue();
+        } finally {
+            ReflectionTestUtils.setField(erdLockService, "columnMode", false);
+        }
+    }
+
+    @Test
+    @DisplayName("컬럼 락 만료는 Redis 서버 시각 기준으로 판단해 만료된 락으로는 수정 불가")
+    void validateColumnLock_UsesRedisClock() {
+        // given
+        ReflectionTestUtils.setField(erdLockService, "columnMode", true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, List.of()));
+        try {
+            erdLockService.lockColumn(1L, 10L, "1", "Tester");
+            erdLockService.lockColumn(1L, 11L, "1", "Tester");
+            // 11번 컬럼 락의 만료 시각을 과거로 (서버 시각으로 기록된 값)
+            redisTemplate.execute(RedisScript.of("""
+                    local entry = cjson.decode(redis.call('hget', KEYS[1], cjson.decode(ARGV[1])))
+                    entry.expiresAt = 1
+                    redis.call('hset', KEYS[1], cjson.decode(ARGV[1]), cjson.encode(entry))
+                    return 1
+                    """, Long.class), List.of("erd:lock:table:1:columns"), "11");
+
+            // when & then
+            assertThatCode(() -> erdLockService.validateColumnLock(1L, 10L)).doesNotThrowAnyException();
+            assertThatThrownBy(() -> erdLockService.validateColumnLock(1L, 11L))
+                    .isInstanceOf(GeneralException.class)
+                    .extracting("errorStatus")
+                    .isEqualTo(ErrorStatus.LOCK_ABSENT);
+        } finally {
+            SecurityContextHolder.clearContext();
+            ReflectionTestUtils.setField(erdLockService, "columnMode", false);
+        }
+    }
+
+    @Test
+    @DisplayName("프로젝트 컬럼 락 스냅샷에는 살아 있는 컬럼 락만 포함")
+    void getProjectColumnLockSnapshot() {
+        // given
+        ReflectionTestUtils.setField(erdLockService, "columnMode", true);
+        try {
+            erdLockService.lockColumn(1L, 10L, "test@example.com", "Tester");
+            erdLockService.lockColumn(2L, 20L, "other@example.com", "Other");
+            erdLockService.lockColumn(2L, 21L, "other@example.com", "Other");
+            expireColumnLock(2L, 21L, "other@example.com");
+
+            // when
+            List<ColumnLockEntry> snapshot = erdLockService.getProjectColumnLockSnapshot(PROJECT_KEY);
+
+            // then
+            assertThat(snapshot).extracting(ColumnLockEntry::tableKey, ColumnLockEntry::columnKey,
+                            ColumnLockEntry::owner, ColumnLockEntry::userName)
+                    .containsExactlyInAnyOrder(
+                            tuple(1L, 10L, "test@example.com", "Tester"),
+                            tuple(2L, 20L, "other@example.com", "Other"));
+        } finally {
+            ReflectionTestUtils.setField(erdLockService, "columnMode", false);
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 컬럼 락은 회수되어 프로젝트 인덱스에서도 빠지고 살아 있는 컬럼 락은 유지")
+    void reclaimExpiredColumnLocks() {
+        // given
+        ReflectionTestUtils.setField(erdLockService, "columnMode", true);
+        try {
+            erdLockService.lockColumn(1L, 10L, "test@example.com", "Tester");
+            erdLockService.lockColumn(1L, 11L, "other@example.com", "Other");
+            expireColumnLock(1L, 10L, "test@example.com");
+
+            // when
+            List<ReleasedColumnLock> reclaimed = erdLockService.reclaimExpiredColumnLocks(10);
+
+            // then
+            assertThat(reclaimed).containsExactly(new ReleasedColumnLock(1L, 10L, PROJECT_KEY, "test@example.com"));
+            assertThat(redisTemplate.opsForHash().hasKey("erd:lock:project:" + PROJECT_KEY + ":columns", "1:10"))
+                    .isFalse();
+            assertThat(erdLockService.getProjectColumnLockSnapshot(PROJECT_KEY))
+                    .extracting(ColumnLockEntry::columnKey)
+                    .containsExactly(11L);
+            assertThat(erdLockService.reclaimExpiredColumnLocks(10)).isEmpty();
+        } finally {
+            ReflectionTestUtils.setField(erdLockService, "columnMode", false);
+        }
+    }
+
+    @Test
+    @DisplayName("연결 해제 시 사용자의 컬럼 락만 해제하고 해제한 목록 반환")
+    void releaseColumnLocksByUser() {
+        // given
+        ReflectionTestUtils.setField(erdLockService, "columnMode", true);
+        try {
+            erdLockService.lockColumn(1L, 10L, "test@example.com", "Tester");
+            erdLockService.lockColumn(2L, 20L, "test@example.com", "Tester");
+            erdLockService.lockColumn(2L, 21L, "other@example.com", "Other");
+
+            // when
+            List<ReleasedColumnLock> released = erdLockService.releaseColumnLocksByUser("test@example.com");
+
+            // then
+            assertThat(released).containsExactlyInAnyOrder(
+                    new ReleasedColumnLock(1L, 10L, PROJECT_KEY, "test@example.com"),
+                    new ReleasedColumnLock(2L, 20L, PROJECT_KEY, "test@example.com"));
+            assertThat(erdLockService.getProjectColumnLockSnapshot(PROJECT_KEY))
+                    .extracting(ColumnLockEntry::owner)
+                    .containsExactly("other@example.com");
+            assertThat(redisTemplate.opsForZSet().size("erd:lock:column-deadlines")).isEqualTo(1L);
+        } finally {
+            ReflectionTestUtils.setField(erdLockService, "columnMode", false);
+        }
+    }
+
     @Test
     @DisplayName("Lock 정보 조회")
     void getLockInfo() {
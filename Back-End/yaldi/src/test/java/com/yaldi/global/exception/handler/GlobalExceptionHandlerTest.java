@@ -0,0 +1,54 @@
+package com.yaldi.global.exception.handler;
+
+import com.yaldi.domain.erd.dto.response.ErdColumnResponse;
+import com.yaldi.global.exception.GeneralException;
+import com.yaldi.global.response.ApiResponse;
+import com.yaldi.global.response.status.ErrorStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ERD revision 충돌 응답 테스트
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("revision 불일치는 409와 현재 상태를 반환")
+    void revisionMismatchReturnsConflictWithCurrentState() {
+        // given
+        ErdColumnResponse current = ErdColumnResponse.builder().columnKey(5L).revision(4L).build();
+
+        // when
+        ResponseEntity<ApiResponse<Object>> response =
+                handler.handleGeneralException(new GeneralException(ErrorStatus.ERD_REVISION_CONFLICT, current));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().isSuccess()).isFalse();
+        assertThat(response.getBody().code()).isEqualTo(ErrorStatus.ERD_REVISION_CONFLICT.getCode());
+        assertThat(response.getBody().result()).isEqualTo(List.of(current));
+    }
+
+    @Test
+    @DisplayName("커밋 시점의 @Version 충돌은 ERD_REVISION_CONFLICT로 변환")
+    void optimisticLockingFailureMapsToRevisionConflict() {
+        // when
+        ResponseEntity<ApiResponse<Object>> response = handler.handleOptimisticLockingFailureException(
+                new ObjectOptimisticLockingFailureException("ErdColumn", 5L), mock(HttpServletRequest.class));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().code()).isEqualTo(ErrorStatus.ERD_REVISION_CONFLICT.getCode());
+        assertThat(response.getBody().result()).isEqualTo(List.of());
+    }
+}
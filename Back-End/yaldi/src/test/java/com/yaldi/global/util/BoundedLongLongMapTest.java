@@ -0,0 +1,79 @@
+package com.yaldi.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BoundedLongLongMap 단위 테스트
+ */
+class BoundedLongLongMapTest {
+
+    @Test
+    @DisplayName("저장한 값 조회 성공")
+    void putAndGet() {
+        // given
+        BoundedLongLongMap map = new BoundedLongLongMap(16);
+
+        // when
+        map.put(1L, 100L);
+        map.put(2L, 200L);
+
+        // then
+        assertThat(map.get(1L)).isEqualTo(100L);
+        assertThat(map.get(2L)).isEqualTo(200L);
+        assertThat(map.get(3L)).isEqualTo(BoundedLongLongMap.NO_VALUE);
+    }
+
+    @Test
+    @DisplayName("삭제 후에도 같은 클러스터의 다른 키는 조회 가능")
+    void removeKeepsProbeChain() {
+        // given
+        BoundedLongLongMap map = new BoundedLongLongMap(1024);
+        for (long key = 1; key <= 500; key++) {
+            map.put(key, key * 10);
+        }
+
+        // when
+        for (long key = 1; key <= 500; key += 2) {
+            map.remove(key);
+        }
+
+        // then
+        for (long key = 1; key <= 500; key++) {
+            long expected = key % 2 == 0 ? key * 10 : BoundedLongLongMap.NO_VALUE;
+            assertThat(map.get(key)).isEqualTo(expected);
+        }
+        assertThat(map.size()).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 최근 조회되지 않은 항목부터 제거")
+    void evictsUnreferencedEntries() {
+        // given
+        BoundedLongLongMap map = new BoundedLongLongMap(4);
+        map.put(1L, 10L);
+        map.put(2L, 20L);
+        map.put(3L, 30L);
+        map.put(4L, 40L);
+        map.get(1L);
+
+        // when
+        map.put(5L, 50L);
+
+        // then
+        assertThat(map.size()).isEqualTo(4);
+        assertThat(map.get(1L)).isEqualTo(10L);
+        assertThat(map.get(5L)).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("키 0은 저장 불가")
+    void rejectsReservedKey() {
+        BoundedLongLongMap map = new BoundedLongLongMap(4);
+
+        assertThatThrownBy(() -> map.put(0L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
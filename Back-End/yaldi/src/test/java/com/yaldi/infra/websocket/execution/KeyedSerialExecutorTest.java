@@ -0,0 +1,130 @@
+package com.yaldi.infra.websocket.execution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedSerialExecutorTest {
+
+    private static final int PROJECTS = 200;
+    private static final int MESSAGES_PER_PROJECT = 10;
+
+    @Test
+    @DisplayName("가상 스레드 위에서도 같은 키의 작업은 제출 순서대로 실행")
+    void preservesOrderPerKey() throws InterruptedException {
+        // given
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            KeyedSerialExecutor executor = new KeyedSerialExecutor(virtualThreads, task -> ((KeyedTask) task).key());
+            Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+            CountDownLatch done = new CountDownLatch(PROJECTS * MESSAGES_PER_PROJECT);
+
+            // when
+            submitAll(executor, executed, done);
+
+            // then
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            executed.values().forEach(order -> assertThat(order).isSorted().hasSize(MESSAGES_PER_PROJECT));
+            assertThat(awaitIdle(executor)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키의 다음 작업은 앞 작업이 끝나기 전에 시작되지 않음")
+    void runsSameKeySerially() throws InterruptedException {
+        // given
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            KeyedSerialExecutor executor = new KeyedSerialExecutor(virtualThreads, task -> ((KeyedTask) task).key());
+            CountDownLatch firstStarted = new CountDownLatch(1);
+            CountDownLatch releaseFirst = new CountDownLatch(1);
+            CountDownLatch secondRan = new CountDownLatch(1);
+
+            // when
+            executor.execute(new KeyedTask(1L, () -> {
+                firstStarted.countDown();
+                await(releaseFirst);
+            }));
+            executor.execute(new KeyedTask(1L, secondRan::countDown));
+
+            // then
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(secondRan.getCount()).isEqualTo(1);
+            releaseFirst.countDown();
+            assertThat(secondRan.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(awaitIdle(executor)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 키의 작업은 앞 키의 작업이 막혀 있어도 동시에 실행")
+    void runsDifferentKeysConcurrently() throws InterruptedException {
+        // given
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            KeyedSerialExecutor executor = new KeyedSerialExecutor(virtualThreads, task -> ((KeyedTask) task).key());
+            CountDownLatch releaseFirst = new CountDownLatch(1);
+            CountDownLatch otherKeyRan = new CountDownLatch(1);
+
+            // when
+            executor.execute(new KeyedTask(1L, () -> await(releaseFirst)));
+            executor.execute(new KeyedTask(2L, otherKeyRan::countDown));
+
+            // then
+            try {
+                assertThat(otherKeyRan.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(releaseFirst.getCount()).isEqualTo(1);
+            } finally {
+                releaseFirst.countDown();
+            }
+            assertThat(awaitIdle(executor)).isZero();
+        }
+    }
+
+    private void submitAll(Executor executor, Map<Long, List<Integer>> executed, CountDownLatch done) {
+        // 프로젝트를 번갈아 가며 제출 (실제 트래픽처럼 섞여서 도착)
+        for (int seq = 0; seq < MESSAGES_PER_PROJECT; seq++) {
+            for (long project = 0; project < PROJECTS; project++) {
+                int order = seq;
+                long key = project;
+                executor.execute(new KeyedTask(key, () -> {
+                    executed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(order);
+                    done.countDown();
+                }));
+            }
+        }
+    }
+
+    /**
+     * 마지막 작업 완료 직후 대기열 제거까지 잠깐 대기
+     */
+    private int awaitIdle(KeyedSerialExecutor executor) throws InterruptedException {
+        for (int i = 0; i < 100 && executor.getActiveKeyCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        return executor.getActiveKeyCount();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record KeyedTask(Long key, Runnable body) implements Runnable {
+        @Override
+        public void run() {
+            body.run();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.yaldi.infra.websocket.interceptor;
+
+import com.yaldi.domain.erd.service.ErdLockService;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class LockHeartbeatInterceptorTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private ErdLockService erdLockService;
+    private LockHeartbeatInterceptor interceptor;
+    private List<Runnable> submitted;
+
+    @BeforeEach
+    void setUp() {
+        erdLockService = mock(ErdLockService.class);
+        interceptor = new LockHeartbeatInterceptor(erdLockService);
+        submitted = new ArrayList<>();
+        ReflectionTestUtils.setField(interceptor, "enabled", true);
+        ReflectionTestUtils.setField(interceptor, "minIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(interceptor, "renewExecutor", (Executor) task -> {
+            submitted.add(task);
+            task.run();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 세션의 하트비트는 최소 간격 안에서 한 번만 락 갱신 (세션별로 따로 계산)")
+    void throttlesRenewalPerSession() {
+        // when
+        interceptor.preSend(heartbeat("s-1", "1"), channel);
+        interceptor.preSend(heartbeat("s-1", "1"), channel);
+        interceptor.preSend(heartbeat("s-2", "2"), channel);
+
+        // then
+        verify(erdLockService, times(1)).renewLocksOf("1");
+        verify(erdLockService, times(1)).renewLocksOf("2");
+    }
+
+    @Test
+    @DisplayName("락 갱신은 호출 스레드가 아닌 설정된 실행기에서 실행")
+    void renewsOnConfiguredExecutor() {
+        // given
+        List<Runnable> deferred = new ArrayList<>();
+        ReflectionTestUtils.setField(interceptor, "renewExecutor", (Executor) deferred::add);
+
+        // when
+        interceptor.preSend(heartbeat("s-1", "1"), channel);
+
+        // then
+        verifyNoInteractions(erdLockService);
+        assertThat(deferred).hasSize(1);
+        deferred.get(0).run();
+        verify(erdLockService).renewLocksOf("1");
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 시 세션의 갱신 간격 기록을 지움")
+    void clearsSessionOnDisconnect() {
+        // given
+        interceptor.preSend(heartbeat("s-1", "1"), channel);
+
+        // when
+        interceptor.preSend(frame(SimpMessageType.DISCONNECT, "s-1", "1"), channel);
+
+        // then
+        assertThat(lastRenewedAt()).doesNotContainKey("s-1");
+        interceptor.preSend(heartbeat("s-1", "1"), channel);
+        verify(erdLockService, times(2)).renewLocksOf("1");
+    }
+
+    @Test
+    @DisplayName("실행기가 갱신을 거부하면 다음 하트비트에서 바로 재시도")
+    void retriesOnNextHeartbeatWhenRejected() {
+        // given
+        ReflectionTestUtils.setField(interceptor, "renewExecutor", (Executor) task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+        interceptor.preSend(heartbeat("s-1", "1"), channel);
+        ReflectionTestUtils.setField(interceptor, "renewExecutor", (Executor) Runnable::run);
+
+        // when
+        interceptor.preSend(heartbeat("s-1", "1"), channel);
+
+        // then
+        verify(erdLockService, times(1)).renewLocksOf("1");
+    }
+
+    @Test
+    @DisplayName("기능이 꺼져 있거나 사용자 정보가 없으면 갱신하지 않음")
+    void skipsWhenDisabledOrAnonymous() {
+        // when
+        interceptor.preSend(heartbeat("s-1", null), channel);
+        ReflectionTestUtils.setField(interceptor, "enabled", false);
+        interceptor.preSend(heartbeat("s-2", "2"), channel);
+
+        // then
+        verifyNoInteractions(erdLockService);
+        assertThat(submitted).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> lastRenewedAt() {
+        return (Map<String, Long>) ReflectionTestUtils.getField(interceptor, "lastRenewedAt");
+    }
+
+    private Message<byte[]> heartbeat(String sessionId, String userName) {
+        return frame(SimpMessageType.HEARTBEAT, sessionId, userName);
+    }
+
+    private Message<byte[]> frame(SimpMessageType type, String sessionId, String userName) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        if (userName != null) {
+            Principal user = () -> userName;
+            accessor.setUser(user);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
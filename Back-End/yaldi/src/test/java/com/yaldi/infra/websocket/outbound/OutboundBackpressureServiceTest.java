@@ -0,0 +1,114 @@
+package com.yaldi.infra.websocket.outbound;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class OutboundBackpressureServiceTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String TOPIC = "/topic/project/7";
+
+    private OutboundBackpressureService service;
+    private MessageChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        service = new OutboundBackpressureService(new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "volatileLimit", 2);
+        ReflectionTestUtils.setField(service, "structuralLimit", 4);
+        service.init();
+        service.register(SESSION_ID, "1");
+        channel = mock(MessageChannel.class);
+    }
+
+    @Test
+    @DisplayName("대기열이 밀리면 휘발성 메시지는 최신 1건만 보류하고, 대기열이 빠지면 전송")
+    void holdsLatestVolatileUnderPressure() {
+        // given
+        fill(2);
+        Message<?> older = message(OutboundEventClass.VOLATILE, "tick-1");
+        Message<?> latest = message(OutboundEventClass.VOLATILE, "tick-2");
+
+        // when
+        Message<?> olderResult = service.admit(older, channel);
+        Message<?> latestResult = service.admit(latest, channel);
+        service.onDelivered(SESSION_ID);
+
+        // then
+        assertThat(olderResult).isNull();
+        assertThat(latestResult).isNull();
+        verify(channel).send(latest);
+        verify(channel, never()).send(older);
+        assertThat(service.getSnapshots(1).get(0).volatileDropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구조 이벤트는 한도 전까지 버리지 않고, 한도를 넘으면 재동기화 요청을 한 번만 전송")
+    void requestsResyncOnceWhenStructuralLimitExceeded() {
+        // given
+        fill(2);
+        Message<?> underLimit = message(OutboundEventClass.STRUCTURAL, "table-1");
+        assertThat(service.admit(underLimit, channel)).isSameAs(underLimit);
+        fill(1);
+        ArgumentCaptor<Message<?>> resync = ArgumentCaptor.forClass(Message.class);
+
+        // when
+        Message<?> first = service.admit(message(OutboundEventClass.STRUCTURAL, "table-2"), channel);
+        Message<?> second = service.admit(message(OutboundEventClass.STRUCTURAL, "table-3"), channel);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(channel, times(1)).send(resync.capture());
+        assertThat(OutboundEventClass.of(resync.getValue())).isEqualTo(OutboundEventClass.CONTROL);
+        assertThat(new String((byte[]) resync.getValue().getPayload(), StandardCharsets.UTF_8))
+                .contains("RESYNC_REQUIRED");
+        assertThat(service.getSnapshots(1).get(0).resyncPending()).isTrue();
+    }
+
+    @Test
+    @DisplayName("관리 엔드포인트용 집계는 세션 정보 없이 전체 합계만 반환")
+    void summarizesWithoutSessionIdentity() {
+        // given
+        service.register("session-2", "2");
+        fill(3);
+
+        // when
+        OutboundSummary summary = service.getSummary();
+
+        // then
+        assertThat(summary.sessions()).isEqualTo(2);
+        assertThat(summary.queuedTotal()).isEqualTo(3);
+        assertThat(summary.maxQueueDepth()).isEqualTo(3);
+        assertThat(summary.laggingSessions()).isEqualTo(1);
+    }
+
+    private void fill(int count) {
+        for (int i = 0; i < count; i++) {
+            service.admit(message(OutboundEventClass.CONTROL, "fill"), channel);
+        }
+    }
+
+    private Message<?> message(OutboundEventClass eventClass, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(TOPIC);
+        accessor.setHeader(OutboundEventClass.HEADER, eventClass);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,132 @@
+package com.yaldi.infra.websocket.presence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.erd.dto.redis.ColumnLockEntry;
+import com.yaldi.domain.erd.dto.redis.TableLockEntry;
+import com.yaldi.domain.erd.service.ErdLockService;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import com.yaldi.infra.websocket.interceptor.WebSocketConnectionInterceptor;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PresenceSnapshotSenderTest {
+
+    private static final Long PROJECT_KEY = 7L;
+
+    private LocalProjectPresenceRegistry registry;
+    private ErdLockService erdLockService;
+    private MessageChannel outboundChannel;
+    private PresenceSnapshotSender sender;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        registry = new LocalProjectPresenceRegistry();
+        outboundChannel = mock(MessageChannel.class);
+        erdLockService = mock(ErdLockService.class);
+        WebSocketConnectionInterceptor connectionInterceptor = mock(WebSocketConnectionInterceptor.class);
+        when(connectionInterceptor.getProjectKeyBySession(anyString())).thenReturn(PROJECT_KEY);
+        sender = new PresenceSnapshotSender(registry, erdLockService, connectionInterceptor, objectMapper,
+                outboundChannel);
+    }
+
+    @Test
+    @DisplayName("presence 구독 시 해당 구독에만 접속자 스냅샷 전송 (여러 탭은 한 명으로)")
+    void sendsSnapshotToSubscriberOnly() throws Exception {
+        // given
+        registry.join(PROJECT_KEY, "s-1", user(1, "alice"));
+        registry.join(PROJECT_KEY, "s-2", user(1, "alice"));
+        registry.join(PROJECT_KEY, "s-3", user(2, "bob"));
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+
+        // when
+        sender.onSubscribe(subscribe("s-3", "sub-0", "/topic/project/7/presence"));
+
+        // then
+        verify(outboundChannel, times(2)).send(sent.capture());
+        Message<?> message = sent.getAllValues().get(0);
+        assertThat(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())).isEqualTo("s-3");
+        assertThat(SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders())).isEqualTo("sub-0");
+
+        JsonNode members = objectMapper.readTree((byte[]) message.getPayload())
+                .path("result").path("event").path("members");
+        assertThat(members).extracting(member -> member.path("userName").asText())
+                .containsExactlyInAnyOrder("alice", "bob");
+    }
+
+    @Test
+    @DisplayName("presence 구독 시 접속자 스냅샷 다음에 프로젝트 테이블/컬럼 락 스냅샷도 같은 구독으로 전송")
+    void sendsLockSnapshotAfterPresence() throws Exception {
+        // given
+        when(erdLockService.getProjectLockSnapshot(PROJECT_KEY)).thenReturn(Map.of(
+                11L, new TableLockEntry("2", "bob", "#FF6B6B", 1_000L),
+                10L, new TableLockEntry("1", "alice", "#4ECDC4", 2_000L)));
+        when(erdLockService.getProjectColumnLockSnapshot(PROJECT_KEY)).thenReturn(List.of(
+                new ColumnLockEntry(12L, 31L, "3", "carol", 5_000L),
+                new ColumnLockEntry(12L, 30L, "2", "bob", 5_000L)));
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+
+        // when
+        sender.onSubscribe(subscribe("s-1", "sub-0", "/topic/project/7/presence"));
+
+        // then
+        verify(outboundChannel, times(2)).send(sent.capture());
+        Message<?> message = sent.getAllValues().get(1);
+        assertThat(SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders())).isEqualTo("sub-0");
+
+        JsonNode event = objectMapper.readTree((byte[]) message.getPayload()).path("result").path("event");
+        assertThat(event.path("type").asText()).isEqualTo("LOCK_SNAPSHOT");
+        assertThat(event.path("locks")).extracting(lock -> lock.path("tableKey").asLong())
+                .containsExactly(10L, 11L);
+        assertThat(event.path("locks").get(0).path("userName").asText()).isEqualTo("alice");
+        assertThat(event.path("columnLocks")).extracting(lock -> lock.path("columnKey").asLong())
+                .containsExactly(30L, 31L);
+        assertThat(event.path("columnLocks").get(0).path("userEmail").asText()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("presence가 아닌 하위 토픽 구독에는 스냅샷을 보내지 않음")
+    void ignoresOtherTopics() {
+        // given
+        registry.join(PROJECT_KEY, "s-1", user(1, "alice"));
+
+        // when
+        sender.onSubscribe(subscribe("s-1", "sub-0", "/topic/project/7/structure"));
+
+        // then
+        verifyNoInteractions(outboundChannel);
+    }
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(this, message);
+    }
+
+    private WebSocketSessionUser user(int userKey, String name) {
+        return WebSocketSessionUser.builder()
+                .userKey(userKey)
+                .userEmail(String.valueOf(userKey))
+                .userName(name)
+                .userColor(WebSocketSessionUser.colorOf(String.valueOf(userKey)))
+                .build();
+    }
+}
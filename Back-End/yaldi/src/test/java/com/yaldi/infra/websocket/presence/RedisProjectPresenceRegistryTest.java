@@ -0,0 +1,108 @@
+package com.yaldi.infra.websocket.presence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisProjectPresenceRegistry 테스트 (presence.store=local 프로필이므로 직접 생성)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RedisProjectPresenceRegistryTest {
+
+    private static final Long PROJECT_KEY = 7L;
+    private static final long NODE_TIMEOUT_MS = 30_000L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisProjectPresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of("erd:presence:nodes", "erd:presence:members:" + PROJECT_KEY,
+                "erd:presence:node:remote-alive", "erd:presence:node:remote-dead"));
+        registry = new RedisProjectPresenceRegistry(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(registry, "nodeTimeoutMs", NODE_TIMEOUT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("노드 하트비트는 Redis 서버 시각으로 기록")
+    void recordsHeartbeatWithRedisClock() {
+        // given
+        long before = redisNow();
+
+        // when
+        registry.join(PROJECT_KEY, "s-1", user(1, "alice"));
+
+        // then
+        Double score = redisTemplate.opsForZSet().score("erd:presence:nodes", nodeId());
+        assertThat(score).isNotNull();
+        assertThat(score.longValue()).isBetween(before, redisNow());
+    }
+
+    @Test
+    @DisplayName("생존 판단은 Redis 서버 시각 기준: 타임아웃 이내 노드 세션만 조회되고 지난 노드는 하트비트 때 정리")
+    void judgesNodeLivenessWithRedisClock() throws Exception {
+        // given
+        long now = redisNow();
+        registry.join(PROJECT_KEY, "s-1", user(1, "alice"));
+        addRemoteSession("remote-alive", "s-2", user(2, "bob"), now - NODE_TIMEOUT_MS / 2);
+        addRemoteSession("remote-dead", "s-3", user(3, "carol"), now - NODE_TIMEOUT_MS * 2);
+
+        // when
+        List<PresenceMember> members = registry.getMembers(PROJECT_KEY);
+        registry.heartbeat();
+
+        // then
+        assertThat(members).extracting(PresenceMember::sessionId).containsExactlyInAnyOrder("s-1", "s-2");
+        assertThat(redisTemplate.opsForHash().hasKey("erd:presence:members:" + PROJECT_KEY, "s-3")).isFalse();
+        assertThat(redisTemplate.opsForZSet().score("erd:presence:nodes", "remote-dead")).isNull();
+        assertThat(redisTemplate.opsForZSet().score("erd:presence:nodes", "remote-alive")).isNotNull();
+    }
+
+    private void addRemoteSession(String node, String sessionId, WebSocketSessionUser user, long heartbeatAt)
+            throws Exception {
+        redisTemplate.opsForHash().put("erd:presence:members:" + PROJECT_KEY, sessionId,
+                objectMapper.writeValueAsString(PresenceMember.of(sessionId, user, node)));
+        redisTemplate.opsForSet().add("erd:presence:node:" + node, PROJECT_KEY + ":" + sessionId);
+        redisTemplate.opsForZSet().add("erd:presence:nodes", node, heartbeatAt);
+    }
+
+    private long redisNow() {
+        Long now = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        return now != null ? now : 0L;
+    }
+
+    private String nodeId() {
+        return (String) ReflectionTestUtils.getField(registry, "nodeId");
+    }
+
+    private WebSocketSessionUser user(int userKey, String name) {
+        return WebSocketSessionUser.builder()
+                .userKey(userKey)
+                .userEmail(String.valueOf(userKey))
+                .userName(name)
+                .userColor(WebSocketSessionUser.colorOf(String.valueOf(userKey)))
+                .build();
+    }
+}
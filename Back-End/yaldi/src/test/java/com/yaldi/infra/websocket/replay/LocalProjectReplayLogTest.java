@@ -0,0 +1,87 @@
+package com.yaldi.infra.websocket.replay;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalProjectReplayLogTest {
+
+    private static final Long PROJECT_KEY = 7L;
+
+    private LocalProjectReplayLog replayLog;
+
+    @BeforeEach
+    void setUp() {
+        replayLog = new LocalProjectReplayLog();
+        ReflectionTestUtils.setField(replayLog, "capacity", 3);
+    }
+
+    @Test
+    @DisplayName("마지막 순번 이후 이벤트만 순서대로 재전송")
+    void replaysEventsAfterLastSequence() {
+        // given
+        appendEvents(3);
+        String epoch = replayLog.readSince(PROJECT_KEY, null, 0L).epoch();
+
+        // when
+        ProjectReplayLog.ReplaySlice slice = replayLog.readSince(PROJECT_KEY, epoch, 1L);
+
+        // then
+        assertThat(slice.complete()).isTrue();
+        assertThat(slice.currentSequence()).isEqualTo(3L);
+        assertThat(slice.payloads())
+                .extracting(payload -> new String(payload, StandardCharsets.UTF_8))
+                .containsExactly("event-2", "event-3");
+    }
+
+    @Test
+    @DisplayName("누락 구간이 버퍼를 넘으면 전체 재조회 필요")
+    void requiresFullReloadWhenGapExceedsCapacity() {
+        // given
+        appendEvents(5);
+        String epoch = replayLog.readSince(PROJECT_KEY, null, 0L).epoch();
+
+        // when
+        ProjectReplayLog.ReplaySlice slice = replayLog.readSince(PROJECT_KEY, epoch, 1L);
+
+        // then
+        assertThat(slice.complete()).isFalse();
+        assertThat(slice.payloads()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("epoch가 다르면 순번이 맞아도 전체 재조회 필요")
+    void requiresFullReloadOnEpochMismatch() {
+        // given
+        appendEvents(3);
+
+        // when
+        ProjectReplayLog.ReplaySlice slice = replayLog.readSince(PROJECT_KEY, "stale-epoch", 2L);
+
+        // then
+        assertThat(slice.complete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다중 노드(cluster.mode=redis)에서 노드 메모리 재전송 로그를 쓰면 기동 실패")
+    void failsFastWithRedisClusterMode() {
+        // given
+        ReflectionTestUtils.setField(replayLog, "clusterMode", "redis");
+
+        // when & then
+        assertThatThrownBy(replayLog::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("yaldi.websocket.replay.store=redis");
+    }
+
+    private void appendEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            replayLog.append(PROJECT_KEY, sequence -> ("event-" + sequence).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.yaldi.infra.websocket.replay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisProjectReplayLog 테스트 (replay.store=local 프로필이므로 직접 생성)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RedisProjectReplayLogTest {
+
+    private static final Long PROJECT_KEY = 7L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RedisProjectReplayLog replayLog;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of("erd:replay:seq:" + PROJECT_KEY, "erd:replay:log:" + PROJECT_KEY));
+        replayLog = new RedisProjectReplayLog(redisTemplate);
+        ReflectionTestUtils.setField(replayLog, "capacity", 10);
+        ReflectionTestUtils.setField(replayLog, "ttlMs", 60_000L);
+        replayLog.init();
+    }
+
+    @Test
+    @DisplayName("직렬화는 발급될 실제 순번으로 하고 로그에는 같은 바이트를 보관")
+    void serializesWithIssuedSequence() {
+        // when
+        ProjectReplayLog.Appended first = replayLog.append(PROJECT_KEY, RedisProjectReplayLogTest::event);
+        ProjectReplayLog.Appended second = replayLog.append(PROJECT_KEY, RedisProjectReplayLogTest::event);
+
+        // then
+        assertThat(first.sequence()).isEqualTo(1L);
+        assertThat(second.sequence()).isEqualTo(2L);
+        assertThat(new String(second.payload(), StandardCharsets.UTF_8)).isEqualTo("{\"sequence\":2}");
+        String epoch = replayLog.readSince(PROJECT_KEY, null, 0L).epoch();
+        assertThat(replayLog.readSince(PROJECT_KEY, epoch, 0L).payloads())
+                .extracting(payload -> new String(payload, StandardCharsets.UTF_8))
+                .containsExactly("{\"sequence\":1}", "{\"sequence\":2}");
+    }
+
+    @Test
+    @DisplayName("직렬화 사이에 다른 노드가 순번을 먼저 발급하면 다음 순번으로 다시 직렬화")
+    void reserializesWhenAnotherNodeWins() {
+        // given
+        List<Long> serializedWith = new ArrayList<>();
+
+        // when
+        ProjectReplayLog.Appended appended = replayLog.append(PROJECT_KEY, sequence -> {
+            if (serializedWith.isEmpty()) {
+                // 다른 노드가 같은 프로젝트 순번을 먼저 발급한 상황
+                redisTemplate.opsForValue().increment("erd:replay:seq:" + PROJECT_KEY);
+            }
+            serializedWith.add(sequence);
+            return event(sequence);
+        });
+
+        // then
+        assertThat(serializedWith).containsExactly(1L, 2L);
+        assertThat(appended.sequence()).isEqualTo(2L);
+        assertThat(new String(appended.payload(), StandardCharsets.UTF_8)).isEqualTo("{\"sequence\":2}");
+    }
+
+    private static byte[] event(long sequence) {
+        return ("{\"sequence\":" + sequence + "}").getBytes(StandardCharsets.UTF_8);
+    }
+}
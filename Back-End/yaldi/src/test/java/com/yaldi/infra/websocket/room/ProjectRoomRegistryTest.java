@@ -0,0 +1,130 @@
+package com.yaldi.infra.websocket.room;
+
+import com.yaldi.domain.erd.repository.ErdTablePositionBatchRepository;
+import com.yaldi.domain.erd.repository.ErdTablePositionBatchRepository.TablePosition;
+import com.yaldi.domain.erd.service.ErdRevisionService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ProjectRoomRegistryTest {
+
+    private static final long PROJECT_KEY = 7L;
+    private static final long OTHER_PROJECT_KEY = 8L;
+
+    private ErdTablePositionBatchRepository positionRepository;
+    private ErdRevisionService erdRevisionService;
+    private ProjectRoomRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        positionRepository = mock(ErdTablePositionBatchRepository.class);
+        erdRevisionService = mock(ErdRevisionService.class);
+        registry = new ProjectRoomRegistry(positionRepository, erdRevisionService);
+        ReflectionTestUtils.setField(registry, "mailboxThreads", 2);
+        ReflectionTestUtils.setField(registry, "idleTimeoutMs", 0L);
+        registry.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("주기 flush는 테이블별 최신 위치만 배치 한 번으로 저장하고 프로젝트 revision 증가")
+    @SuppressWarnings("unchecked")
+    void flushPersistsLatestPositionPerTable() throws Exception {
+        // given
+        registry.execute(PROJECT_KEY, room -> {
+            room.join("s-1");
+            room.commitPosition(10L, BigDecimal.ONE, BigDecimal.ONE);
+            room.commitPosition(10L, BigDecimal.TEN, BigDecimal.TEN);
+            room.commitPosition(11L, BigDecimal.ZERO, BigDecimal.ONE);
+        });
+        awaitMailbox(PROJECT_KEY);
+        ArgumentCaptor<List<TablePosition>> batch = ArgumentCaptor.forClass(List.class);
+
+        // when
+        registry.flushPositions();
+
+        // then
+        verify(positionRepository, timeout(5_000)).batchUpdatePositions(batch.capture());
+        assertThat(batch.getValue()).containsExactlyInAnyOrder(
+                new TablePosition(10L, BigDecimal.TEN, BigDecimal.TEN),
+                new TablePosition(11L, BigDecimal.ZERO, BigDecimal.ONE));
+        verify(erdRevisionService, timeout(5_000)).nextProjectRevisions(Set.of(PROJECT_KEY));
+        assertThat(registry.ask(PROJECT_KEY, ProjectRoom::drainDirtyPositions).get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 실패한 위치는 방에 되돌려 다음 flush에서 다시 저장")
+    void flushRequeuesOnFailure() throws Exception {
+        // given
+        doThrow(new IllegalStateException("db down")).when(positionRepository).batchUpdatePositions(anyList());
+        registry.execute(PROJECT_KEY, room -> room.commitPosition(10L, BigDecimal.ONE, BigDecimal.TEN));
+        awaitMailbox(PROJECT_KEY);
+
+        // when
+        registry.flushPositions();
+
+        // then
+        verify(positionRepository, timeout(5_000)).batchUpdatePositions(anyList());
+        verify(erdRevisionService, never()).nextProjectRevisions(anyCollection());
+        assertThat(pollDirtyPositions(PROJECT_KEY))
+                .containsExactly(new TablePosition(10L, BigDecimal.ONE, BigDecimal.TEN));
+    }
+
+    @Test
+    @DisplayName("접속자가 없는 유휴 방만 퇴출하고 퇴출 전 저장 대기 위치를 저장")
+    void evictsIdleRoomAfterFlushingPositions() throws Exception {
+        // given
+        registry.execute(PROJECT_KEY, room -> {
+            room.join("s-1");
+            room.commitPosition(10L, BigDecimal.ONE, BigDecimal.ONE);
+            room.leave("s-1");
+        });
+        registry.execute(OTHER_PROJECT_KEY, room -> room.join("s-2"));
+        awaitMailbox(PROJECT_KEY);
+        awaitMailbox(OTHER_PROJECT_KEY);
+
+        // when
+        registry.evictIdleRooms();
+
+        // then
+        verify(positionRepository, timeout(5_000))
+                .batchUpdatePositions(List.of(new TablePosition(10L, BigDecimal.ONE, BigDecimal.ONE)));
+        assertThat(registry.isActive(PROJECT_KEY)).isFalse();
+        assertThat(registry.isActive(OTHER_PROJECT_KEY)).isTrue();
+        assertThat(registry.getActiveRoomCount()).isEqualTo(1);
+    }
+
+    /** 앞서 제출한 방 작업이 모두 끝날 때까지 대기 (메일박스는 제출 순서대로 실행) */
+    private void awaitMailbox(long projectKey) throws Exception {
+        registry.ask(projectKey, room -> true).get(5, TimeUnit.SECONDS);
+    }
+
+    /** flush 실패 후 되돌림은 비동기이므로 위치가 돌아올 때까지 확인 (확인하면서 꺼낸 값은 반환) */
+    private List<TablePosition> pollDirtyPositions(long projectKey) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            List<TablePosition> positions = registry.ask(projectKey, ProjectRoom::drainDirtyPositions)
+                    .get(5, TimeUnit.SECONDS);
+            if (!positions.isEmpty()) {
+                return positions;
+            }
+            Thread.sleep(20);
+        }
+        return List.of();
+    }
+}
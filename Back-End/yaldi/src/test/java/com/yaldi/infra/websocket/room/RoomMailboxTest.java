@@ -0,0 +1,94 @@
+package com.yaldi.infra.websocket.room;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomMailboxTest {
+
+    private static final int TASKS = 2_000;
+
+    @Test
+    @DisplayName("여러 스레드의 실행기 위에서도 작업을 한 번에 하나씩 제출 순서대로 실행")
+    void runsTasksSeriallyInOrder() throws InterruptedException {
+        // given
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            RoomMailbox mailbox = new RoomMailbox(pool);
+            List<Integer> executed = new ArrayList<>();
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(TASKS);
+
+            // when
+            for (int i = 0; i < TASKS; i++) {
+                int index = i;
+                mailbox.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    executed.add(index);
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            // then
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxRunning.get()).isEqualTo(1);
+            assertThat(executed).containsExactlyElementsOf(IntStream.range(0, TASKS).boxed().toList());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 작업이 있어도 다음 작업은 계속 실행")
+    void continuesAfterFailedTask() {
+        // given
+        RoomMailbox mailbox = new RoomMailbox(Runnable::run);
+        List<String> executed = new ArrayList<>();
+
+        // when
+        mailbox.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        mailbox.submit(() -> executed.add("next"));
+
+        // then
+        assertThat(executed).containsExactly("next");
+    }
+
+    @Test
+    @DisplayName("실행기가 거부해도 메일박스가 멈추지 않고 다음 제출 때 남은 작업까지 실행")
+    void recoversFromRejectedExecution() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        Executor rejectFirst = task -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new RejectedExecutionException("shutting down");
+            }
+            task.run();
+        };
+        RoomMailbox mailbox = new RoomMailbox(rejectFirst);
+        List<String> executed = new ArrayList<>();
+
+        // when
+        assertThatThrownBy(() -> mailbox.submit(() -> executed.add("first")))
+                .isInstanceOf(RejectedExecutionException.class);
+        mailbox.submit(() -> executed.add("second"));
+
+        // then
+        assertThat(executed).containsExactly("first", "second");
+    }
+}
@@ -0,0 +1,162 @@
+package com.yaldi.infra.websocket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yaldi.domain.comment.dto.event.CommentDeletedEvent;
+import com.yaldi.domain.erd.dto.websocket.event.MemberJoinEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableMoveEvent;
+import com.yaldi.domain.viewer.sse.ViewerSseEmitterManager;
+import com.yaldi.infra.websocket.cluster.LocalClusterBroadcastRelay;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.replay.LocalProjectReplayLog;
+import com.yaldi.infra.websocket.topic.EchoSuppressionInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProjectBroadcastService 노드 간 중계 테스트
+ * 프로세스 내부 relay 하나를 공유하는 두 노드로 클러스터를 흉내낸다.
+ */
+class ProjectBroadcastServiceTest {
+
+    private SimpMessagingTemplate nodeATemplate;
+    private SimpMessagingTemplate nodeBTemplate;
+    private ViewerSseEmitterManager nodeBViewers;
+    private ProjectBroadcastService nodeA;
+
+    @BeforeEach
+    void setUp() {
+        LocalClusterBroadcastRelay relay = new LocalClusterBroadcastRelay();
+
+        nodeATemplate = mock(SimpMessagingTemplate.class);
+        nodeBTemplate = mock(SimpMessagingTemplate.class);
+        nodeBViewers = mock(ViewerSseEmitterManager.class);
+
+        LocalProjectReplayLog replayLog = new LocalProjectReplayLog();
+        ReflectionTestUtils.setField(replayLog, "capacity", 100);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        nodeA = new ProjectBroadcastService(nodeATemplate, relay, mock(ViewerSseEmitterManager.class), objectMapper,
+                replayLog);
+        ProjectBroadcastService nodeB = new ProjectBroadcastService(nodeBTemplate, relay, nodeBViewers, objectMapper,
+                replayLog);
+        // 순번 발행 작업을 호출 스레드에서 바로 실행 → 검증 시점에 발행 완료
+        ReflectionTestUtils.setField(nodeA, "sequencedDelegate", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(nodeB, "sequencedDelegate", (Executor) Runnable::run);
+        nodeA.init();
+        nodeB.init();
+    }
+
+    @Test
+    @DisplayName("한 노드의 브로드캐스트가 다른 노드 구독자에게 한 번씩 전달")
+    void relaysToOtherNodeExactlyOnce() {
+        // given
+        ErdBroadcastEvent event = moveEvent(7L);
+
+        // when
+        nodeA.broadcast(event);
+
+        // then
+        verify(nodeATemplate, times(1)).send(eq("/topic/project/7/structure"), any(Message.class));
+        verify(nodeBTemplate, times(1)).send(eq("/topic/project/7/structure"), any(Message.class));
+        verifyNoInteractions(nodeBViewers);
+    }
+
+    @Test
+    @DisplayName("뷰어 포함 브로드캐스트는 다른 노드의 SSE 뷰어에게 같은 직렬화 결과로 전달")
+    void relaysViewerFlagWithSamePayload() {
+        // given
+        ErdBroadcastEvent event = moveEvent(7L);
+        ArgumentCaptor<Message<?>> stompMessage = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<byte[]> ssePayload = ArgumentCaptor.forClass(byte[].class);
+
+        // when
+        nodeA.broadcastWithViewers(event);
+
+        // then
+        verify(nodeBTemplate).send(eq("/topic/project/7/structure"), stompMessage.capture());
+        verify(nodeBViewers).sendToViewers(eq(7L), ssePayload.capture());
+        assertThat(ssePayload.getValue()).isSameAs(stompMessage.getValue().getPayload());
+    }
+
+    @Test
+    @DisplayName("휘발성이 아닌 이벤트는 프로젝트별 순번이 1부터 차례로 찍힘")
+    void stampsProjectSequence() {
+        // given
+        ErdBroadcastEvent first = moveEvent(7L);
+        ErdBroadcastEvent second = moveEvent(7L);
+        ErdBroadcastEvent otherProject = moveEvent(8L);
+
+        // when
+        nodeA.broadcast(first);
+        nodeA.broadcast(second);
+        nodeA.broadcast(otherProject);
+
+        // then
+        assertThat(first.getSequence()).isEqualTo(1L);
+        assertThat(second.getSequence()).isEqualTo(2L);
+        assertThat(otherProject.getSequence()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이벤트 종류별 하위 토픽으로 전달하고, 호환 설정 시 기본 토픽에도 같은 프레임 전달")
+    void routesToSubTopicAndLegacyAggregate() {
+        // given
+        ReflectionTestUtils.setField(nodeA, "legacyAggregate", true);
+        ErdBroadcastEvent comment = ErdBroadcastEvent.builder()
+                .projectKey(7L)
+                .event(CommentDeletedEvent.builder().projectKey(7L).commentKey(1L).build())
+                .build();
+        ArgumentCaptor<Message<?>> subTopic = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<Message<?>> aggregate = ArgumentCaptor.forClass(Message.class);
+
+        // when
+        nodeA.broadcast(comment, "session-1");
+
+        // then
+        verify(nodeATemplate).send(eq("/topic/project/7/comments"), subTopic.capture());
+        verify(nodeATemplate).send(eq("/topic/project/7"), aggregate.capture());
+        assertThat(aggregate.getValue().getPayload()).isSameAs(subTopic.getValue().getPayload());
+        assertThat(subTopic.getValue().getHeaders().get(EchoSuppressionInterceptor.ORIGIN_SESSION_HEADER))
+                .isEqualTo("session-1");
+        // 다른 노드는 호환 설정이 꺼져 있어 하위 토픽에만 전달
+        verify(nodeBTemplate).send(eq("/topic/project/7/comments"), any(Message.class));
+        verify(nodeBTemplate, never()).send(eq("/topic/project/7"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("SSE 뷰어에게는 구조 변경 이벤트만 전달")
+    void sendsOnlyStructuralEventsToViewers() {
+        // given
+        ErdBroadcastEvent join = ErdBroadcastEvent.builder()
+                .projectKey(7L)
+                .event(MemberJoinEvent.builder().projectKey(7L).userEmail("1").build())
+                .build();
+
+        // when
+        nodeA.broadcastWithViewers(join);
+
+        // then
+        verify(nodeBTemplate).send(eq("/topic/project/7/presence"), any(Message.class));
+        verifyNoInteractions(nodeBViewers);
+    }
+
+    private ErdBroadcastEvent moveEvent(Long projectKey) {
+        return ErdBroadcastEvent.builder()
+                .projectKey(projectKey)
+                .userKey(1)
+                .event(TableMoveEvent.builder().tableKey(1L).build())
+                .build();
+    }
+}
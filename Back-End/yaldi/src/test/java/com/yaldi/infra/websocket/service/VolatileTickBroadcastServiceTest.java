@@ -0,0 +1,136 @@
+package com.yaldi.infra.websocket.service;
+
+import com.yaldi.domain.erd.dto.websocket.event.CursorPosEvent;
+import com.yaldi.domain.erd.dto.websocket.event.TableMoveEvent;
+import com.yaldi.domain.erd.dto.websocket.event.VolatileTickEvent;
+import com.yaldi.infra.websocket.dto.ErdBroadcastEvent;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import com.yaldi.infra.websocket.wire.BinaryWireFormat;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class VolatileTickBroadcastServiceTest {
+
+    private static final long PROJECT_KEY = 7L;
+
+    private ProjectBroadcastService projectBroadcastService;
+    private VolatileTickBroadcastService tickService;
+
+    @BeforeEach
+    void setUp() {
+        projectBroadcastService = mock(ProjectBroadcastService.class);
+        // 틱은 테스트에서 직접 호출 (스케줄러는 사용하지 않음)
+        tickService = new VolatileTickBroadcastService(projectBroadcastService, mock(TaskScheduler.class));
+    }
+
+    @Test
+    @DisplayName("한 틱 안의 커서는 사용자별 최신 위치만 하나의 VOLATILE_TICK으로 전송")
+    void coalescesCursorPerUser() {
+        // given
+        tickService.offerCursor(PROJECT_KEY, user(1, "alice"), 1, 1);
+        tickService.offerCursor(PROJECT_KEY, user(1, "alice"), 2, 3);
+        tickService.offerCursor(PROJECT_KEY, user(2, "bob"), 5, 5);
+
+        // when
+        tickService.tick();
+
+        // then
+        List<ErdBroadcastEvent> events = tickEvents(captureSingleBroadcast());
+        assertThat(events).extracting(ErdBroadcastEvent::getUserKey,
+                        event -> ((CursorPosEvent) event.getEvent()).getXPosition(),
+                        event -> ((CursorPosEvent) event.getEvent()).getYPosition())
+                .containsExactlyInAnyOrder(
+                        tuple(1, BigDecimal.valueOf(2.0), BigDecimal.valueOf(3.0)),
+                        tuple(2, BigDecimal.valueOf(5.0), BigDecimal.valueOf(5.0)));
+    }
+
+    @Test
+    @DisplayName("테이블 이동은 누가 옮겼든 테이블별 최신 위치만 전송")
+    void coalescesTableMovePerTable() {
+        // given
+        tickService.offerTableMove(PROJECT_KEY, user(1, "alice"), 10L, 1, 1);
+        tickService.offerTableMove(PROJECT_KEY, user(2, "bob"), 10L, 4, 4);
+        tickService.offerTableMove(PROJECT_KEY, user(1, "alice"), 11L, 7, 7);
+
+        // when
+        tickService.tick();
+
+        // then
+        List<ErdBroadcastEvent> events = tickEvents(captureSingleBroadcast());
+        assertThat(events).extracting(ErdBroadcastEvent::getUserKey,
+                        event -> ((TableMoveEvent) event.getEvent()).getTableKey(),
+                        event -> ((TableMoveEvent) event.getEvent()).getXPosition())
+                .containsExactlyInAnyOrder(
+                        tuple(2, 10L, BigDecimal.valueOf(4.0)),
+                        tuple(1, 11L, BigDecimal.valueOf(7.0)));
+    }
+
+    @Test
+    @DisplayName("새 갱신이 없는 틱은 아무것도 보내지 않고 빈 프로젝트 버퍼를 정리")
+    void skipsEmptyTicks() {
+        // given
+        tickService.tick();
+        tickService.offerCursor(PROJECT_KEY, user(1, "alice"), 1, 1);
+        tickService.tick();
+
+        // when
+        tickService.tick();
+
+        // then
+        verify(projectBroadcastService, times(1)).broadcast(any(ErdBroadcastEvent.class));
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(tickService, "pending")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("바이너리 포맷이 켜져 있으면 같은 틱을 바이너리 프레임으로도 전송")
+    void sendsBinaryTickWhenEnabled() {
+        // given
+        ReflectionTestUtils.setField(tickService, "binaryEnabled", true);
+        tickService.offerCursor(PROJECT_KEY, user(1, "alice"), 1, 1);
+        tickService.offerTableMove(PROJECT_KEY, user(1, "alice"), 10L, 2, 2);
+        ArgumentCaptor<byte[]> frame = ArgumentCaptor.forClass(byte[].class);
+
+        // when
+        tickService.tick();
+
+        // then
+        verify(projectBroadcastService).broadcastBinary(eq(PROJECT_KEY),
+                eq(VolatileTickBroadcastService.BINARY_DESTINATION_SUFFIX), frame.capture());
+        ByteBuffer buffer = ByteBuffer.wrap(frame.getValue());
+        assertThat(buffer.get()).isEqualTo(BinaryWireFormat.TICK);
+        assertThat(buffer.getShort()).isEqualTo((short) 2);
+    }
+
+    private ErdBroadcastEvent captureSingleBroadcast() {
+        ArgumentCaptor<ErdBroadcastEvent> captor = ArgumentCaptor.forClass(ErdBroadcastEvent.class);
+        verify(projectBroadcastService, times(1)).broadcast(captor.capture());
+        return captor.getValue();
+    }
+
+    private List<ErdBroadcastEvent> tickEvents(ErdBroadcastEvent tick) {
+        assertThat(tick.getProjectKey()).isEqualTo(PROJECT_KEY);
+        assertThat(tick.getEvent()).isInstanceOf(VolatileTickEvent.class);
+        return ((VolatileTickEvent) tick.getEvent()).getEvents();
+    }
+
+    private WebSocketSessionUser user(int userKey, String name) {
+        return WebSocketSessionUser.builder()
+                .userKey(userKey)
+                .userEmail(String.valueOf(userKey))
+                .userName(name)
+                .userColor(WebSocketSessionUser.colorOf(String.valueOf(userKey)))
+                .build();
+    }
+}
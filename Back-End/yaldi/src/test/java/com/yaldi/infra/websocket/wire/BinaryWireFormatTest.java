@@ -0,0 +1,129 @@
+package com.yaldi.infra.websocket.wire;
+
+import com.yaldi.infra.websocket.dto.VolatileUpdate;
+import com.yaldi.infra.websocket.dto.WebSocketSessionUser;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.web.socket.TextMessage;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BinaryWireFormat 인코딩/디코딩 테스트
+ */
+class BinaryWireFormatTest {
+
+    private final WebSocketSessionUser user = WebSocketSessionUser.builder()
+            .userKey(42)
+            .userEmail("42")
+            .userName("tester")
+            .userColor("#ff6b6b")
+            .build();
+
+    @Test
+    @DisplayName("커서 입력 프레임 디코딩")
+    void decodeCursorFrame() {
+        // given
+        byte[] frame = ByteBuffer.allocate(BinaryWireFormat.INBOUND_FRAME_SIZE)
+                .put(BinaryWireFormat.CURSOR)
+                .putLong(7L)
+                .putFloat(10.5f)
+                .putFloat(-3.25f)
+                .array();
+
+        // when
+        BinaryWireFormat.InboundFrame decoded = BinaryWireFormat.decodeInbound(frame, BinaryWireFormat.CURSOR);
+
+        // then
+        assertThat(decoded.key()).isEqualTo(7L);
+        assertThat(decoded.x()).isEqualTo(10.5f);
+        assertThat(decoded.y()).isEqualTo(-3.25f);
+    }
+
+    @Test
+    @DisplayName("타입이 다른 프레임은 거부")
+    void rejectsMismatchedType() {
+        byte[] frame = new byte[BinaryWireFormat.INBOUND_FRAME_SIZE];
+        frame[0] = BinaryWireFormat.TABLE_MOVE;
+
+        assertThatThrownBy(() -> BinaryWireFormat.decodeInbound(frame, BinaryWireFormat.CURSOR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("커서 하나짜리 틱 프레임은 32바이트 미만")
+    void cursorTickIsCompact() {
+        // when
+        byte[] frame = BinaryWireFormat.encodeTick(List.of(VolatileUpdate.cursor(7L, user, 100.0, 200.0)));
+
+        // then
+        assertThat(frame.length).isLessThan(32);
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        assertThat(buffer.get()).isEqualTo(BinaryWireFormat.TICK);
+        assertThat(buffer.getShort()).isEqualTo((short) 1);
+        assertThat(buffer.get()).isEqualTo(BinaryWireFormat.CURSOR);
+        assertThat(buffer.getInt()).isEqualTo(42);
+        assertThat(buffer.getFloat()).isEqualTo(100.0f);
+        assertThat(buffer.getFloat()).isEqualTo(200.0f);
+    }
+
+    @Test
+    @DisplayName("바이너리가 꺼져 있으면 binary 요청도 json으로 협상")
+    void negotiatesJsonWhenBinaryDisabled() {
+        // given
+        StompHeaderAccessor accessor = connectRequesting(BinaryWireFormat.NEGOTIATION_BINARY);
+
+        // when
+        String chosen = BinaryWireFormat.negotiate(accessor, false);
+
+        // then
+        assertThat(chosen).isEqualTo(BinaryWireFormat.NEGOTIATION_JSON);
+        assertThat(BinaryWireFormat.isBinarySession(accessor)).isFalse();
+    }
+
+    @Test
+    @DisplayName("바이너리가 켜져 있고 binary를 요청한 세션만 binary로 협상")
+    void negotiatesBinaryOnlyWhenEnabledAndRequested() {
+        // given
+        StompHeaderAccessor requested = connectRequesting(BinaryWireFormat.NEGOTIATION_BINARY);
+        StompHeaderAccessor notRequested = connectRequesting(null);
+
+        // when
+        String chosen = BinaryWireFormat.negotiate(requested, true);
+        String fallback = BinaryWireFormat.negotiate(notRequested, true);
+
+        // then
+        assertThat(chosen).isEqualTo(BinaryWireFormat.NEGOTIATION_BINARY);
+        assertThat(BinaryWireFormat.isBinarySession(requested)).isTrue();
+        assertThat(fallback).isEqualTo(BinaryWireFormat.NEGOTIATION_JSON);
+        assertThat(BinaryWireFormat.isBinarySession(notRequested)).isFalse();
+    }
+
+    @Test
+    @DisplayName("CONNECTED 프레임에 협상된 포맷 헤더를 추가하고 나머지 헤더는 유지")
+    void addsWireFormatHeaderToConnectedFrame() {
+        // given
+        TextMessage connected = new TextMessage("CONNECTED\nversion:1.2\nheart-beat:0,0\n\n\u0000");
+
+        // when
+        TextMessage echoed = WireFormatHandlerDecorator.withWireFormatHeader(connected, BinaryWireFormat.NEGOTIATION_JSON);
+
+        // then
+        assertThat(echoed.getPayload())
+                .isEqualTo("CONNECTED\nx-yaldi-wire:json\nversion:1.2\nheart-beat:0,0\n\n\u0000");
+    }
+
+    private StompHeaderAccessor connectRequesting(String format) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionAttributes(new HashMap<>());
+        if (format != null) {
+            accessor.setNativeHeader(BinaryWireFormat.NEGOTIATION_HEADER, format);
+        }
+        return accessor;
+    }
+}
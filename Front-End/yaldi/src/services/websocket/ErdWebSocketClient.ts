@@ -16,10 +16,24 @@ import type {
   TableLockEvent,
   TableUnlockEvent,
   CursorMoveEvent,
+  VolatileTickEvent,
+  WebSocketErrorResponse,
 } from './types';
 
 const WS_BASE_URL = import.meta.env.VITE_API_BASE_URL;
 
+/**
+ * 구독할 프로젝트 하위 토픽
+ * - echo: false면 이 세션이 보낸 이벤트는 다시 받지 않음 (이미 로컬에 반영한 변경)
+ * - presence는 자기 TABLE_LOCK/TABLE_UNLOCK으로 락 획득/해제를 확인하므로 에코를 받는다
+ * - comments는 이 클라이언트에서 처리하지 않으므로 구독하지 않음
+ */
+const PROJECT_SUB_TOPICS: { suffix: string; echo: boolean }[] = [
+  { suffix: '/presence', echo: true },
+  { suffix: '/cursor', echo: false },
+  { suffix: '/structure', echo: false },
+];
+
 export class ErdWebSocketClient {
   private stompClient: Client | null = null;
   private projectKey: number;
@@ -71,7 +85,7 @@ export class ErdWebSocketClient {
         this.reconnectAttempts = 0;
         console.log('✅ WebSocket connected to project:', this.projectKey);
 
-        // 프로젝트 토픽 구독
+        // 프로젝트 하위 토픽 구독
         this.subscribe();
       },
 
@@ -103,7 +117,7 @@ export class ErdWebSocketClient {
   }
 
   /**
-   * 프로젝트 토픽 구독
+   * 프로젝트 하위 토픽 구독
    */
   private subscribe(): void {
     if (!this.stompClient || !this.isConnected) {
@@ -111,13 +125,30 @@ export class ErdWebSocketClient {
       return;
     }
 
-    const topic = `/topic/project/${this.projectKey}`;
+    PROJECT_SUB_TOPICS.forEach(({ suffix, echo }) => {
+      const topic = `/topic/project/${this.projectKey}${suffix}`;
 
-    this.stompClient.subscribe(topic, (message: IMessage) => {
-      this.handleMessage(message);
+      this.stompClient?.subscribe(
+        topic,
+        (message: IMessage) => {
+          this.handleMessage(message);
+        },
+        echo ? {} : { echo: 'false' }
+      );
+
+      console.log('📡 Subscribed to topic:', topic);
     });
 
-    console.log('📡 Subscribed to topic:', topic);
+    // 이 세션 요청의 실패 알림 (락 획득/해제 실패 등)
+    this.stompClient.subscribe('/user/queue/errors', (message: IMessage) => {
+      try {
+        const error = JSON.parse(message.body) as WebSocketErrorResponse;
+        console.warn('⚠️ WebSocket request failed:', error.code, error.message);
+        this.eventHandlers.onError?.(error);
+      } catch (parseError) {
+        console.error('Failed to parse WebSocket error message:', parseError);
+      }
+    });
   }
 
   /**
@@ -125,15 +156,20 @@ export class ErdWebSocketClient {
    */
   private handleMessage(message: IMessage): void {
     try {
-      const response: WebSocketResponse = JSON.parse(message.body);
-
-      if (!response.isSuccess) {
-        console.error('❌ WebSocket message error:', response.message);
+      const body = JSON.parse(message.body);
+
+      // ApiResponse로 감싼 프레임과 감싸지 않은 이벤트 모두 처리
+      if ('isSuccess' in body) {
+        const response = body as WebSocketResponse;
+        if (!response.isSuccess) {
+          console.error('❌ WebSocket message error:', response.message);
+          return;
+        }
+        this.dispatchEvent(response.result);
         return;
       }
 
-      const event = response.data;
-      this.dispatchEvent(event);
+      this.dispatchEvent(body as ErdBroadcastEvent);
     } catch (error) {
       console.error('Failed to parse WebSocket message:', error);
     }
@@ -162,8 +198,15 @@ export class ErdWebSocketClient {
         this.eventHandlers.onTableUnlock?.(event);
         break;
       case 'CURSOR_MOVE':
+      case 'CURSOR_POS':
         this.eventHandlers.onCursorMove?.(event);
         break;
+      case 'VOLATILE_TICK':
+        // 틱에 묶인 개별 이벤트를 기존 핸들러로 전달
+        (event.event as VolatileTickEvent).events.forEach((tickEvent) =>
+          this.dispatchEvent(tickEvent)
+        );
+        break;
       case 'TABLE_CREATE':
         this.eventHandlers.onTableCreate?.(event);
         break;
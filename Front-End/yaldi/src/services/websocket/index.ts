@@ -23,6 +23,7 @@ export type {
   ErdEvent,
   ErdBroadcastEvent,
   WebSocketResponse,
+  WebSocketErrorResponse,
   LockInfo,
   RemoteCursor,
   WebSocketOptions,
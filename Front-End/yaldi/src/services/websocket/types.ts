@@ -10,6 +10,8 @@ export type EventType =
   | 'TABLE_LOCK'           // 테이블 편집 락
   | 'TABLE_UNLOCK'         // 테이블 편집 언락
   | 'CURSOR_MOVE'          // 커서 위치 공유
+  | 'CURSOR_POS'           // 커서 위치 공유 (서버 틱 프레임 내부)
+  | 'VOLATILE_TICK'        // 한 틱 동안의 커서/테이블 이동 묶음
   | 'TABLE_CREATE'         // 테이블 생성 (REST API 후 브로드캐스트)
   | 'TABLE_UPDATE'         // 테이블 수정 (REST API 후 브로드캐스트)
   | 'TABLE_DELETE'         // 테이블 삭제 (REST API 후 브로드캐스트)
@@ -69,6 +71,17 @@ export interface CursorMoveEvent {
   yPosition: number;
 }
 
+// 서버가 틱마다 보내는 커서 위치 (CURSOR_MOVE와 같은 필드)
+export interface CursorPosEvent extends Omit<CursorMoveEvent, 'type'> {
+  type: 'CURSOR_POS';
+}
+
+// 틱 프레임: 사용자/테이블별 최신 커서·이동 이벤트 묶음
+export interface VolatileTickEvent {
+  type: 'VOLATILE_TICK';
+  events: ErdBroadcastEvent[];
+}
+
 // REST API 브로드캐스트 이벤트 (타입만 정의, 구체적 데이터는 백엔드에서)
 export interface TableCreateEvent {
   type: 'TABLE_CREATE';
@@ -123,6 +136,8 @@ export type ErdEvent =
   | TableLockEvent
   | TableUnlockEvent
   | CursorMoveEvent
+  | CursorPosEvent
+  | VolatileTickEvent
   | TableCreateEvent
   | TableUpdateEvent
   | TableDeleteEvent
@@ -140,12 +155,20 @@ export interface ErdBroadcastEvent {
   event: ErdEvent;
 }
 
-// WebSocket 응답 형식
+// WebSocket 응답 형식 (서버 ApiResponse: 본문은 result)
 export interface WebSocketResponse {
   isSuccess: boolean;
   code: string;
   message: string;
-  data: ErdBroadcastEvent;
+  result: ErdBroadcastEvent;
+}
+
+// 요청 실패 알림 (/user/queue/errors, result는 실패한 요청 이벤트)
+export interface WebSocketErrorResponse {
+  isSuccess: false;
+  code: string;
+  message: string;
+  result: unknown;
 }
 
 // 락 정보
@@ -190,4 +213,5 @@ export interface EventHandlers {
   onRelationCreate?: (event: ErdBroadcastEvent) => void;
   onRelationUpdate?: (event: ErdBroadcastEvent) => void;
   onRelationDelete?: (event: ErdBroadcastEvent) => void;
+  onError?: (error: WebSocketErrorResponse) => void;
 }